@@ -0,0 +1,105 @@
+package bench;
+
+import compiler.CCompiler;
+import compiler.FunctionCache;
+import compiler.antlr.CLexer;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+
+////////////////////////////////////////////////////////////////////////////////////
+// Incremental recompilation benchmark
+// A large generated unit (about 20k lines, see ProgramGenerator) is compiled once into a
+// FunctionCache (memory only). Then one function in the middle is edited, a different
+// constant every run so it always misses, and the unit is compiled again through the cache.
+// Reports lex + parse and codegen separately, against codegen without the cache, and checks
+// that the incremental output is byte for byte the output of a full compile.
+//
+// usage: java bench.IncrementalBench [functions]
+
+public class IncrementalBench {
+
+  static final int WARMUP = 3;
+  static final int RUNS = 10;
+  static final long STACK = 1L << 30;
+
+  static ParseTree parse(String src){
+    return CCompiler.parse(new CommonTokenStream(new CLexer(CharStreams.fromString(src))));
+  }
+
+  static byte[] assembly(CCompiler compiler) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    compiler.write(Channels.newChannel(bytes));
+    return bytes.toByteArray();
+  }
+
+  // the program with one statement added at the top of function f
+  static String edit(String src, int f, int constant){
+    String header = "int f" + f + "(int a, int b){\n";
+    int at = src.indexOf(header) + header.length();
+    return src.substring(0, at) + "  a = a + " + constant + ";\n" + src.substring(at);
+  }
+
+  public static void main(final String[] args) throws InterruptedException {
+    Thread worker = new Thread(null, new Runnable(){
+      public void run(){
+        try{
+          measure(args);
+        }catch(IOException e){
+          throw new RuntimeException(e);
+        }
+      }
+    }, "bench", STACK);
+    worker.start();
+    worker.join();
+  }
+
+  static void measure(String[] args) throws IOException {
+    ProgramGenerator.Shape shape = new ProgramGenerator.Shape();
+    shape.functions = args.length > 0 ? Integer.parseInt(args[0]) : 600;
+    shape.globals = 100;
+    String src = ProgramGenerator.generate(shape);
+    int lines = src.split("\n").length;
+    int edited = shape.functions / 2;
+    System.out.println(shape.functions + " functions, " + lines + " lines, editing f" + edited);
+
+    FunctionCache functions = new FunctionCache(null);
+    CCompiler.generate(parse(src), false, functions);
+
+    double parse = Double.MAX_VALUE, full = Double.MAX_VALUE, incremental = Double.MAX_VALUE;
+    boolean identical = true;
+    for(int i=0; i<WARMUP + RUNS; i++){
+      String changed = edit(src, edited, 1000 + i);
+      long start = System.nanoTime();
+      ParseTree tree = parse(changed);
+      double parseMs = (System.nanoTime() - start) / 1e6;
+
+      System.gc(); // the previous full compile's garbage is not the cache's cost
+      start = System.nanoTime();
+      byte[] cached = assembly(CCompiler.generate(tree, false, functions));
+      double incrementalMs = (System.nanoTime() - start) / 1e6;
+
+      System.gc();
+      start = System.nanoTime();
+      byte[] expected = assembly(CCompiler.generate(tree, false));
+      double fullMs = (System.nanoTime() - start) / 1e6;
+
+      identical &= Arrays.equals(cached, expected);
+      if(i >= WARMUP){
+        parse = Math.min(parse, parseMs);
+        incremental = Math.min(incremental, incrementalMs);
+        full = Math.min(full, fullMs);
+      }
+    }
+    System.out.printf("lex + parse                %10.2f ms%n", parse);
+    System.out.printf("codegen + emit, full       %10.2f ms%n", full);
+    System.out.printf("codegen + emit, one edit   %10.2f ms  (%.1fx)%n", incremental, full / incremental);
+    System.out.println(functions.report());
+    System.out.println(identical ? "incremental output identical to a full compile" : "INCREMENTAL OUTPUT DIFFERS FROM A FULL COMPILE");
+  }
+}
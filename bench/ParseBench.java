@@ -0,0 +1,86 @@
+package bench;
+
+import common.TwoStageParser;
+import compiler.antlr.CLexer;
+import compiler.antlr.CParser;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.atn.PredictionMode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+////////////////////////////////////////////////////////////////////////////////////
+// Parser prediction benchmark
+// Parses every .c file under a directory (tests/compiler by default), over and over,
+// once with ANTLR's default full LL prediction and once with the two stage SLL -> LL parse
+// used by the compiler. Reports best-of-RUNS time for the whole set, and how many files needed
+// the LL fallback. Only lexing + parsing is measured, no code generation.
+//
+// usage: java bench.ParseBench [directory]
+
+public class ParseBench {
+
+  static final int WARMUP = 5;
+  static final int RUNS = 10;
+
+  static CParser parser(CharStream source){
+    return new CParser(new CommonTokenStream(new CLexer(source)));
+  }
+
+  // one pass over every file, in milliseconds
+  static double pass(List<CharStream> sources, boolean twoStage){
+    long start = System.nanoTime();
+    for(CharStream source: sources){
+      source.seek(0);
+      CParser parser = parser(source);
+      if(twoStage){
+        TwoStageParser.parse(parser, CParser::compilationUnit);
+      }else{
+        parser.removeErrorListeners();
+        parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+        parser.compilationUnit();
+      }
+    }
+    return (System.nanoTime() - start) / 1e6;
+  }
+
+  static double best(List<CharStream> sources, boolean twoStage){
+    double best = Double.MAX_VALUE;
+    for(int i=0; i<WARMUP + RUNS; i++){
+      double ms = pass(sources, twoStage);
+      if(i >= WARMUP) best = Math.min(best, ms);
+    }
+    return best;
+  }
+
+  public static void main(String[] args) throws IOException {
+    Path root = Paths.get(args.length > 0 ? args[0] : "tests/compiler");
+    List<CharStream> sources = new ArrayList<CharStream>();
+    try(Stream<Path> files = Files.walk(root)){
+      for(Path file: files.filter(p -> p.toString().endsWith(".c")).sorted().collect(Collectors.toList())){
+        sources.add(CharStreams.fromPath(file));
+      }
+    }
+    System.out.println(sources.size() + " files under " + root);
+
+    double ll = best(sources, false);
+    long parsesBefore = TwoStageParser.parses();
+    long fallbacksBefore = TwoStageParser.fallbacks();
+    double twoStage = best(sources, true);
+    long parses = TwoStageParser.parses() - parsesBefore;
+    long fallbacks = TwoStageParser.fallbacks() - fallbacksBefore;
+
+    System.out.printf("%-22s %10.2f ms%n", "LL only", ll);
+    System.out.printf("%-22s %10.2f ms%n", "SLL, LL on failure", twoStage);
+    System.out.printf("speedup %.2fx, LL fallback on %d of %d files (%.1f%%)%n",
+      ll / twoStage, fallbacks / (WARMUP + RUNS), sources.size(), 100.0 * fallbacks / parses);
+  }
+}
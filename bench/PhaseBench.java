@@ -0,0 +1,216 @@
+package bench;
+
+import compiler.CCompiler;
+import compiler.antlr.CLexer;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ListTokenSource;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+////////////////////////////////////////////////////////////////////////////////////
+// Compiler phase benchmark
+// Runs every phase of the compiler separately over a fixed corpus (the .c files under a
+// directory, tests/compiler by default, plus a few large generated programs):
+//   lex      characters to tokens (CLexer, whole token stream)
+//   parse    tokens to tree (two stage SLL / LL, see common.TwoStageParser)
+//   codegen  tree to buffered assembly (CCompiler visitor: declarations, checks and code in one walk)
+//   parallel codegen with function bodies generated on a fork join pool, one thread per core
+//   emit     buffered assembly to a channel (discarded)
+// Each phase gets its inputs from the previous one, prepared before timing. Reports the best
+// of RUNS after WARMUP passes as source lines per second, and bytes allocated per pass by the
+// benchmark thread (HotSpot's per thread allocation counter).
+// Files the compiler cannot handle are left out of the corpus and counted.
+//
+// usage: java bench.PhaseBench [directory]
+
+public class PhaseBench {
+
+  static final int WARMUP = 5;
+  static final int RUNS = 10;
+  static final long STACK = 1L << 30; // large generated units recurse deeply
+
+  // one phase over the whole corpus
+  interface Phase {
+    void run() throws Exception;
+  }
+
+  static final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+  // discards everything, like a /dev/null file
+  static final WritableByteChannel SINK = new WritableByteChannel(){
+    public int write(ByteBuffer src){
+      int n = src.remaining();
+      src.position(src.limit());
+      return n;
+    }
+    public boolean isOpen(){return true;}
+    public void close(){}
+  };
+
+  static final class Source {
+    final String name;
+    final String text;
+    final int lines;
+    List<? extends Token> tokens;
+    ParseTree tree;
+
+    Source(String name, String text){
+      this.name = name;
+      this.text = text;
+      int n = 1;
+      for(int i=0; i<text.length(); i++){
+        if(text.charAt(i) == '\n') n++;
+      }
+      this.lines = n;
+    }
+
+    CharStream chars(){
+      return CharStreams.fromString(text, name);
+    }
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // large programs next to the test files: many globals and scopes, many functions
+  static List<Source> synthetic(){
+    List<Source> sources = new ArrayList<Source>();
+    sources.add(new Source("<scopes 2000x300>", ScopeScalingBench.program(2000, 300)));
+    ProgramGenerator.Shape shape = new ProgramGenerator.Shape();
+    shape.functions = 200;
+    shape.globals = 100;
+    sources.add(new Source("<generated " + shape + ">", ProgramGenerator.generate(shape)));
+    return sources;
+  }
+
+  static List<Source> corpus(Path root) throws IOException {
+    List<Source> sources = new ArrayList<Source>();
+    try(Stream<Path> files = Files.walk(root)){
+      for(Path file: files.filter(p -> p.toString().endsWith(".c")).sorted().collect(Collectors.toList())){
+        sources.add(new Source(file.toString(), new String(Files.readAllBytes(file), "UTF-8")));
+      }
+    }
+    sources.addAll(synthetic());
+    return sources;
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // best time and allocation of a phase. setup (may be null) runs untimed before every pass
+  static void measure(String name, Phase setup, Phase phase, long lines) throws Exception {
+    double best = Double.MAX_VALUE;
+    long allocated = Long.MAX_VALUE;
+    long id = Thread.currentThread().getId();
+    for(int i=0; i<WARMUP + RUNS; i++){
+      if(setup != null) setup.run();
+      long bytes = threads.getThreadAllocatedBytes(id);
+      long start = System.nanoTime();
+      phase.run();
+      double seconds = (System.nanoTime() - start) / 1e9;
+      bytes = threads.getThreadAllocatedBytes(id) - bytes;
+      if(i >= WARMUP){
+        best = Math.min(best, seconds);
+        allocated = Math.min(allocated, bytes);
+      }
+    }
+    System.out.printf("%-8s %10.2f %14.0f %14.2f %14.1f%n", name, best * 1000, lines / best, allocated / 1e6, allocated / 1e6 / best);
+  }
+
+  public static void main(final String[] args) throws InterruptedException {
+    Thread worker = new Thread(null, new Runnable(){
+      public void run(){
+        try{
+          measure(args);
+        }catch(Exception e){
+          throw new RuntimeException(e);
+        }
+      }
+    }, "bench", STACK);
+    worker.start();
+    worker.join();
+  }
+
+  static void measure(String[] args) throws Exception {
+    Path root = Paths.get(args.length > 0 ? args[0] : "tests/compiler");
+    final List<Source> sources = new ArrayList<Source>();
+    int skipped = 0;
+    for(Source source: corpus(root)){
+      try{
+        CommonTokenStream tokens = new CommonTokenStream(new CLexer(source.chars()));
+        tokens.fill();
+        source.tokens = tokens.getTokens();
+        source.tree = CCompiler.parse(new CommonTokenStream(new ListTokenSource(source.tokens)));
+        CCompiler.generate(source.tree, false);
+        sources.add(source);
+      }catch(Exception e){
+        skipped++;
+      }
+    }
+    long lines = 0;
+    for(Source source: sources){
+      lines += source.lines;
+    }
+    System.out.println(sources.size() + " units, " + lines + " lines (" + skipped + " files the compiler rejects left out)");
+    System.out.printf("%-8s %10s %14s %14s %14s%n", "phase", "ms", "lines/s", "MB alloc", "alloc MB/s");
+
+    measure("lex", null, new Phase(){
+      public void run(){
+        for(Source source: sources){
+          new CommonTokenStream(new CLexer(source.chars())).fill();
+        }
+      }
+    }, lines);
+    measure("parse", null, new Phase(){
+      public void run(){
+        for(Source source: sources){
+          CCompiler.parse(new CommonTokenStream(new ListTokenSource(source.tokens)));
+        }
+      }
+    }, lines);
+    measure("codegen", null, new Phase(){
+      public void run(){
+        for(Source source: sources){
+          CCompiler.generate(source.tree, false);
+        }
+      }
+    }, lines);
+    final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    measure("parallel", null, new Phase(){
+      public void run(){
+        for(Source source: sources){
+          CCompiler.generate(source.tree, false, null, pool);
+        }
+      }
+    }, lines);
+    pool.shutdown();
+
+    // emit needs filled buffers, and writing empties them: generate outside the timed part
+    final List<CCompiler> compiled = new ArrayList<CCompiler>();
+    measure("emit", new Phase(){
+      public void run(){
+        compiled.clear();
+        for(Source source: sources){
+          compiled.add(CCompiler.generate(source.tree, false));
+        }
+      }
+    }, new Phase(){
+      public void run() throws IOException {
+        for(CCompiler compiler: compiled){
+          compiler.write(SINK);
+        }
+      }
+    }, lines);
+  }
+}
@@ -0,0 +1,160 @@
+package bench;
+
+import java.util.Random;
+
+////////////////////////////////////////////////////////////////////////////////////
+// Synthetic C program generator
+// Builds valid programs within what compiler/C.g4 and CCompiler support (ints, globals,
+// functions calling earlier functions, if / while / switch, arithmetic, string literals),
+// with each size dimension set independently. The same shape and seed always give the same text.
+//
+// usage: java bench.ProgramGenerator [functions globals depth cases expression string statements seed]
+//        prints the program on stdout
+
+public class ProgramGenerator {
+
+  // size of the program along every dimension the compiler might scale badly on
+  public static final class Shape {
+    public int functions = 4;    // number of function definitions
+    public int globals = 8;      // number of global int variables
+    public int depth = 2;        // nesting of if / while blocks in each function
+    public int cases = 4;        // case labels of the switch in each function (0: no switch)
+    public int expression = 4;   // operands of every arithmetic expression
+    public int string = 8;       // characters of the string literal of each function (0: no literal)
+    public int statements = 6;   // straight line statements per block
+    public long seed = 1;
+
+    public Shape copy(){
+      Shape s = new Shape();
+      s.functions = functions; s.globals = globals; s.depth = depth; s.cases = cases;
+      s.expression = expression; s.string = string; s.statements = statements; s.seed = seed;
+      return s;
+    }
+
+    @Override public String toString(){
+      return "functions=" + functions + " globals=" + globals + " depth=" + depth + " cases=" + cases
+        + " expression=" + expression + " string=" + string + " statements=" + statements + " seed=" + seed;
+    }
+  }
+
+  static final String[] OPERATORS = {"+", "-", "*", "&", "|", "^"};
+
+  private final Shape shape;
+  private final Random random;
+  private final StringBuilder src = new StringBuilder();
+
+  private ProgramGenerator(Shape shape){
+    this.shape = shape;
+    this.random = new Random(shape.seed);
+  }
+
+  public static String generate(Shape shape){
+    return new ProgramGenerator(shape).program();
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // whole translation unit
+  private String program(){
+    if(shape.string > 0) src.append("int puts(char *s);\n");
+    for(int g=0; g<shape.globals; g++){
+      src.append("int g").append(g).append(" = ").append(random.nextInt(100)).append(";\n");
+    }
+    for(int f=0; f<shape.functions; f++){
+      function(f);
+    }
+    src.append("int main(){\n  return f").append(shape.functions - 1).append("(1, 2) & 255;\n}\n");
+    return src.toString();
+  }
+
+  private void function(int f){
+    src.append("int f").append(f).append("(int a, int b){\n");
+    src.append("  int x = ").append(expression(f)).append(";\n");
+    src.append("  int y = 0;\n");
+    if(shape.string > 0){
+      src.append("  puts(\"").append(string()).append("\");\n");
+    }
+    block(f, shape.depth, "  ");
+    if(shape.cases > 0) switchStatement(f);
+    src.append("  return x + y;\n}\n");
+  }
+
+  // straight line statements, then one nested if or while going one level deeper
+  private void block(int f, int depth, String indent){
+    for(int i=0; i<shape.statements; i++){
+      src.append(indent).append(random.nextBoolean() ? "x" : "y").append(" = ").append(expression(f)).append(";\n");
+    }
+    if(depth == 0) return;
+    if(random.nextBoolean()){
+      src.append(indent).append("if(x > ").append(random.nextInt(50)).append("){\n");
+      block(f, depth - 1, indent + "  ");
+      src.append(indent).append("}else{\n");
+      src.append(indent).append("  y = y + 1;\n");
+      src.append(indent).append("}\n");
+    }else{
+      src.append(indent).append("while(y < ").append(random.nextInt(50)).append("){\n");
+      src.append(indent).append("  y = y + 1;\n");
+      block(f, depth - 1, indent + "  ");
+      src.append(indent).append("}\n");
+    }
+  }
+
+  private void switchStatement(int f){
+    src.append("  switch(x & ").append(2 * shape.cases).append("){\n");
+    for(int c=0; c<shape.cases; c++){
+      src.append("    case ").append(2 * c).append(":\n");
+      src.append("      y = ").append(expression(f)).append(";\n");
+      src.append("      break;\n");
+    }
+    src.append("    default:\n      y = 0;\n  }\n");
+  }
+
+  // `expression` operands: parameters, globals, constants, calls to earlier functions
+  private String expression(int f){
+    StringBuilder expr = new StringBuilder();
+    for(int i=0; i<shape.expression; i++){
+      if(i > 0) expr.append(' ').append(OPERATORS[random.nextInt(OPERATORS.length)]).append(' ');
+      int kind = random.nextInt(f > 0 && i == 0 ? 5 : 4);
+      switch(kind){
+        case 0:
+          expr.append(random.nextBoolean() ? "a" : "b");
+          break;
+        case 1:
+          if(shape.globals > 0) expr.append('g').append(random.nextInt(shape.globals));
+          else expr.append(random.nextInt(1000)); // no globals, use a constant
+          break;
+        case 2:
+          expr.append(random.nextInt(1000));
+          break;
+        case 3:
+          expr.append('(').append(random.nextBoolean() ? "a" : "b").append(" + ").append(random.nextInt(10)).append(')');
+          break;
+        default:
+          expr.append('f').append(random.nextInt(f)).append("(a, b)");
+      }
+    }
+    return expr.toString();
+  }
+
+  private String string(){
+    StringBuilder str = new StringBuilder();
+    for(int i=0; i<shape.string; i++){
+      str.append((char)('a' + random.nextInt(26)));
+    }
+    return str.toString();
+  }
+
+  public static void main(String[] args){
+    Shape shape = new Shape();
+    if(args.length >= 8){
+      shape.functions = Integer.parseInt(args[0]);
+      shape.globals = Integer.parseInt(args[1]);
+      shape.depth = Integer.parseInt(args[2]);
+      shape.cases = Integer.parseInt(args[3]);
+      shape.expression = Integer.parseInt(args[4]);
+      shape.string = Integer.parseInt(args[5]);
+      shape.statements = Integer.parseInt(args[6]);
+      shape.seed = Long.parseLong(args[7]);
+    }
+    System.out.print(generate(shape));
+  }
+}
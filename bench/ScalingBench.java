@@ -0,0 +1,137 @@
+package bench;
+
+import compiler.CCompiler;
+import org.antlr.v4.runtime.CharStreams;
+
+import java.lang.management.ManagementFactory;
+
+////////////////////////////////////////////////////////////////////////////////////
+// Compile time scaling benchmark
+// Grows one dimension of a generated program at a time (see ProgramGenerator), doubling it
+// POINTS times from a small base shape, and compiles each program in memory (no file output).
+// For every size: best of RUNS compile time, and bytes allocated by that compile.
+// The growth exponent k (time ~ size^k) is fitted on a log-log scale, over all points and
+// over the larger half only (where fixed costs no longer hide the trend). A dimension whose
+// time or allocation exponent on the larger half is above LIMIT is flagged as worse than linear.
+// Each row has a small bar chart of time.
+//
+// usage: java bench.ScalingBench [dimension...]   (default: every dimension)
+
+public class ScalingBench {
+
+  static final int WARMUP = 3;
+  static final int RUNS = 5;
+  static final int POINTS = 6;
+  static final double LIMIT = 1.25; // some noise and fixed costs are fine, quadratic is not
+  static final long STACK = 1L << 30;
+
+  static final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+  // one dimension: how to set it, and where it starts
+  static abstract class Dimension {
+    final String name;
+    final int start;
+
+    Dimension(String name, int start){
+      this.name = name;
+      this.start = start;
+    }
+
+    abstract void set(ProgramGenerator.Shape shape, int size);
+  }
+
+  static final Dimension[] DIMENSIONS = {
+    new Dimension("functions", 16){ void set(ProgramGenerator.Shape s, int n){s.functions = n;} },
+    new Dimension("globals", 250){ void set(ProgramGenerator.Shape s, int n){s.globals = n;} },
+    new Dimension("depth", 8){ void set(ProgramGenerator.Shape s, int n){s.depth = n;} },
+    new Dimension("cases", 32){ void set(ProgramGenerator.Shape s, int n){s.cases = n;} },
+    new Dimension("expression", 32){ void set(ProgramGenerator.Shape s, int n){s.expression = n;} },
+    new Dimension("string", 2000){ void set(ProgramGenerator.Shape s, int n){s.string = n;} },
+    new Dimension("statements", 16){ void set(ProgramGenerator.Shape s, int n){s.statements = n;} },
+  };
+
+  // compile time in ms (best of RUNS) and allocated bytes of one compile
+  static double[] compile(String src){
+    double best = Double.MAX_VALUE;
+    long allocated = 0;
+    long id = Thread.currentThread().getId();
+    for(int i=0; i<WARMUP + RUNS; i++){
+      long bytes = threads.getThreadAllocatedBytes(id);
+      long start = System.nanoTime();
+      CCompiler.compile(CharStreams.fromString(src), false);
+      double ms = (System.nanoTime() - start) / 1e6;
+      allocated = threads.getThreadAllocatedBytes(id) - bytes;
+      if(i >= WARMUP) best = Math.min(best, ms);
+    }
+    return new double[]{best, allocated};
+  }
+
+  // least squares slope of log(y) against log(x), points from..x.length-1
+  static double exponent(double[] x, double[] y, int from){
+    int n = x.length - from;
+    double sx = 0, sy = 0, sxx = 0, sxy = 0;
+    for(int i=from; i<x.length; i++){
+      double lx = Math.log(x[i]), ly = Math.log(y[i]);
+      sx += lx; sy += ly; sxx += lx * lx; sxy += lx * ly;
+    }
+    return (n * sxy - sx * sy) / (n * sxx - sx * sx);
+  }
+
+  static String bar(double value, double max){
+    StringBuilder bar = new StringBuilder();
+    for(int i=0; i<(int)Math.round(40 * value / max); i++){
+      bar.append('#');
+    }
+    return bar.toString();
+  }
+
+  // returns true when the dimension scales worse than linear
+  static boolean run(Dimension dimension){
+    ProgramGenerator.Shape base = new ProgramGenerator.Shape();
+    double[] sizes = new double[POINTS];
+    double[] times = new double[POINTS];
+    double[] bytes = new double[POINTS];
+    for(int i=0; i<POINTS; i++){
+      int size = dimension.start << i;
+      ProgramGenerator.Shape shape = base.copy();
+      dimension.set(shape, size);
+      double[] result = compile(ProgramGenerator.generate(shape));
+      sizes[i] = size;
+      times[i] = result[0];
+      bytes[i] = result[1];
+    }
+    double k = exponent(sizes, times, 0);
+    double kTail = exponent(sizes, times, POINTS / 2);
+    double kAlloc = exponent(sizes, bytes, 0);
+    double kAllocTail = exponent(sizes, bytes, POINTS / 2);
+    boolean flagged = kTail > LIMIT || kAllocTail > LIMIT;
+    System.out.printf("%n%s: time ~ n^%.2f (larger half n^%.2f), allocation ~ n^%.2f (larger half n^%.2f)%s%n",
+      dimension.name, k, kTail, kAlloc, kAllocTail, flagged ? "   <-- WORSE THAN LINEAR" : "");
+    for(int i=0; i<POINTS; i++){
+      System.out.printf("  %8d %10.2f ms %10.2f MB  %s%n", (int)sizes[i], times[i], bytes[i] / 1e6, bar(times[i], times[POINTS - 1]));
+    }
+    return flagged;
+  }
+
+  public static void main(final String[] args) throws InterruptedException {
+    Thread worker = new Thread(null, new Runnable(){
+      public void run(){measure(args);}
+    }, "bench", STACK);
+    worker.start();
+    worker.join();
+  }
+
+  static void measure(String[] args){
+    System.out.println("base shape: " + new ProgramGenerator.Shape());
+    StringBuilder flagged = new StringBuilder();
+    for(Dimension dimension: DIMENSIONS){
+      boolean selected = args.length == 0;
+      for(String arg: args){
+        selected |= arg.equals(dimension.name);
+      }
+      if(selected && run(dimension)) flagged.append(' ').append(dimension.name);
+    }
+    System.out.println();
+    System.out.println(flagged.length() == 0 ? "every dimension scales linearly" : "worse than linear:" + flagged);
+  }
+}
@@ -0,0 +1,74 @@
+package bench;
+
+import compiler.CCompiler;
+import org.antlr.v4.runtime.CharStreams;
+
+////////////////////////////////////////////////////////////////////////////////////
+// Symbol table scaling benchmark
+// Compiles a function with a fixed number of nested / sequential scopes while the number
+// of globals grows. The cost per scope is (t(globals, scopes) - t(globals, 0)) / scopes,
+// which should stay flat: entering a block no longer copies every visible symbol.
+//
+// usage: java bench.ScopeScalingBench [scopes] [max globals]
+
+public class ScopeScalingBench {
+
+  static final int WARMUP = 5;
+  static final int RUNS = 10;
+  static final long STACK = 1L << 30; // translation units with thousands of declarations recurse deeply
+
+  // N globals, then one function with `scopes` if / while / compound blocks reading them
+  static String program(int globals, int scopes){
+    StringBuilder src = new StringBuilder();
+    for(int i=0; i<globals; i++){
+      src.append("int g").append(i).append(" = ").append(i).append(";\n");
+    }
+    src.append("int f(int x){\n  int acc = 0;\n");
+    for(int i=0; i<scopes; i++){
+      switch(i % 3){
+        case 0:
+          src.append("  if(x > ").append(i).append("){ acc = acc + g").append(i % Math.max(globals, 1)).append("; }\n");
+          break;
+        case 1:
+          src.append("  while(x < ").append(i).append("){ x = x + 1; }\n");
+          break;
+        default:
+          src.append("  { int t = acc; acc = t + x; }\n");
+      }
+    }
+    src.append("  return acc;\n}\n");
+    return src.toString();
+  }
+
+  // best of RUNS, in milliseconds
+  static double time(String src){
+    double best = Double.MAX_VALUE;
+    for(int i=0; i<WARMUP + RUNS; i++){
+      long start = System.nanoTime();
+      CCompiler.compile(CharStreams.fromString(src), false);
+      double ms = (System.nanoTime() - start) / 1e6;
+      if(i >= WARMUP) best = Math.min(best, ms);
+    }
+    return best;
+  }
+
+  public static void main(final String[] args) throws InterruptedException {
+    Thread worker = new Thread(null, new Runnable(){
+      public void run(){measure(args);}
+    }, "bench", STACK);
+    worker.start();
+    worker.join();
+  }
+
+  static void measure(String[] args){
+    int scopes = args.length > 0 ? Integer.parseInt(args[0]) : 600;
+    int maxGlobals = args.length > 1 ? Integer.parseInt(args[1]) : 16000;
+    System.out.println("scopes per function: " + scopes);
+    System.out.printf("%10s %14s %14s %16s%n", "globals", "no scopes ms", "scopes ms", "us per scope");
+    for(int globals = 500; globals <= maxGlobals; globals *= 2){
+      double base = time(program(globals, 0));
+      double full = time(program(globals, scopes));
+      System.out.printf("%10d %14.2f %14.2f %16.2f%n", globals, base, full, 1000 * (full - base) / scopes);
+    }
+  }
+}
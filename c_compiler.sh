@@ -11,9 +11,37 @@ export CLASSPATH=".:/usr/local/lib/antlr-4.8-complete.jar:$CLASSPATH"
 alias antlr4='java -jar /usr/local/lib/antlr-4.8-complete.jar'
 alias grun='java org.antlr.v4.gui.TestRig'
 
+#WARM SERVER CLIENT
+#start once with: java compiler.CCompiler -server PORT (and/or java translator.CTranslator -server PORT)
+#then export C_COMPILER_PORT=PORT (C_TRANSLATOR_PORT=PORT) so every call skips the JVM startup
+#usage: server_compile PORT source dest... ; fails (so we fall back to a new JVM) if no server answers
+#the server's token is read from its file in the runtime dir; dests outside the server's own working dir are refused
+
+#COMPILE CACHE
+#export C_COMPILER_CACHE=DIR to reuse the assembly of unchanged sources (keyed on source, flags and compiler build)
+CACHE_FLAGS=()
+[ -n "$C_COMPILER_CACHE" ] && CACHE_FLAGS=(-cache "$C_COMPILER_CACHE")
+
+server_compile(){
+  local port=$1
+  shift
+  [ -n "$port" ] || return 1
+  local token
+  read -r token < "${XDG_RUNTIME_DIR:-$HOME/.cache/c_compiler}/c_compiler-$port.token" || return 1
+  exec 3<>"/dev/tcp/127.0.0.1/$port" || return 1
+  local IFS=$'\t'
+  echo "$token" >&3
+  echo "compile	$PWD	$*" >&3
+  local reply
+  read -r reply <&3
+  exec 3<&-
+  [ "$reply" == "ok" ] || { echo "compile server: $reply" >&2; return 1; }
+}
+
 if [ $1 == "--translate" ]
 then
-  # running C program into our Java C translator
+  # running C program into our Java C translator (warm server when there is one)
+  if server_compile "$C_TRANSLATOR_PORT" "$2" "$4" 2>/dev/null; then exit 0; fi
   C_CODE=$( cat $2 )
   output=$(printf "$C_CODE" | java translator.CTranslator)
   #----- reading line by line, including indentation -----
@@ -29,25 +57,16 @@ fi
 if [ $1 == "-S" ]
 then
   #File path declarations
-  C_SOURCEFILE=$( cat $2 )
   S_DESTFILE=$4
-  SIMULATOR_PATH="./bin/mips_simulator"
   base_path=${S_DESTFILE%.*}
   base=${S_DESTFILE##*/}	#no preceding path
   base_name=${base%.*}
   echo "${base_name}"
   TXT_FILE="${base_path}.txt"
-  BINARY_PATH="${base_path%.*}.bin"
 
-  # Running C program into our Java C compiler
-  output=$(printf '%s\n' "$C_SOURCEFILE" | java compiler.CCompiler)
-
-  # Reading output from Compiler ompiler line by line, including indentation 
-  IFS=''
-  while read data; do
-      echo "$data" >> "$S_DESTFILE" #inputting code into MIPS assembly file
-      echo "$data" >> "$TXT_FILE" #inputting code into txt file, line by line
-  done <<< $output
+  # Running C program into our Java C compiler, which writes the MIPS assembly and its txt copy itself
+  if server_compile "$C_COMPILER_PORT" "$2" "$S_DESTFILE" "$TXT_FILE" 2>/dev/null; then exit 0; fi
+  exec java compiler.CCompiler "${CACHE_FLAGS[@]}" -S "$2" -o "$S_DESTFILE" -o "$TXT_FILE"
 fi
 
 #TESTING MODE
@@ -57,7 +76,6 @@ if [ $1 == "-TEST" ]
 then
 
   #File path declarations
-  C_SOURCEFILE=$( cat $2 )
   S_DESTFILE=$4
   SIMULATOR_PATH="./bin/mips_simulator"
   base_path=${S_DESTFILE%.*}
@@ -67,15 +85,8 @@ then
   TXT_FILE="${base_path}.txt"
   BINARY_PATH="${base_path%.*}.bin"
 
-  # Running C program into our Java C compiler
-  output=$(printf "$C_SOURCEFILE" | java compiler.CCompiler)
-
-  # Reading output from Compiler ompiler line by line, including indentation 
-  IFS=''
-  while read data; do
-      echo "$data" >> "$S_DESTFILE" #inputting code into MIPS assembly file
-      echo "$data" >> "$TXT_FILE" #inputting code into txt file, line by line
-  done <<< $output
+  # Running C program into our Java C compiler, writing the MIPS assembly and txt file directly
+  server_compile "$C_COMPILER_PORT" "$2" "$S_DESTFILE" "$TXT_FILE" 2>/dev/null || java compiler.CCompiler "${CACHE_FLAGS[@]}" -S "$2" -o "$S_DESTFILE" -o "$TXT_FILE"
 
   # Turning MIPS Assembly code (saved in a text file) into binary
   ./bin/parser "${TXT_FILE}"
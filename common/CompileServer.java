@@ -0,0 +1,198 @@
+package common;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+////////////////////////////////////////////////////////////////////////////////////
+// Warm compile server
+// One long lived JVM serving compile requests, so each file does not pay JVM startup,
+// class loading of the parser and a cold ANTLR ATN / DFA cache (the DFA cache is static
+// in the generated parser and shared by every compilation). Every job gets a brand new
+// compiler / translator object. Shared by both (compiler and translator packages), the
+// job and the threads running connections come from them.
+//
+// Requests come from stdin (answers on stdout, nothing else can send them) or from
+// 127.0.0.1:port. Any local user can connect to a port, so there a connection first sends
+// the token the server wrote to tokenFile(port), a file only its owner can read. Whatever
+// the client, destinations must really be inside the server's own working dir (not through
+// .. or a symbolic link): no overwriting files elsewhere with the server's permissions.
+// One request per line, fields separated by tabs:
+//   compile <working dir> <source> <dest> [<dest>...]   answers "ok" or "error <message>"
+//   ping                                                answers "ok"
+//   stop                                                answers "ok" and shuts the server down
+// Relative paths are resolved against the working dir sent by the client (see c_compiler.sh)
+
+public class CompileServer {
+
+  // what the server does with a source file (compile to MIPS, translate to python...)
+  public interface Job {
+    void run(String source, List<String> destinations) throws Exception;
+  }
+
+  private final Job job;
+  private final ThreadFactory threads; // connections run on these (the compile stack...)
+  private final Path root = Paths.get("").toAbsolutePath().normalize(); // the only place requests write to
+  private volatile boolean running = true;
+  private ServerSocket server;
+  private String token;
+
+  public CompileServer(Job job, ThreadFactory threads){
+    this.job = job;
+    this.threads = threads;
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // requests from stdin, one after the other, until a stop request or the end of input
+  public void serveStdin() throws IOException {
+    PrintStream replies = System.out;
+    System.setOut(System.err); // stdout only carries answers
+    serve(System.in, replies);
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // accept connections until a stop request. Connections are served concurrently
+  public void serve(int port) throws IOException {
+    server = new ServerSocket(port, 64, InetAddress.getLoopbackAddress());
+    Path tokenFile = writeToken(server.getLocalPort());
+    ExecutorService workers = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), threads);
+    System.err.println("compile server listening on 127.0.0.1:" + server.getLocalPort() + ", token in " + tokenFile);
+    try{
+      while(running){
+        final Socket client;
+        try{
+          client = server.accept();
+        }catch(IOException e){
+          if(running) throw e;
+          break; // closed by a stop request
+        }
+        workers.execute(new Runnable(){
+          public void run(){handle(client);}
+        });
+      }
+    }finally{
+      workers.shutdown();
+      server.close();
+      Files.deleteIfExists(tokenFile);
+    }
+  }
+
+  // where the server on port keeps its token: the user's runtime directory
+  public static Path tokenFile(int port){
+    String runtime = System.getenv("XDG_RUNTIME_DIR");
+    Path dir = runtime != null && !runtime.isEmpty() ? Paths.get(runtime) : Paths.get(System.getProperty("user.home"), ".cache", "c_compiler");
+    return dir.resolve("c_compiler-" + port + ".token");
+  }
+
+  // a fresh random token, in a new file readable by this user only
+  private Path writeToken(int port) throws IOException {
+    byte[] bytes = new byte[16];
+    new SecureRandom().nextBytes(bytes);
+    StringBuilder sb = new StringBuilder();
+    for(byte b: bytes){
+      sb.append(String.format("%02x", b));
+    }
+    token = sb.toString();
+    Path file = tokenFile(port);
+    Files.createDirectories(file.getParent(), PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+    Files.deleteIfExists(file);
+    Files.createFile(file, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+    Files.write(file, (token + "\n").getBytes(StandardCharsets.UTF_8));
+    return file;
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // one connection: the token, then any number of request lines
+  void handle(Socket client){
+    try(Socket socket = client){
+      BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+      PrintWriter reply = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8), true);
+      String line = in.readLine();
+      if(line == null || !MessageDigest.isEqual(line.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8))){
+        reply.println("error not authorized");
+        return;
+      }
+      serve(in, reply);
+    }catch(IOException e){
+      System.err.println("compile server: " + e);
+    }
+  }
+
+  private void serve(InputStream input, OutputStream output) throws IOException {
+    serve(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)), new PrintWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), true));
+  }
+
+  private void serve(BufferedReader in, PrintWriter reply) throws IOException {
+    String line;
+    while((line = in.readLine()) != null){
+      reply.println(request(line));
+      if(!running) break;
+    }
+  }
+
+  String request(String line){
+    String[] fields = line.split("\t");
+    switch(fields[0]){
+      case "ping":
+        return "ok";
+      case "stop":
+        running = false;
+        try{
+          if(server != null) server.close();
+        }catch(IOException e){
+          // already closed
+        }
+        return "ok";
+      case "compile":{
+        if(fields.length < 4) return "error usage: compile <working dir> <source> <dest> [<dest>...]";
+        Path cwd = Paths.get(fields[1]);
+        if(!cwd.isAbsolute()) return "error working dir is not absolute: " + fields[1];
+        cwd = cwd.normalize();
+        List<String> destinations = new ArrayList<String>();
+        for(int i=3; i<fields.length; i++){
+          Path destination = cwd.resolve(fields[i]).normalize();
+          if(!inside(destination)) return "error destination outside the server's working dir: " + fields[i];
+          destinations.add(destination.toString());
+        }
+        try{
+          job.run(cwd.resolve(fields[2]).toString(), destinations);
+          return "ok";
+        }catch(Throwable e){ // a broken input must not take the server down (NPE, stack overflow...)
+          return "error " + e;
+        }
+      }
+      default:
+        return "error unknown request " + fields[0];
+    }
+  }
+
+  // path is under root once links are followed (the file itself when it exists, its dir otherwise)
+  private boolean inside(Path path){
+    try{
+      Path real = (Files.exists(path) ? path : path.getParent()).toRealPath();
+      return real.startsWith(root.toRealPath());
+    }catch(IOException e){
+      return false; // no such dir
+    }
+  }
+}
@@ -0,0 +1,54 @@
+package common;
+
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.ConsoleErrorListener;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+////////////////////////////////////////////////////////////////////////////////////
+// Two stage parsing
+// First try the cheap SLL prediction with a bail out error strategy. SLL gives the same tree
+// as full LL for almost every input, and when it cannot it throws instead of guessing. Only then
+// rewind the tokens and parse again with full LL and the normal error reporting.
+// Works for any generated parser (compiler and translator grammars): pass the start rule.
+// The counters are shared by all parses of the JVM (batch / server modes) and thread safe.
+
+public class TwoStageParser {
+
+  // start rule of the grammar, e.g. CParser::compilationUnit
+  public interface StartRule<P extends Parser, T extends ParserRuleContext> {
+    T parse(P parser);
+  }
+
+  static final AtomicLong parses = new AtomicLong();
+  static final AtomicLong fallbacks = new AtomicLong();
+
+  public static <P extends Parser, T extends ParserRuleContext> T parse(P parser, StartRule<P, T> rule){
+    parses.incrementAndGet();
+    parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+    parser.removeErrorListeners(); // errors of the first stage are not real errors
+    parser.setErrorHandler(new BailErrorStrategy());
+    try{
+      return rule.parse(parser);
+    }catch(ParseCancellationException e){
+      fallbacks.incrementAndGet();
+      parser.reset(); // rewinds the token stream too
+      parser.addErrorListener(ConsoleErrorListener.INSTANCE);
+      parser.setErrorHandler(new DefaultErrorStrategy());
+      parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+      return rule.parse(parser);
+    }
+  }
+
+  public static long parses(){return parses.get();}
+  public static long fallbacks(){return fallbacks.get();}
+
+  public static String report(){
+    return "parses: " + parses() + ", SLL -> LL fallbacks: " + fallbacks();
+  }
+}
@@ -0,0 +1,111 @@
+package compiler;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+////////////////////////////////////////////////////////////////////////////////////
+// Assembly output buffer
+// Every line of generated MIPS goes through here instead of System.out. Output is kept
+// in memory as:
+//  - one data section (globals, string literals)
+//  - one text buffer per function, in source order
+// Nothing reaches the file descriptor until flush(), which writes the whole unit
+// through a single NIO buffer. Later passes can read or rewrite the sections before that.
+
+public class AsmEmitter {
+
+  static final int FLUSH_BUFFER_SIZE = 1 << 16;
+
+  private final StringBuilder data = new StringBuilder();
+  private final Map<String, StringBuilder> functions = new LinkedHashMap<String, StringBuilder>();
+  private StringBuilder current = data; // data section unless we are inside a function
+  private String currentFunction = null;
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // write a line into the current section (function text or data)
+  public void println(String line){
+    current.append(line).append('\n');
+  }
+
+  // already terminated lines (a cached function) into the current section
+  public void print(String lines){
+    current.append(lines);
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // write a line into the data section, wherever we currently are
+  public void data(String line){
+    data.append(line).append('\n');
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // function sections. Everything printed in between goes to the function buffer
+  public void beginFunction(String name){
+    currentFunction = name;
+    current = functions.get(name);
+    if(current == null){
+      current = new StringBuilder();
+      functions.put(name, current);
+    }
+  }
+
+  public void endFunction(){
+    currentFunction = null;
+    current = data;
+  }
+
+  public boolean inFunction(){
+    return currentFunction != null;
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // section access for later passes
+  public StringBuilder getData(){return data;}
+  public Map<String, StringBuilder> getFunctions(){return functions;}
+  public StringBuilder getFunction(String name){return functions.get(name);}
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // write data section then every function through the channel, 64KB at a time
+  public void flush(WritableByteChannel channel) throws IOException {
+    CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    ByteBuffer buffer = ByteBuffer.allocateDirect(FLUSH_BUFFER_SIZE);
+    encode(channel, encoder, buffer, CharBuffer.wrap(data));
+    for(StringBuilder text: functions.values()){
+      encode(channel, encoder, buffer, CharBuffer.wrap(text));
+    }
+    encoder.encode(CharBuffer.allocate(0), buffer, true);
+    encoder.flush(buffer);
+    drain(channel, buffer);
+    data.setLength(0);
+    functions.clear();
+    endFunction();
+  }
+
+  private static void encode(WritableByteChannel channel, CharsetEncoder encoder, ByteBuffer buffer, CharBuffer in) throws IOException {
+    while(encoder.encode(in, buffer, false).isOverflow()){
+      drain(channel, buffer);
+    }
+  }
+
+  private static void drain(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+    buffer.flip();
+    while(buffer.hasRemaining()){
+      channel.write(buffer);
+    }
+    buffer.clear();
+  }
+
+  @Override public String toString(){
+    StringBuilder all = new StringBuilder(data);
+    for(StringBuilder text: functions.values()){
+      all.append(text);
+    }
+    return all.toString();
+  }
+}
@@ -0,0 +1,132 @@
+package compiler;
+
+import common.TwoStageParser;
+import org.antlr.v4.runtime.CharStreams;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+////////////////////////////////////////////////////////////////////////////////////
+// Batch compilation
+// Compiles many translation units in one JVM, spread over a pool of worker threads (with
+// the compiler's large stack, see CCompiler.STACK).
+// Every file gets its own CCompiler (symbol table, label counters, output buffer...),
+// the only thing shared between threads is ANTLR's thread safe ATN / DFA cache.
+// Each source is written to its own .s file so the output does not depend on scheduling,
+// and the report is printed in the order the sources were given.
+//
+// usage: java compiler.BatchCompiler [-j threads] [-d outdir] source.c...
+//   without -d, dir/file.c is compiled to dir/file.s
+//   with -d, to outdir/dir/file.s (the source path is kept so equal names do not clash)
+
+public class BatchCompiler {
+
+  // what happened to one source file
+  static final class Result {
+    final String source;
+    final String destination;
+    Throwable error = null;
+    long nanos;
+
+    Result(String source, String destination){
+      this.source = source;
+      this.destination = destination;
+    }
+  }
+
+  static String destination(String source, String outdir){
+    String base = source.endsWith(".c") ? source.substring(0, source.length() - 2) : source;
+    if(outdir == null) return base + ".s";
+    Path path = Paths.get(base + ".s").normalize();
+    if(path.getRoot() != null) path = path.getRoot().relativize(path);
+    return Paths.get(outdir).resolve(path).toString();
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // one file, never throws: failures are kept in the result
+  static Result compileOne(Result result){
+    long start = System.nanoTime();
+    try{
+      Path parent = Paths.get(result.destination).toAbsolutePath().getParent();
+      if(parent != null) Files.createDirectories(parent);
+      CCompiler.compile(CharStreams.fromFileName(result.source), false)
+        .write(Collections.singletonList(result.destination));
+    }catch(Throwable e){ // one broken file must not stop the batch (NPE, stack overflow...)
+      result.error = e;
+    }
+    result.nanos = System.nanoTime() - start;
+    return result;
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // compile all sources on `threads` workers, results in source order
+  public static List<Result> compileAll(List<String> sources, String outdir, int threads){
+    ExecutorService pool = Executors.newFixedThreadPool(threads, CCompiler.threads("batch-worker"));
+    try{
+      List<Future<Result>> tasks = new ArrayList<Future<Result>>();
+      for(String source: sources){
+        final Result result = new Result(source, destination(source, outdir));
+        tasks.add(pool.submit(new Callable<Result>(){
+          public Result call(){return compileOne(result);}
+        }));
+      }
+      List<Result> results = new ArrayList<Result>();
+      for(Future<Result> task: tasks){
+        results.add(task.get());
+      }
+      return results;
+    }catch(InterruptedException | ExecutionException e){
+      throw new IllegalStateException(e); // compileOne() keeps its failures in the result
+    }finally{
+      pool.shutdown();
+    }
+  }
+
+  public static void main(String[] args){
+    int threads = Runtime.getRuntime().availableProcessors();
+    String outdir = null;
+    List<String> sources = new ArrayList<String>();
+    for(int i=0; i<args.length; i++){
+      switch(args[i]){
+        case "-j":
+          if(++i < args.length) threads = Integer.parseInt(args[i]);
+          break;
+        case "-d":
+          if(++i < args.length) outdir = args[i];
+          break;
+        default:
+          sources.add(args[i]);
+      }
+    }
+    if(sources.isEmpty() || threads < 1){
+      System.err.println("usage: BatchCompiler [-j threads] [-d outdir] source.c...");
+      System.exit(1);
+    }
+
+    long start = System.nanoTime();
+    List<Result> results = compileAll(sources, outdir, threads);
+    double seconds = (System.nanoTime() - start) / 1e9;
+
+    int failed = 0;
+    for(Result result: results){
+      if(result.error == null){
+        System.out.printf("OK     %s -> %s (%.1f ms)%n", result.source, result.destination, result.nanos / 1e6);
+      }else{
+        failed++;
+        System.out.printf("FAILED %s: %s%n", result.source, result.error);
+      }
+    }
+    System.out.printf("%d files, %d failed, %d threads, %.2f s%n", results.size(), failed, threads, seconds);
+    System.out.println(TwoStageParser.report());
+    if(failed > 0) System.exit(1);
+  }
+}
@@ -1,6 +1,8 @@
 package compiler;
 
 import compiler.antlr.*;
+import common.CompileServer;
+import common.TwoStageParser;
 import org.antlr.v4.runtime.*;
 import org.antlr.v4.runtime.tree.*;
 import org.antlr.v4.runtime.TokenStream;
@@ -8,229 +10,90 @@ import org.antlr.v4.runtime.misc.Interval;
 
 import java.util.Map;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedList; 
 import java.util.Stack;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
-
-import javax.script.ScriptEngineManager;
-import javax.script.ScriptEngine;
-import javax.script.ScriptException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
 
 import java.lang.Float.*;
 import java.sql.Types;
 import java.lang.Double.*;
 import java.util.Arrays;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
 
-enum types {INT, CHAR, DOUBLE, FLOAT, UNSIGNED, SIGNED, SHORT, VOID};
-enum STOtypes {VAR, ARR, PTR, FUN, STR, DEF, STRUCTDEF, STRUCT};
-
-abstract class STO {
-
-  // all elements have the following
-  protected int size;
-  protected int offset;
-  protected String ID;
-  protected boolean isGlobal;
-  protected boolean isPointer;
-  protected types type;
-  protected STOtypes STOtype;
-
-  // arrays extra
-  public ArrayList<Integer> dimensions;
-
-  // functions extra
-  public ArrayList<types> parameters;
-
-  // pointers extra
-  public int pointerDepth;
-
-  // struct extra
-  public Map<String, STO> members = new HashMap<String,STO>();
-  protected ArrayList<Integer> sizes = new ArrayList<Integer>(); // just to make things easier, could have used ids list
-  protected ArrayList<String> ids = new ArrayList<String>(); // keep IDs in order for initialization
-
-  // initializers for factory
-  protected void initSTO(){
-    size = 0;
-    offset = 0;
-    ID = "";
-    isGlobal = false;
-    isPointer = false;
-    pointerDepth = 0;
-    type = types.INT;
-    dimensions = null;
-  }
-
-  protected void initSTO(int s, int o, String i, boolean g, boolean p, types t, ArrayList<Integer> v, STOtypes st){
-    size = s;
-    offset = o;
-    ID = i;
-    isGlobal = g;
-    isPointer = p;
-    pointerDepth = 0;
-    type = t;
-    dimensions = v;
-    STOtype = st;
-  }
-
-  // common functions
-  public int getSize(){return this.size;}
-  public void setSize(int s){this.size = s;}
-  public int getOffset(){return this.offset;}
-  public void setOffset(int o){this.offset = o;}
-  public String getID(){return this.ID;}
-  public void setID(String s){this.ID = s;}
-  public boolean isGlobal(){return this.isGlobal;}
-  public void setGlobal(boolean g){this.isGlobal = g;}
-  public types getType(){return this.type;}
-  public void setType(types t){this.type = t;}
-  public STOtypes getSTOType(){return this.STOtype;}
-
-  // array functions
-  public ArrayList<Integer> getDimensions(){return this.dimensions;}
-  public int getDimensions(int i){return this.dimensions.get(i);}
-  public void addDimension(int i){this.dimensions.add(i);}
-  public void setDimensions(ArrayList<Integer> d){this.dimensions = d;}
-  public void updateArraySize(){
-    size = typeSize(type)*dimensions.get(0);
-    for(int i=1; i<dimensions.size(); i++){
-      size *= typeSize(type)*dimensions.get(i);
-    }
-  }
-  public int getElementsCount(){
-    int count = dimensions.get(0);
-    for(int i=1; i<dimensions.size(); i++){
-      count *= dimensions.get(i);
-    }
-    return count;
-  }
-
-  // function functions
-  public ArrayList<types> getParameters(){return this.parameters;}
-  public types getParameter(int i){return this.parameters.get(i);}
-  public void addParameter(types i){this.parameters.add(i);}
-  public void setParamCount(int s){this.size = s;}
-  public int getParamCount(){return this.size;}
-  public void setParameters(ArrayList<types> params){this.parameters = params;}
-
-  // pointers functions
-  public void setDepth(int d){this.pointerDepth = d;}
-  public int getDepth(){return this.pointerDepth;}
-
-  // struct functions
-  public STO getMember(String ID){return members.get(ID);}
-  public void setMember(String ID, STO obj){
-    members.put(ID, obj);
-    getSize(); //updates size
-  }
-  public Map<String, STO> getMembers(){return members;}
-  protected void setMembers(Map<String, STO> m){
-    members = m;
-    getSize();
-  }
-  public ArrayList<Integer> getSizes(){return sizes;}
-  public ArrayList<String> getIDs(){return ids;}
-
-  // parse enum to int size
-  protected int typeSize(types type){
-    switch(type){
-      case INT:
-        return 4;
-      case CHAR:
-        return 1;
-      case DOUBLE:
-        return 8;
-      case FLOAT:
-        return 4;
-      case UNSIGNED:
-        return 4;
-      case SIGNED:
-        return 4;
-      case SHORT:
-        return 2;
-      case VOID:
-        return 1;
-      default:
-        return -1;
-    }
-  }
-
-  // intialization and declaration functions
-  public void initialize(double[] values){
-    throw new IllegalStateException("Operation init(int[]) not implemented for current object " + getID());
-  }
-
-  public void initialize(String value){
-    throw new IllegalStateException("Operation init(String) not implemented for current object " + getID());
-  }
-
-  // debuging print function
-  public void print(){
-    System.err.println("\nSTO type: " + STOtype);
-    System.err.println("ID: " + ID);
-    System.err.println("Is global: " + isGlobal);
-    System.err.println("Type: " + type);
-    System.err.println("Stack offset: " + offset);
-    System.err.println("Size: " + size);
-  }
-
-}
 
 class Variable extends STO{
   Variable(){initSTO();}
   Variable(int size, int offset, String ID, boolean isGlobal, types type){initSTO(size, offset, ID, isGlobal, false, type, null, STOtypes.VAR);}
-  @Override public void initialize(String value){
-    if(!isGlobal()){
+  @Override public void initialize(AsmEmitter out, String value){
+    if(getRegister() != null){
+      out.println(CCompiler.copy(getType(), getRegister(), getType() == types.FLOAT || getType() == types.DOUBLE ? "$f0" : "$v0"));
+    }else if(!isGlobal()){
       int offset = getOffset();
       switch(getType()){
         case CHAR:{
-          System.out.println("sb $v0, " + -4*offset + "($sp)");
+          out.println("sb $v0, " + -4*offset + "($sp)");
           break;
         }
         case SHORT:{
-          System.out.println("sh $v0, " + -4*offset + "($sp)");
+          out.println("sh $v0, " + -4*offset + "($sp)");
           break;
         }
         case FLOAT:{
-          System.out.println("s.s $f0, " + -4*offset + "($sp)");
+          out.println("s.s $f0, " + -4*offset + "($sp)");
           break;
         }
         case DOUBLE:{
-          System.out.println("s.d $f0, " + -4*(offset+1) + "($sp)");
+          out.println("s.d $f0, " + -4*(offset+1) + "($sp)");
           break;
         }
         default:{
-          System.out.println("sw $v0, " + -4*offset + "($sp)");
+          out.println("sw $v0, " + -4*offset + "($sp)");
           break;
         }
       }
     }else{
-      value = getType() == types.FLOAT ? CCompiler.removeF(value) : value;
-      value = CCompiler.interpret(value);
-      if(value.equals("true")) value = "1";
-      if(value.equals("false")) value = "0";
-      System.out.println(".global " + getID());
+      out.println(".global " + getID());
       switch(getType()){
         case CHAR:{
-          System.out.println(getID() + ":\n\t.byte " + (int) Math.round(Double.parseDouble(value)));
+          out.println(getID() + ":\n\t.byte " + (int) Math.round(Double.parseDouble(value)));
           break;
         }
         case SHORT:{
-          System.out.println(getID() + ":\n\t.half " + (int) Math.round(Double.parseDouble(value)));
+          out.println(getID() + ":\n\t.half " + (int) Math.round(Double.parseDouble(value)));
           break;
         }
         case FLOAT:{
-          System.out.println(getID() + ":\n\t.word " + CCompiler.floatBits(Float.parseFloat(value)));
+          out.println(getID() + ":\n\t.word " + CCompiler.floatBits(Float.parseFloat(value)));
           break;
         }
         case DOUBLE:{
-          System.out.println(getID() + ":\n\t.word " + CCompiler.doubleBits(Double.parseDouble(value))[1] + "\n\t.word " + CCompiler.doubleBits(Double.parseDouble(value))[0]);
+          out.println(getID() + ":\n\t.word " + CCompiler.doubleBits(Double.parseDouble(value))[1] + "\n\t.word " + CCompiler.doubleBits(Double.parseDouble(value))[0]);
           break;
         }
         default:{
-          System.out.println(getID() + ":\n\t.word " + (int) Math.round(Double.parseDouble(value)));
+          out.println(getID() + ":\n\t.word " + (int) Math.round(Double.parseDouble(value)));
           break;
         }
       }
@@ -241,30 +104,30 @@ class Variable extends STO{
 class Array extends STO{
   Array(){initSTO();}
   Array(int size, int offset, String ID, boolean isGlobal, types type, ArrayList<Integer> dimensions){initSTO(size, offset, ID, isGlobal, false, type, dimensions, STOtypes.ARR);}
-  @Override public void initialize(double[] values){
+  @Override public void initialize(AsmEmitter out, double[] values){
     if(isGlobal()){
-      System.out.println(".global " + getID());
-      System.out.println(getID()+":");
+      out.println(".global " + getID());
+      out.println(getID()+":");
       for(int i=0; i<values.length;i++){
         switch(getType()){
           case CHAR:{
-              System.out.println("\t.byte " + ((((int)values[values.length-i-1])<<24) >> 24));
+              out.println("\t.byte " + ((((int)values[values.length-i-1])<<24) >> 24));
               break;
           }
           case SHORT:{
-            System.out.println("\t.half " + (int)values[i]);
+            out.println("\t.half " + (int)values[i]);
             break;
           }
           case FLOAT:{
-            System.out.println("\t.word " + CCompiler.floatBits(Float.parseFloat(Double.toString(values[i]))));
+            out.println("\t.word " + CCompiler.floatBits(Float.parseFloat(Double.toString(values[i]))));
             break;
           }
           case DOUBLE:{
-            System.out.println("\t.word " + CCompiler.doubleBits(Double.parseDouble(Double.toString(values[i])))[1] + "\n\t.word " + CCompiler.doubleBits(Double.parseDouble(Double.toString(values[i])))[0]);
+            out.println("\t.word " + CCompiler.doubleBits(Double.parseDouble(Double.toString(values[i])))[1] + "\n\t.word " + CCompiler.doubleBits(Double.parseDouble(Double.toString(values[i])))[0]);
             break;
           }
           default:{
-            System.out.println("\t.word " + (int)values[i]);
+            out.println("\t.word " + (int)values[i]);
             break;
           }
         }
@@ -276,31 +139,31 @@ class Array extends STO{
       for(int i=0; i<values.length; i++){
         switch(getType()){
           case CHAR:{
-            System.out.println("li $v0, " + ((((int)values[values.length - i - 1])<<24) >> 24));
-            System.out.println("sb $v0, " + (-4*offset+i) + "($sp)");
+            out.println("li $v0, " + ((((int)values[values.length - i - 1])<<24) >> 24));
+            out.println("sb $v0, " + (-4*offset+i) + "($sp)");
             break;
           }
           case SHORT:{
-            System.out.println("li $v0, " + (int)values[values.length - i - 1]);
-            System.out.println("sh $v0, " + -4*(offset+i) + "($sp)");
+            out.println("li $v0, " + (int)values[values.length - i - 1]);
+            out.println("sh $v0, " + -4*(offset+i) + "($sp)");
             break;
           }
           case FLOAT:{
-            System.out.println("li $t1, " + CCompiler.floatBits((float)values[values.length - i - 1]));
-            System.out.println("mtc1 $t1, $f0");
-            System.out.println("s.s $f0, " + -4*(offset+i) + "($sp)");
+            out.println("li $t1, " + CCompiler.floatBits((float)values[values.length - i - 1]));
+            out.println("mtc1 $t1, $f0");
+            out.println("s.s $f0, " + -4*(offset+i) + "($sp)");
             break;
           }
           case DOUBLE:{
-            System.out.println("li $t1, " + CCompiler.doubleBits(values[values.length - i - 1])[1]);
-            System.out.println("li $t2, " + CCompiler.doubleBits(values[values.length - i - 1])[0]);
-            System.out.println("mtc1.d $t1, $f0");
-            System.out.println("s.d $f0, " + -4*(offset+2*i+1) + "($sp)");
+            out.println("li $t1, " + CCompiler.doubleBits(values[values.length - i - 1])[1]);
+            out.println("li $t2, " + CCompiler.doubleBits(values[values.length - i - 1])[0]);
+            out.println("mtc1.d $t1, $f0");
+            out.println("s.d $f0, " + -4*(offset+2*i+1) + "($sp)");
             break;
           }
           default:{
-            System.out.println("li $v0, " + (int)values[values.length - i - 1]);
-            System.out.println("sw $v0, " + -4*(offset+i) + "($sp)");
+            out.println("li $v0, " + (int)values[values.length - i - 1]);
+            out.println("sw $v0, " + -4*(offset+i) + "($sp)");
           }
         } 
       }
@@ -345,18 +208,18 @@ class Pointer extends STO{
     setDimensions(new ArrayList<Integer>());
     addDimension(1);
   }
-  @Override public void initialize(String value){
+  @Override public void initialize(AsmEmitter out, String value){
     if(!isGlobal()){
       int offset = getOffset();
       String reg = "$v0";
       if(value == "0")
         reg = "$zero";
-        System.out.println("sw " + reg + ", " + -4*offset + "($sp)");
+        out.println("sw " + reg + ", " + -4*offset + "($sp)");
     }else{
       if(value.equals("true")) value = "1";
       if(value.equals("false")) value = "0";
       if(value.charAt(0) == '\"'){
-        System.out.println("$LC" + getID() + ":");
+        out.println("$LC" + getID() + ":");
         String sstr = value.substring(1, value.length()-1); //removing the " "
         int i;
         for(i=0; i<sstr.length(); i++){
@@ -366,18 +229,18 @@ class Pointer extends STO{
             charVal = CCompiler.escapeSequenceValue(curr+ Character.toString(sstr.charAt(i+1)))[0];
             i++;
           }
-          System.out.println("\t.byte " + charVal);
+          out.println("\t.byte " + charVal);
         }
-        System.out.println("\t.byte 0");
-        System.out.println(getID() + ":\n\t.word $LC" + getID());
+        out.println("\t.byte 0");
+        out.println(getID() + ":\n\t.word $LC" + getID());
       }else{
         if(value.charAt(0) == '&'){
-          System.out.println(".global " + getID());
-          System.out.println(getID() + ":\n\t.word " + value.substring(1, value.length()));
+          out.println(".global " + getID());
+          out.println(getID() + ":\n\t.word " + value.substring(1, value.length()));
         }else{
           Integer intValue = (int) Math.round(Double.parseDouble(value));
-          System.out.println(".global " + getID());
-          System.out.println(getID() + ":\n\t.word " + intValue);
+          out.println(".global " + getID());
+          out.println(getID() + ":\n\t.word " + intValue);
         }
       }
     }
@@ -395,7 +258,7 @@ class Typedef extends STO{
 
 class Struct extends STO{
   Struct(){initSTO();}
-  Struct(int offset, String ID, boolean isGlobal, STO templateStruct){
+  Struct(AsmEmitter out, int offset, String ID, boolean isGlobal, STO templateStruct){
     initSTO(0, offset, ID, isGlobal, false, null, null, STOtypes.STRUCT);
     //A. copy members and sizes
     members = templateStruct.getMembers();
@@ -428,9 +291,9 @@ class Struct extends STO{
     }
 
     if(isGlobal()){
-      System.out.println(".global " + getID() + "\n" + getID() + ":\n\t.word 0");
+      out.println(".global " + getID() + "\n" + getID() + ":\n\t.word 0");
       for(int i=1; i<getSize()/4; i++){
-        System.out.println("\t.word 0");
+        out.println("\t.word 0");
       }
     }
 
@@ -511,6 +374,11 @@ public class CCompiler extends CBaseVisitor<String> {
   public static final String ANSI_CYAN = "\u001B[36m";
   public static final String ANSI_WHITE = "\u001B[37m";
 
+  // stack of the threads compiling (bytes). The parser and the visitors recurse once per
+  // operand of a chain like a+b+c+..., 100k operands take about 128MB. -stack MB to change it
+  public static final long STACK = 1L << 30;
+  static long stack = STACK;
+
   int mem; 
   int label_id; // for unique identification of each label (branch)
   boolean debug = false;
@@ -525,17 +393,36 @@ public class CCompiler extends CBaseVisitor<String> {
   Stack<String> current_break_context = new Stack<String>();   // Break: switch / while / for    (break_context)
   Stack<String> current_continue_context = new Stack<String>();   // Continue: while / for          (continue_context)
   Stack<String> current_return_context = new Stack<String>();   // Return: functions              (return_context)
+  Stack<SwitchTable> current_switch_context = new Stack<SwitchTable>(); // Case labels: switch   (innermost switch)
   Stack<Integer> current_arguments_context = new Stack<Integer>(); // Informs us of memory location of switch. Used for nested switches
   Stack<Integer> current_mem_context = new Stack<Integer>();   // Mem context (retrieve stack offset context)
   Stack<STO> current_struct_context = new Stack<STO>(); // Nested struct declaration tracking
   Stack<STO> current_func_invoc = new Stack<STO>(); // Nested function calls arguments type tracking
 
 
-  Stack<Map<String, STO>> symbolTable = new Stack<Map<String, STO>>();
+  SymbolTable<STO> symbolTable = new SymbolTable<STO>();
+  TypeAnnotator annotations = new TypeAnnotator(symbolTable); // symbol / type of expressions, no code generated
 
-  // interpreter for arithmetic expressions
-  static ScriptEngineManager mgr;
-  static ScriptEngine interpreter;
+  // interpreter for constant expressions (enum constants are the only names it can resolve)
+  Map<String, ConstEvaluator.Value> enum_values = new HashMap<String, ConstEvaluator.Value>();
+  ConstEvaluator constants = new ConstEvaluator(enum_values);
+
+  // same, for expressions inside functions, where a variable hides an enum constant of its name.
+  // Every node is folded once per function (each operator tries its whole subtree)
+  Map<ParseTree, ConstEvaluator.Value> folded = new IdentityHashMap<ParseTree, ConstEvaluator.Value>();
+  ConstEvaluator expression_constants = new ConstEvaluator(enum_values){
+    @Override public ConstEvaluator.Value visit(ParseTree tree){
+      if(folded.containsKey(tree)) return folded.get(tree);
+      ConstEvaluator.Value value = super.visit(tree);
+      folded.put(tree, value);
+      return value;
+    }
+
+    @Override public ConstEvaluator.Value visitIdPrimaryExpr(CParser.IdPrimaryExprContext ctx){
+      STO symbol = symbolTable.get(ctx.id.getText());
+      return symbol != null && !symbol.isEnumConstant() ? null : super.visitIdPrimaryExpr(ctx);
+    }
+  };
 
   // STO context passing
   STO current_function_object = null;
@@ -548,6 +435,28 @@ public class CCompiler extends CBaseVisitor<String> {
   STO current_struct_object = null;
 
   types current_type = null;
+  types left_type = null; // of the last left operand threeOp / constantRight visited
+
+  // registers keeping threeOp's left operand while the right one is computed, one per level
+  // of nesting (left to right, a right operand needing n of them makes its operator need
+  // n + 1: Sethi-Ullman numbers for a fixed evaluation order), the stack once they run out.
+  // Code from the tree uses none of them otherwise, nor calls while one is held
+  static final String[] TEMPORARIES = {"$t3", "$t5", "$t6", "$t7", "$t8", "$t9"};
+  static final String[] REAL_TEMPORARIES = {"$f6", "$f8", "$f10", "$f16", "$f18"}; // even: a double takes the pair
+  int temporaries = 0;
+  int real_temporaries = 0;
+  // where the operator finds the operands threeOp left
+  String lhs = "$t0", rhs = "$t1";
+  String real_lhs = "$f0", real_rhs = "$f2";
+  // subtrees without calls, once per function like folded
+  Map<ParseTree, Boolean> call_free = new IdentityHashMap<ParseTree, Boolean>();
+
+  // locals living in callee saved registers instead of the frame (see promote): the register
+  // of each declared identifier
+  static final String[] SAVED = {"$s0", "$s1", "$s2", "$s3", "$s4", "$s5", "$s6", "$s7"};
+  static final String[] REAL_SAVED = {"$f20", "$f22", "$f24", "$f26", "$f28", "$f30"};
+  static final int PROMOTE_USES = 3; // saving and restoring the register costs two instructions
+  Map<ParseTree, String> promoted = new IdentityHashMap<ParseTree, String>();
   int pointer_depth = 0;
   int pointer_mul = 0;
   int pointer_jumps = 0;
@@ -556,14 +465,46 @@ public class CCompiler extends CBaseVisitor<String> {
   int index_position = -1;
   int[] indexes = null;
   double[] values = null;
-  boolean halt = false;
+  boolean halt = false; // inside a struct definition: members are not variables, no symbols and no code
 
   // external declarations
   boolean extern = false;
 
-  // pointer strings
-  int lc_index = 0;
-  String lc_out = "";
+  // buffered assembly output (data section + one text buffer per function)
+  AsmEmitter out = new AsmEmitter();
+
+  // -time-report, null when off
+  TimeReport timing = null;
+
+  // pointer strings, one $LC label per distinct literal of the unit
+  LiteralPool literals = new LiteralPool(out);
+
+  // per function cache, null when off. recording: labels and literals of the function being generated
+  FunctionCache functions = null;
+  FunctionCache.Recording recording = null;
+
+  // parallel code generation (see generate(tree, debug, functions, pool)), all null / false when sequential
+  // first pass: deferred collects the function definitions, bodies the ones found in the function cache
+  // task: this compiler generates one function on its own (entry is the result)
+  // second pass: bodies has the code of every function definition, spliced in source order
+  static final class Deferred {
+    final CParser.FunctionDefinitionContext ctx;
+    final String key;
+    final SymbolTable<STO> globals;
+    final Map<String, ConstEvaluator.Value> enums;
+
+    Deferred(CParser.FunctionDefinitionContext ctx, String key, SymbolTable<STO> globals, Map<String, ConstEvaluator.Value> enums){
+      this.ctx = ctx;
+      this.key = key;
+      this.globals = globals;
+      this.enums = enums;
+    }
+  }
+
+  List<Deferred> deferred = null;
+  Map<CParser.FunctionDefinitionContext, FunctionCache.Entry> bodies = null;
+  boolean task = false;
+  FunctionCache.Entry entry = null;
 
   CCompiler(boolean d) {
     mem = 0;
@@ -573,11 +514,8 @@ public class CCompiler extends CBaseVisitor<String> {
     dec_size = 0;
     enum_state = 0;
 
-    mgr = new ScriptEngineManager();
-    interpreter = mgr.getEngineByName("JavaScript");
-
     extendSymbolTable(); // init entry for globals
-    System.out.println("\n.data\n"); // init data directive for globals
+    out.println("\n.data\n"); // init data directive for globals
     
     /*
 
@@ -653,73 +591,278 @@ public class CCompiler extends CBaseVisitor<String> {
   ////////////////////////////////////////////////////////////////////////////////////
   // HELPERS
 
+  ////////////////////////////////////////////////////////////////////////////////////
+  // visitor dispatch. With -time-report, every rule node visited (explicitly or as a child)
+  // is timed under the name of its visitXxx method. Without it, plain ANTLR dispatch
+  @Override
+  public String visit(ParseTree tree){
+    if(timing == null || !(tree instanceof RuleNode)) return tree.accept(this);
+    timing.enter(tree.getClass());
+    try{
+      return tree.accept(this);
+    }finally{
+      timing.exit();
+    }
+  }
+
+  @Override
+  public String visitChildren(RuleNode node){
+    if(timing == null) return super.visitChildren(node);
+    String result = defaultResult(); // same as AbstractParseTreeVisitor, children dispatched through visit()
+    for(int i=0; i<node.getChildCount(); i++){
+      if(!shouldVisitNextChild(node, result)) break;
+      result = aggregateResult(result, visit(node.getChild(i)));
+    }
+    return result;
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // nodes of a left recursive list (item | list item), first to last. Walks down the left
+  // spine in a loop: visiting the list recursively takes one frame per item, which
+  // overflows on generated code (tens of thousands of statements in one function)
+  static <T extends ParserRuleContext> List<T> spine(T list, Class<T> rule){
+    List<T> nodes = new ArrayList<T>();
+    while(true){
+      nodes.add(list);
+      ParseTree left = list.getChildCount() > 1 ? list.getChild(0) : null;
+      if(!rule.isInstance(left)) break;
+      list = rule.cast(left);
+    }
+    Collections.reverse(nodes);
+    return nodes;
+  }
+
+  // getText() without recursion (a declaration's list can be as long as its initializer)
+  static String text(ParseTree tree){
+    StringBuilder text = new StringBuilder();
+    Stack<ParseTree> nodes = new Stack<ParseTree>();
+    nodes.push(tree);
+    while(!nodes.isEmpty()){
+      ParseTree node = nodes.pop();
+      if(node instanceof TerminalNode){
+        text.append(node.getText());
+        continue;
+      }
+      for(int i=node.getChildCount()-1; i>=0; i--){
+        nodes.push(node.getChild(i));
+      }
+    }
+    return text.toString();
+  }
+
   ////////////////////////////////////////////////////////////////////////////////////
   // expression helper
   // form LEFT OP RIGHT
-  // $t0/f0 has left
-  // $t1/f2 has right
+  // lhs / real_lhs has left: a temporary register, $t0 / $f0 when it went through the stack
+  // rhs / real_rhs has right: $v0 / $f0, $t1 / $f2 from the stack or scaled for a pointer
+  // A promoted local is read in its own register (an operator's operands are unsequenced:
+  // the other one may not assign it)
   public String threeOp(ParserRuleContext ctx){
+    if(timing != null) timing.enter("threeOp");
 
     // Mem is stack offset
     // check for pointer to shift operands accordingly if required
     pointer_mul = 0;
-    this.visit(ctx.getChild(0));
+    String held = operand(ctx.getChild(0));
+    boolean temporary = held == null;
+    int leftPointer = pointer_mul;
+    types leftType = current_type; // left_type changes when right has operators too
+    if(temporary) held = current_type != null && callFree(ctx.getChild(2)) ? hold(current_type) : null;
+    if(held == null) push(current_type, isReal(current_type) ? "$f0" : "$v0");
+
+    pointer_mul = 0;
+    String right = operand(ctx.getChild(2));
+    if(right == null) right = isReal(current_type) ? "$f0" : "$v0";
+    int rightPointer = pointer_mul;
+    if(held != null){
+      if(temporary) release(leftType);
+      if(current_type != null && isReal(leftType) == isReal(current_type)){
+        lhs = real_lhs = held;
+        rhs = real_rhs = right;
+        for(int shift: new int[]{leftPointer, rightPointer}){
+          if(shift == 0 || isReal(current_type)) continue;
+          out.println("sll $t1, " + rhs + ", " + shift); // a pointer on either side: scale right
+          rhs = "$t1";
+        }
+        left_type = leftType;
+        if(timing != null) timing.exit();
+        return "";
+      }
+      push(leftType, held); // int and floating point operands: both through the stack as below
+    }
+    push(current_type, right);
+    lhs = "$t0";
+    rhs = "$t1";
+    real_lhs = "$f0";
+    real_rhs = "$f2";
+
+    // get right from stack (t1 or f2)
     switch(current_type){
       case FLOAT:
-        System.out.println("s.s $f0, " + -4*(mem++) + "($sp)");
+        out.println("l.s $f2, " + -4*(--mem) + "($sp)");
         break;
       case DOUBLE:
-        mem++;
-        System.out.println("s.d $f0, " + -4*(mem++) + "($sp)");
+        out.println("l.d $f2, " + -4*(--mem) + "($sp)");
+        mem--;
         break;
       default:
-        System.out.println("sw $v0, " + -4*(mem++) + "($sp)");
+        out.println("lw $t1, " + -4*(--mem) + "($sp)");  // get right from stack
     }
-    int leftPointer = pointer_mul;
-
-    pointer_mul = 0;
-    this.visit(ctx.getChild(2));
+    if(leftPointer != 0)out.println("sll $t1, $t1, " + leftPointer); // if left is a pointer, align right value
+    
+    // get right from stack (t0 or f0)
     switch(current_type){
       case FLOAT:
-        System.out.println("s.s $f0, " + -4*(mem++) + "($sp)");
+        out.println("l.s $f0, " + -4*(--mem) + "($sp)");
         break;
       case DOUBLE:
-        mem++;
-        System.out.println("s.d $f0, " + -4*(mem++) + "($sp)");
+        out.println("l.d $f0, " + -4*(--mem) + "($sp)");
+        mem--;
         break;
       default:
-        System.out.println("sw $v0, " + -4*(mem++) + "($sp)");
+        out.println("lw $t0, " + -4*(--mem) + "($sp)");  // get right from stack
     }
-    int rightPointer = pointer_mul;
+    if(rightPointer != 0)out.println("sll $t1, $t1, " + rightPointer); // if right is a pointer, align left value
+    left_type = leftType;
+    if(timing != null) timing.exit();
+    return "";
+  }
 
-    // get right from stack (t1 or f2)
-    switch(current_type){
+  // a promoted local's register, with its type as current_type. Otherwise null, and the code
+  // of tree has put its value in $v0 / $f0
+  private String operand(ParseTree tree){
+    STO variable = promotedVariable(tree);
+    if(variable == null){
+      this.visit(tree);
+      return null;
+    }
+    pointer_jumps = 0;
+    current_type = variable.getType();
+    return variable.getRegister();
+  }
+
+  // value of type in reg onto the stack
+  private void push(types type, String reg){
+    switch(type){
       case FLOAT:
-        System.out.println("l.s $f2, " + -4*(--mem) + "($sp)");
+        out.println("s.s " + reg + ", " + -4*(mem++) + "($sp)");
         break;
       case DOUBLE:
-        System.out.println("l.d $f2, " + -4*(--mem) + "($sp)");
-        mem--;
+        mem++;
+        out.println("s.d " + reg + ", " + -4*(mem++) + "($sp)");
         break;
       default:
-        System.out.println("lw $t1, " + -4*(--mem) + "($sp)");  // get right from stack
+        out.println("sw " + reg + ", " + -4*(mem++) + "($sp)");
+    }
+  }
+
+  // the value of type just computed ($v0 / $f0) moved to the next free temporary register,
+  // null when they are all held
+  private String hold(types type){
+    if(isReal(type)){
+      if(real_temporaries == REAL_TEMPORARIES.length) return null;
+      String reg = REAL_TEMPORARIES[real_temporaries++];
+      out.println((type == types.DOUBLE ? "mov.d " : "mov.s ") + reg + ", $f0");
+      return reg;
+    }
+    if(temporaries == TEMPORARIES.length) return null;
+    String reg = TEMPORARIES[temporaries++];
+    out.println("move " + reg + ", $v0");
+    return reg;
+  }
+
+  private void release(types type){
+    if(isReal(type)) real_temporaries--;
+    else temporaries--;
+  }
+
+  // true when no call (nor a struct copy, which calls memcpy) is made evaluating tree,
+  // so the temporary registers survive it
+  private boolean callFree(ParseTree tree){
+    Boolean known = call_free.get(tree);
+    if(known != null) return known;
+    boolean free = !(tree instanceof CParser.FuncInvocPostExprContext || tree instanceof CParser.FuncCallPostExprContext
+      || tree instanceof CParser.FuncCallPtrPostExprContext || tree instanceof CParser.CmpStatPrimaryExprContext
+      || tree instanceof CParser.OpAssgnExprContext);
+    for(int i=0; free && i<tree.getChildCount(); i++){
+      free = callFree(tree.getChild(i));
+    }
+    call_free.put(tree, free);
+    return free;
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // expression helper
+  // constant operands: the value of the whole expression (C semantics, see ConstEvaluator)
+  // is loaded at once instead. truth values (comparisons, && ...) go in $v0, others where
+  // an integer constant of current_type goes ($v0, $f0 for float / double).
+  // false when the expression is not constant
+  public boolean foldConstant(ParserRuleContext ctx, boolean truth){
+    if(isGlobalScope() || halt) return false;
+    ConstEvaluator.Value value = expression_constants.fold(ctx);
+    if(value == null) return false;
+    pointer_mul = 0;
+    if(truth){
+      out.println("li $v0, " + value.bits);
+      return true;
     }
-    if(leftPointer != 0)System.out.println("sll $t1, $t1, " + leftPointer); // if left is a pointer, align right value
-    
-    // get right from stack (t0 or f0)
     switch(current_type){
       case FLOAT:
-        System.out.println("l.s $f0, " + -4*(--mem) + "($sp)");
+        out.println("li $t4, " + floatBits((float) value.asDouble()) + "\nsw $t4, " + -4*mem + "($sp)\nl.s $f0, " + -4*mem + "($sp)");
         break;
       case DOUBLE:
-        System.out.println("l.d $f0, " + -4*(--mem) + "($sp)");
-        mem--;
+        int[] bits = doubleBits(value.asDouble());
+        out.println("li $t4, " + bits[1] + "\nsw $t4, " + -4*(mem++) + "($sp)");
+        out.println("li $t4, " + bits[0] + "\nsw $t4, " + -4*mem + "($sp)");
+        out.println("l.d $f0, " + -4*mem-- + "($sp)");
         break;
       default:
-        System.out.println("lw $t0, " + -4*(--mem) + "($sp)");  // get right from stack
+        out.println("li $v0, " + (int) value.to(current_type == types.UNSIGNED ? types.UNSIGNED : types.INT).bits);
+    }
+    return true;
+  }
+
+  // LEFT OP constant on integers: left in lhs ($v0 or a promoted local), the constant
+  // returned (scaled like threeOp does when left is a pointer) for the caller to use as an
+  // immediate, or shifts / a magic number (StrengthReduction). When immediate rejects it,
+  // the constant is loaded in $t1.
+  // Otherwise (not an integer constant, floating point operands) null, with lhs / rhs,
+  // real_lhs / real_rhs set up as threeOp does
+  public Integer constantRight(ParserRuleContext ctx, IntPredicate immediate){
+    ParseTree right = ctx.getChild(2);
+    ConstEvaluator.Value value = isGlobalScope() || halt || isReal(current_type) ? null : expression_constants.fold(right);
+    if(value == null || !value.isInteger()){
+      threeOp(ctx);
+      return null;
     }
-    if(rightPointer != 0)System.out.println("sll $t1, $t1, " + rightPointer); // if right is a pointer, align left value
-    return "";
+    pointer_mul = 0;
+    String left = operand(ctx.getChild(0));
+    int leftPointer = pointer_mul;
+    pointer_mul = 0;
+    left_type = current_type;
+    if(isReal(current_type)){
+      // floating point after all: left kept in $f2, the constant loaded in $f0
+      if(left == null) out.println(copy(current_type, "$f2", "$f0"));
+      foldConstant((ParserRuleContext) right, false);
+      real_lhs = left != null ? left : "$f2";
+      real_rhs = "$f0";
+      return null;
+    }
+    lhs = left != null ? left : "$v0";
+    int constant = (int) value.to(current_type == types.UNSIGNED ? types.UNSIGNED : types.INT).bits << leftPointer;
+    if(immediate.test(constant)) return constant;
+    out.println("li $t1, " + constant);
+    rhs = "$t1";
+    return null;
+  }
+
+  static boolean isReal(types type){
+    return type == types.FLOAT || type == types.DOUBLE;
+  }
+
+  // register to register copy of a value of type
+  static String copy(types type, String to, String from){
+    return (type == types.DOUBLE ? "mov.d " : type == types.FLOAT ? "mov.s " : "move ") + to + ", " + from;
   }
 
   ////////////////////////////////////////////////////////////////////////////////////
@@ -732,7 +875,7 @@ public class CCompiler extends CBaseVisitor<String> {
       Interval interval = new Interval(a, b);
       String line = ctx.item.start.getInputStream().getText(interval);
       line = line.replaceAll("\n", "\n# ");
-      System.out.println("\n# " + line);
+      out.println("\n# " + line);
     }
     return this.visit(ctx.item);
   }
@@ -745,7 +888,7 @@ public class CCompiler extends CBaseVisitor<String> {
       Interval interval = new Interval(a, b);
       String line = ctx.item.start.getInputStream().getText(interval);
       line = line.replaceAll("\n", "\n# ");
-      System.out.println("\n# " + line);
+      out.println("\n# " + line);
     }
     return this.visit(ctx.item);
   }
@@ -757,67 +900,66 @@ public class CCompiler extends CBaseVisitor<String> {
 
   // makeName for label
   public String makeName(String base){
-    return "_" + base + "_" + label_id++;
+    String name = "_" + base + "_" + label_id++;
+    if(recording != null) recording.label(name);
+    return name;
   }
   
   // insert label (to not forget the : )
   public void insertLabel(String label){
-    System.out.println(label + ":");
+    out.println(label + ":");
   }
 
   // extend symbol table to new scope
   public void extendSymbolTable(){
-    if(debug) System.out.println("\t\t\t\t# Table was " + symbolTable); 
-    Map<String, STO> extension = new HashMap<String, STO>();
-    if(!symbolTable.empty()) {
-      Map<String, STO> current = symbolTable.peek();
-      extension.putAll(current);
-    }
-    symbolTable.add(extension);
-    if(debug) System.out.println("\t\t\t\t# Table is " + symbolTable);
+    if(debug) out.println("\t\t\t\t# Table was " + symbolTable); 
+    symbolTable.push(); // new scope chained to the current one, nothing copied
+    if(debug) out.println("\t\t\t\t# Table is " + symbolTable);
     current_mem_context.add(mem);
   }
 
   // remove from symbol table when leaving scope
   public void removeSymbolTable(){
-    if(debug) System.out.println("\t\t\t\t# Table was " + symbolTable); 
+    if(debug) out.println("\t\t\t\t# Table was " + symbolTable); 
     symbolTable.pop();
-    if(debug) System.out.println("\t\t\t\t# Table is " + symbolTable);
+    if(debug) out.println("\t\t\t\t# Table is " + symbolTable);
     mem = current_mem_context.pop();
   }
 
   // get ID object from symbol table
   public STO getIDSymbolTable(String id){
-    STO obj = symbolTable.peek().get(id);
-    if(debug) System.out.println("\t\t\t\t#Returning " + obj + " for ID " + id);
+    STO obj = symbolTable.get(id);
+    if(debug) out.println("\t\t\t\t#Returning " + obj + " for ID " + id);
     return obj;
   }
 
   // set ID object in symbol table
   public void setIDSymbolTable(String id, STO obj){
-    if(!halt) symbolTable.peek().put(id, obj);
+    if(!halt) symbolTable.put(id, obj);
+  }
+
+  // get / set function object (separate namespace from variables)
+  public STO getFunctionSymbolTable(String id){
+    return symbolTable.getFunction(id);
+  }
+
+  public void setFunctionSymbolTable(String id, STO obj){
+    if(!halt) symbolTable.putFunction(id, obj);
   }
 
   // check if global scope
   public boolean isGlobalScope(){
-   return symbolTable.size() == 1;
+   return symbolTable.isGlobalScope();
   }
 
-  // interpret constant expression
-  public static String interpret(String expression){
-    if(expression.charAt(0) == '\''){
-      int v = (int) expression.charAt(1);
-      return "" + v;
-    }
-    try{
-      String output = String.valueOf(interpreter.eval(expression));
-      if(output.equals("true")) output = "1";
-      if(output.equals("false")) output = "0";
-      return output;
-    }catch(Exception e){
-      System.out.println("#INTERPRETER EXCEPTION: " + e + " for input " + expression);
+  // interpret constant expression, folded on the parse tree with C semantics
+  public String interpret(ParseTree expression){
+    ConstEvaluator.Value value = constants.fold(expression);
+    if(value == null){
+      System.err.println("#INTERPRETER EXCEPTION: not a constant expression " + expression.getText());
       return null;
     }
+    return value.toString();
   }
 
   // parse type to enum
@@ -1149,33 +1291,125 @@ public class CCompiler extends CBaseVisitor<String> {
 
   */
 
+  ////////////////////////////////////////////////////////////////////////////////////
+  // top level declarations and functions, in order
+  @Override
+  public String visitMultTransUnit(CParser.MultTransUnitContext ctx){
+    String ret = "";
+    for(CParser.TranslationUnitContext tu: spine(ctx, CParser.TranslationUnitContext.class)){
+      ret = this.visit(tu instanceof CParser.MultTransUnitContext ? ((CParser.MultTransUnitContext) tu).dec : tu);
+    }
+    return ret;
+  }
+
   @Override
   public String visitFunctionDefinition(CParser.FunctionDefinitionContext ctx){
+    String key = functions != null ? functionKey(ctx) : null; // before the definition changes any global
+    FunctionCache.Entry cached = key != null ? functions.get(key) : bodies != null ? bodies.get(ctx) : null;
+    boolean generate = cached == null;
+    if(deferred != null){
+      // first parallel pass: the body is generated later, on a copy of the globals seen from here
+      if(cached != null) bodies.put(ctx, cached);
+      else deferred.add(new Deferred(ctx, key, symbolTable.snapshot(), new HashMap<String, ConstEvaluator.Value>(enum_values)));
+      generate = false;
+    }
     mem = 0;
     String functionName = this.visit(ctx.func_dec);
-    symbolTable.peek().remove(functionName);
+    out.beginFunction(functionName);
+    int start = out.getFunction(functionName).length();
+    symbolTable.remove(functionName);
     this.visit(ctx.spec);
     current_function_object = new Function(0, functionName, current_type, new ArrayList<types>());
-    setIDSymbolTable(("1" + functionName), current_function_object);
+    setFunctionSymbolTable(functionName, current_function_object);
     extendSymbolTable();
     this.visit(ctx.func_dec);
+    if(!generate){
+      if(deferred == null) replay(cached);
+      removeSymbolTable();
+      setFunctionSymbolTable(functionName, current_function_object);
+      current_function_object = null;
+      out.endFunction();
+      return "";
+    }
     current_return_context.add("_return_" + functionName);
-    System.out.println("# " + functionName + ": function full");
-    System.out.println("\t.set noreorder\n\t.text\n\t.align 2\n\t.globl " + functionName);
+    setFunctionSymbolTable(functionName, current_function_object);
+    int writes = symbolTable.globalWrites();
+    Map<String, ConstEvaluator.Value> enums = key != null || task ? new HashMap<String, ConstEvaluator.Value>(enum_values) : null;
+    if(key != null || task) recording = new FunctionCache.Recording();
+    out.println("# " + functionName + ": function full");
+    out.println("\t.set noreorder\n\t.text\n\t.align 2\n\t.globl " + functionName);
     insertLabel(functionName);
+    // int functions go through the IR, anything else is generated straight from the tree
+    IrLowering lowering = new IrLowering(this);
+    Ir.Function ir = lowering.lower(ctx, functionName);
+    if(ir != null){
+      SlotPromotion.run(ir);
+      ConstantFolding.run(ir);
+    }
+    if(ir == null || !new MipsBackend(out, this::makeName).emit(ir, debug)){
+      if(debug) out.println("# " + functionName + ": no IR (" + (ir == null ? lowering.unsupported : "frame too large") + ")");
+      generateDirect(ctx, functionName);
+    }
+    current_return_context.pop();
+    if(recording != null){
+      // a body that declared globals (prototypes, enum constants) has effects a copy would not have
+      if(writes == symbolTable.globalWrites() && enums.equals(enum_values)){
+        entry = recording.finish(out.getFunction(functionName).substring(start));
+        if(key != null) functions.put(key, entry);
+      }
+      recording = null;
+    }
+    removeSymbolTable(); // using remove means we did great xD test with remove later, should work
+    setFunctionSymbolTable(functionName, current_function_object);
+    current_function_object = null;
+    out.endFunction();
+    return "";
+  }
+
+  // entry, body and exit of a function, straight from the tree
+  private void generateDirect(CParser.FunctionDefinitionContext ctx, String functionName){
+    List<CParser.DeclaratorContext> parameters = promote(ctx);
+    // parameters are declared already: give them their register here
+    String[] registers = new String[param_count];
+    for(int i=0; i<param_count && parameters.size() == param_count; i++){
+      String reg = promoted.get(parameters.get(i).directDec);
+      STO param = getIDSymbolTable(parameters.get(i).getText());
+      if(reg != null && param != null && promotable(param, reg)){
+        param.setRegister(reg);
+        registers[i] = reg;
+      }
+    }
+    // callee saved registers the promoted locals take, kept above $fp next to $fp and $ra
+    List<String> saved = new ArrayList<String>();
+    for(String reg: SAVED) if(promoted.containsValue(reg)) saved.add(reg);
+    for(String reg: REAL_SAVED) if(promoted.containsValue(reg)) saved.add(reg);
+    // s.d / l.d need 8 byte aligned addresses: the floating point slots and the frame are
+    // rounded up to 8 bytes ($sp is 8 byte aligned on entry)
+    int frame = 12;
+    StringBuilder save = new StringBuilder();
+    StringBuilder restore = new StringBuilder();
+    boolean real = false; // floating point registers come last
+    for(String reg: saved){
+      real = reg.startsWith("$f");
+      if(real && frame % 8 != 0) frame += 4;
+      String op = real ? ".d " : "w ";
+      save.append("s" + op + reg + ", " + frame + "($sp)\n");
+      restore.append("l" + op + reg + ", " + frame + "($fp)\n");
+      frame += real ? 8 : 4;
+    }
+    if(real && frame % 8 != 0) frame += 4;
     if(!functionName.equals("main")){
-      // System.out.println("# store function arguments\nsw $a0, 0($sp)\nsw $a1, 4($sp)\nsw $a2, 8($sp)\nsw $a3, 12($sp)\n"); // store arguments on caller stack (NOT NEEDED ?)
-      System.out.println("move $t0, $sp"); // remember where the stack pointer was
+      // out.println("# store function arguments\nsw $a0, 0($sp)\nsw $a1, 4($sp)\nsw $a2, 8($sp)\nsw $a3, 12($sp)\n"); // store arguments on caller stack (NOT NEEDED ?)
+      out.println("move $t0, $sp"); // remember where the stack pointer was
     }
-    System.out.println("# " + functionName + ": function entry");
+    out.println("# " + functionName + ": function entry");
     // figure 1: get function header ready
-    System.out.println("addiu $sp, $sp, -12\nsw $fp, 4($sp)\nsw $ra, 8($sp)\nmove $fp, $sp\n");
+    out.println("addiu $sp, $sp, " + -frame + "\nsw $fp, 4($sp)\nsw $ra, 8($sp)\n" + save + "move $fp, $sp\n");
     // now load all input parameters on the function stack
     mem = 0;
     boolean seenInt = false;
     int arg = 0;
     // current_function_object.setParamCount(param_count);
-    setIDSymbolTable(("1" + functionName), current_function_object);
     for(int i=0; i<param_count; i++){
       switch(current_function_object.getParameter(i)){
         case DOUBLE:
@@ -1183,36 +1417,40 @@ public class CCompiler extends CBaseVisitor<String> {
           if(arg < 3){
             if(seenInt){
               if(arg == 1) arg++;
-              System.out.println("sw $a" + arg++ + ", " + -4*(mem++) + "($sp)");
-              System.out.println("sw $a" + arg++ + ", " + -4*(mem) + "($sp)");
+              out.println("sw $a" + arg++ + ", " + -4*(mem++) + "($sp)");
+              out.println("sw $a" + arg++ + ", " + -4*(mem) + "($sp)");
             }
             else
-              if(i==0)
-                {System.out.println("s.d $f12, " + -4*(mem++) + "($sp)");arg+=2;}
+              if(i<2 && registers[i] != null)
+                {out.println("mov.d " + registers[i] + ", $f1" + (2 + 2*i));registers[i]=null;mem++;arg+=2;}
+              else if(i==0)
+                {out.println("s.d $f12, " + -4*(mem++) + "($sp)");arg+=2;}
               else if(i==1)
-                {System.out.println("s.d $f14, " + -4*(mem++) + "($sp)");arg+=2;}
+                {out.println("s.d $f14, " + -4*(mem++) + "($sp)");arg+=2;}
               else
-                {System.out.println("sw $a" + arg++ + ", " + -4*(mem++) + "($sp)"); System.out.println("sw $a" + arg++ + ", " + -4*(mem) + "($sp)");}
+                {out.println("sw $a" + arg++ + ", " + -4*(mem++) + "($sp)"); out.println("sw $a" + arg++ + ", " + -4*(mem) + "($sp)");}
           }else{
             if(arg == 3) mem++;
-            System.out.println("lw $t1, " + 4*mem + "($t0)");System.out.println("sw $t1, " + -4*(mem++) + "($sp)");
-            System.out.println("lw $t1, " + 4*mem + "($t0)");System.out.println("sw $t1, " + -4*(mem) + "($sp)");
+            out.println("lw $t1, " + 4*mem + "($t0)");out.println("sw $t1, " + -4*(mem++) + "($sp)");
+            out.println("lw $t1, " + 4*mem + "($t0)");out.println("sw $t1, " + -4*(mem) + "($sp)");
           }
           break;
         case FLOAT:
           if(arg < 4){
             if(seenInt)
-              System.out.println("sw $a" + arg++ + ", " + -4*(mem++) + "($sp)");
+              out.println("sw $a" + arg++ + ", " + -4*(mem++) + "($sp)");
             else
-              if(i==0)
-                {System.out.println("s.s $f12, " + -4*(mem++) + "($sp)");arg++;}
+              if(i<2 && registers[i] != null)
+                {out.println("mov.s " + registers[i] + ", $f1" + (2 + 2*i));registers[i]=null;mem++;arg++;}
+              else if(i==0)
+                {out.println("s.s $f12, " + -4*(mem++) + "($sp)");arg++;}
               else if(i==1)
-                {System.out.println("s.s $f14, " + -4*(mem++) + "($sp)");arg++;}
+                {out.println("s.s $f14, " + -4*(mem++) + "($sp)");arg++;}
               else
-                System.out.println("sw $a" + arg++ + ", " + -4*(mem++) + "($sp)");
+                out.println("sw $a" + arg++ + ", " + -4*(mem++) + "($sp)");
           }else{
-            System.out.println("lw $t1, " + 4*mem + "($t0)");
-            System.out.println("sw $t1, " + -4*(mem++) + "($sp)");
+            out.println("lw $t1, " + 4*mem + "($t0)");
+            out.println("sw $t1, " + -4*(mem++) + "($sp)");
           }
           break;
         default:
@@ -1226,27 +1464,208 @@ public class CCompiler extends CBaseVisitor<String> {
               op = "h";
               break;
           }
-          if(arg < 4){
-            System.out.println("s" + op +  " $a" + arg++ + ", " + -4*(mem++) + "($sp)");
+          if(arg < 4 && registers[i] != null){
+            out.println("move " + registers[i] + ", $a" + arg++);
+            registers[i] = null;
+            mem++;
+          }else if(arg < 4){
+            out.println("s" + op +  " $a" + arg++ + ", " + -4*(mem++) + "($sp)");
           }else{
-            System.out.println("l" + op +  " $t1, " + 4*mem + "($t0)");
-            System.out.println("s" + op +  " $t1, " + -4*(mem++) + "($sp)");
+            out.println("l" + op +  " $t1, " + 4*mem + "($t0)");
+            out.println("s" + op +  " $t1, " + -4*(mem++) + "($sp)");
           }
       }
     }
-    System.out.println("# " + functionName + ": function body");
+    // promoted parameters that came in the other registers or on the stack
+    for(int i=0; i<param_count; i++){
+      if(registers[i] == null) continue;
+      STO param = getIDSymbolTable(parameters.get(i).getText());
+      switch(param.getType()){
+        case FLOAT:
+          out.println("l.s " + registers[i] + ", " + -4*param.getOffset() + "($fp)");
+          break;
+        case DOUBLE:
+          out.println("l.d " + registers[i] + ", " + -4*(param.getOffset()+1) + "($fp)");
+          break;
+        default:
+          out.println("lw " + registers[i] + ", " + -4*param.getOffset() + "($fp)");
+      }
+    }
+    out.println("# " + functionName + ": function body");
     this.visit(ctx.comp_stat);
+    folded.clear();
+    call_free.clear();
+    promoted.clear();
     insertLabel("# " + functionName + ": function return\n_return_" + functionName);
     // exit function: setback $fp and $sp as before. Get correct return address for subroutine
-    System.out.println("move $sp, $fp\nlw $ra, 8($fp)\nlw $fp, 4($fp)\naddiu $sp, $sp, 12\njr $ra\nnop");
-    current_return_context.pop();
-    removeSymbolTable(); // using remove means we did great xD test with remove later, should work
-    setIDSymbolTable(("1" + functionName), current_function_object);
-    current_function_object = null;
-    System.out.println("\n.data\n"); // data directive for globals
-    System.out.println(lc_out);
-    lc_out = "";
-    return "";
+    out.println("move $sp, $fp\n" + restore + "lw $ra, 8($fp)\nlw $fp, 4($fp)\naddiu $sp, $sp, " + frame + "\njr $ra\nnop");
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // escape analysis of a function generated from the tree
+  // int / unsigned and float / double locals and parameters never used with & (so no pointer
+  // can reach them: not pointers, arrays, structs or static either) get $s0-$s7 and
+  // $f20-$f30. Those are callee saved, calls keep them. Names used fewer than PROMOTE_USES
+  // times stay in the frame. When the registers run out the most used names get them, a
+  // use inside a loop counting 8 times a use outside it.
+  // Fills promoted, returns the parameters' declarators
+  private List<CParser.DeclaratorContext> promote(CParser.FunctionDefinitionContext ctx){
+    promoted.clear();
+    List<CParser.DeclaratorContext> candidates = new ArrayList<CParser.DeclaratorContext>();
+    Map<CParser.DeclaratorContext, Boolean> real = new IdentityHashMap<CParser.DeclaratorContext, Boolean>();
+    List<CParser.DeclaratorContext> parameters = new ArrayList<CParser.DeclaratorContext>();
+    if(ctx.func_dec.directDec instanceof CParser.ParamlDirDecContext){
+      ParserRuleContext list = (ParserRuleContext) ((CParser.ParamlDirDecContext) ctx.func_dec.directDec).paramL.getChild(0);
+      for(CParser.ParameterListContext node: spine((CParser.ParameterListContext) list, CParser.ParameterListContext.class)){
+        CParser.ParameterDeclarationContext param = node instanceof CParser.MultParamListContext ? ((CParser.MultParamListContext) node).param : ((CParser.SingleParamListContext) node).param;
+        if(!(param instanceof CParser.DecParamDecContext)) continue;
+        CParser.DecParamDecContext dec = (CParser.DecParamDecContext) param;
+        parameters.add(dec.dec);
+        candidate(dec.dec, dec.spec, candidates, real);
+      }
+    }
+    Set<String> escaping = new HashSet<String>();
+    Map<String, Integer> uses = new HashMap<String, Integer>();
+    Stack<ParseTree> nodes = new Stack<ParseTree>();
+    Stack<Integer> weights = new Stack<Integer>();
+    nodes.push(ctx.comp_stat);
+    weights.push(1);
+    while(!nodes.isEmpty()){
+      ParseTree node = nodes.pop();
+      int weight = weights.pop();
+      if(node instanceof CParser.IdPrimaryExprContext){
+        String id = ((CParser.IdPrimaryExprContext) node).id.getText();
+        uses.put(id, uses.getOrDefault(id, 0) + weight);
+      }else if(node instanceof CParser.CastUnaryExprContext && ((CParser.CastUnaryExprContext) node).left.getText().equals("&")){
+        identifiers(((CParser.CastUnaryExprContext) node).right, escaping);
+      }else if(node instanceof CParser.DeclaratorContext && (node.getParent() instanceof CParser.TermInitDecContext || node.getParent() instanceof CParser.OpInitDecContext)){
+        ParseTree declaration = node.getParent();
+        while(declaration != null && !(declaration instanceof CParser.InitSpecDeclarationContext || declaration instanceof CParser.MultForDecContext)) declaration = declaration.getParent();
+        if(declaration instanceof CParser.InitSpecDeclarationContext) candidate((CParser.DeclaratorContext) node, ((CParser.InitSpecDeclarationContext) declaration).spec, candidates, real);
+        else if(declaration != null) candidate((CParser.DeclaratorContext) node, ((CParser.MultForDecContext) declaration).dec, candidates, real);
+      }
+      if(node instanceof CParser.IterationStatementContext && weight < 1 << 15) weight *= 8;
+      for(int i=node.getChildCount()-1; i>=0; i--){
+        nodes.push(node.getChild(i));
+        weights.push(weight);
+      }
+    }
+    List<CParser.DeclaratorContext> order = new ArrayList<CParser.DeclaratorContext>(candidates);
+    order.sort((a, b) -> uses.getOrDefault(b.getText(), 0) - uses.getOrDefault(a.getText(), 0)); // stable: declaration order among equals
+    int ints = 0, reals = 0;
+    for(CParser.DeclaratorContext dec: order){
+      String id = dec.getText();
+      if(escaping.contains(id) || uses.getOrDefault(id, 0) < PROMOTE_USES) continue;
+      if(real.get(dec)){
+        if(reals < REAL_SAVED.length) promoted.put(dec.directDec, REAL_SAVED[reals++]);
+      }else{
+        if(ints < SAVED.length) promoted.put(dec.directDec, SAVED[ints++]);
+      }
+    }
+    return parameters;
+  }
+
+  // the variable var can live in reg
+  static boolean promotable(STO var, String reg){
+    if(var.isGlobal() || var.getSTOType() != STOtypes.VAR) return false;
+    switch(var.getType()){
+      case INT: case UNSIGNED: case SIGNED:
+        return reg.startsWith("$s");
+      case FLOAT: case DOUBLE:
+        return reg.startsWith("$f");
+      default:
+        return false;
+    }
+  }
+
+  // a plain identifier declared with only int, signed, unsigned, float or double
+  private static void candidate(CParser.DeclaratorContext dec, CParser.DeclarationSpecifiersContext spec, List<CParser.DeclaratorContext> candidates, Map<CParser.DeclaratorContext, Boolean> real){
+    if(dec.ptr != null || dec.getChildCount() != 1 || !(dec.directDec instanceof CParser.IdDirDecContext)) return;
+    boolean isReal = false;
+    for(int i=0; i<spec.getChildCount(); i++){
+      ParseTree specifier = spec.getChild(i);
+      if(!(specifier instanceof CParser.TypeSpecDecSpecContext) || !(((CParser.TypeSpecDecSpecContext) specifier).type instanceof CParser.BaseTypeSpecContext)) return;
+      switch(specifier.getText()){
+        case "int": case "signed": case "unsigned":
+          break;
+        case "float": case "double":
+          isReal = true;
+          break;
+        default:
+          return;
+      }
+    }
+    candidates.add(dec);
+    real.put(dec, isReal);
+  }
+
+  // the promoted local that tree only names, null for any other tree
+  private STO promotedVariable(ParseTree tree){
+    while(tree.getChildCount() == 1 && !(tree instanceof CParser.IdPrimaryExprContext)) tree = tree.getChild(0);
+    if(!(tree instanceof CParser.IdPrimaryExprContext)) return null;
+    STO var = getIDSymbolTable(((CParser.IdPrimaryExprContext) tree).id.getText());
+    return var != null && var.getRegister() != null ? var : null;
+  }
+
+  // every identifier used in tree
+  private static void identifiers(ParseTree tree, Set<String> ids){
+    Stack<ParseTree> nodes = new Stack<ParseTree>();
+    nodes.push(tree);
+    while(!nodes.isEmpty()){
+      ParseTree node = nodes.pop();
+      if(node instanceof CParser.IdPrimaryExprContext) ids.add(((CParser.IdPrimaryExprContext) node).id.getText());
+      for(int i=0; i<node.getChildCount(); i++) nodes.push(node.getChild(i));
+    }
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // per function cache key: the definition's source text, then every global symbol named in it
+  // (variable, typedef, struct definition, function, enum constant) as this compile sees it.
+  // Words are taken from the text rather than the tree: every token sits under a long chain
+  // of expression rules, the characters are much cheaper to walk. Words in strings, keywords
+  // and locals are looked up too, they only make the key more specific.
+  String functionKey(CParser.FunctionDefinitionContext ctx){
+    String text = ctx.start.getInputStream().getText(Interval.of(ctx.start.getStartIndex(), ctx.stop.getStopIndex()));
+    StringBuilder description = new StringBuilder(text.length() + 256).append(text).append('\0');
+    Set<String> words = new HashSet<String>();
+    for(int i=0; i<text.length(); ){
+      char c = text.charAt(i);
+      if(!Character.isJavaIdentifierPart(c)){
+        i++;
+        continue;
+      }
+      int start = i;
+      while(i < text.length() && Character.isJavaIdentifierPart(text.charAt(i))) i++;
+      String word = text.substring(start, i);
+      if(!Character.isDigit(c) && words.add(word)) describe(description, word); // numbers are not names
+    }
+    return functions.key(description);
+  }
+
+  void describe(StringBuilder sb, String id){
+    STO variable = symbolTable.get(id);
+    STO function = symbolTable.getFunction(id);
+    ConstEvaluator.Value value = enum_values.get(id);
+    if(variable == null && function == null && value == null) return;
+    sb.append(id).append('=');
+    if(variable != null) variable.describe(sb);
+    sb.append('|');
+    if(function != null) function.describe(sb);
+    sb.append('|').append(value).append(';');
+  }
+
+  // copy a cached function: take its labels and literals again from this unit, rename where they differ
+  void replay(FunctionCache.Entry cached){
+    Map<String, String> names = new HashMap<String, String>();
+    for(String label: cached.labels){
+      String name = makeName(FunctionCache.base(label));
+      if(!name.equals(label)) names.put(label, name);
+    }
+    for(int i=0; i<cached.literals.length; i++){
+      String label = literals.label(cached.contents[i]);
+      if(!label.equals(cached.literals[i])) names.put(cached.literals[i], label);
+    }
+    out.print(names.isEmpty() ? cached.text : FunctionCache.rename(cached.text, names));
   }
 
   ////////////////////////////////////////////////////////////////////////////////////
@@ -1261,6 +1680,8 @@ public class CCompiler extends CBaseVisitor<String> {
       if(pointer_depth == 0){
         varObj = new Variable(1, mem++, ID, isGlobalScope(), current_type);
         if(current_type == types.DOUBLE) mem++;
+        String reg = promoted.get(ctx);
+        if(reg != null && promotable(varObj, reg)) varObj.setRegister(reg);
       }
       else 
         varObj = new Pointer(1, mem++, ID, isGlobalScope(), current_type, pointer_depth);
@@ -1282,7 +1703,7 @@ public class CCompiler extends CBaseVisitor<String> {
     mem = 0;
     this.visit(ctx.paramL);
     current_function_object.setParamCount(param_count);
-    setIDSymbolTable(("1" + functionName), current_function_object);
+    setFunctionSymbolTable(functionName, current_function_object);
     return functionName;
   }
 
@@ -1296,7 +1717,7 @@ public class CCompiler extends CBaseVisitor<String> {
     mem = 0;
     if(ctx.idL != null) this.visit(ctx.idL);
     current_function_object.setParamCount(param_count);
-    setIDSymbolTable(("1" + functionName), current_function_object);
+    setFunctionSymbolTable(functionName, current_function_object);
     return functionName;
   }
 
@@ -1308,67 +1729,68 @@ public class CCompiler extends CBaseVisitor<String> {
   @Override
   public String visitFuncInvocPostExpr(CParser.FuncInvocPostExprContext ctx){
     String functionName = this.visit(ctx.expr); // get function ID. From symbol table with type return later
-    current_func_invoc.add(getIDSymbolTable(("1" + functionName)));
-    int argsCount = getIDSymbolTable(("1" + functionName)).getParamCount(); // prepare to move the stack pointer accordingly
+    STO function = getFunctionSymbolTable(functionName);
+    current_func_invoc.add(function);
+    int argsCount = function.getParamCount(); // prepare to move the stack pointer accordingly
     mem += Math.max(4, argsCount); // allocate at least 4 locations as subroutine is allowed to write over the 4 arguments
     // current_arguments_context.add(argsCount-1); // save the count state for parameters (for nested cases like f(g(1), h(2, 3)) where another function gets ready for parameters). -1 because index starts at 0
     current_arguments_context.add(0); // start at offset zero in the argument context
     current_mem_context.add(0);
-    System.out.println("addiu $sp, $sp, " + -4*(mem)); // secure memory locations for arguments. CURRENTLY INTEGERS. LATER USE THE TABLE
+    out.println("addiu $sp, $sp, " + -4*(mem)); // secure memory locations for arguments. CURRENTLY INTEGERS. LATER USE THE TABLE
     if(ctx.args != null) this.visit(ctx.args); // get parameters
     int arg = 0;
     boolean seenInt = false;
     int offset = 0;
     for(int i=0; i<4 && i<argsCount; i++){  // store parameters in $a0-$a3 or $f12-$f14
-      switch(getIDSymbolTable(("1" + functionName)).getParameter(i)){
+      switch(function.getParameter(i)){
         case DOUBLE:
           if(arg < 3){
             offset++;
             if(seenInt){
               if(arg == 1) arg++;
-              System.out.println("lw $a" + arg++ + ", " + 4*(offset++) + "($sp)");
-              System.out.println("lw $a" + arg++ + ", " + 4*(offset) + "($sp)");
+              out.println("lw $a" + arg++ + ", " + 4*(offset++) + "($sp)");
+              out.println("lw $a" + arg++ + ", " + 4*(offset) + "($sp)");
             }
             else
               if(i==0)
-                {System.out.println("l.d $f12, " + 4*(offset++) + "($sp)");arg+=2;}
+                {out.println("l.d $f12, " + 4*(offset++) + "($sp)");arg+=2;}
               else if(i==1)
-                {System.out.println("l.d $f14, " + 4*(offset++) + "($sp)");arg+=2;}
+                {out.println("l.d $f14, " + 4*(offset++) + "($sp)");arg+=2;}
               else
-                {System.out.println("lw $a" + arg++ + ", " + 4*(offset++) + "($sp)"); System.out.println("lw $a" + arg++ + ", " + -4*(offset) + "($sp)");}
+                {out.println("lw $a" + arg++ + ", " + 4*(offset++) + "($sp)"); out.println("lw $a" + arg++ + ", " + -4*(offset) + "($sp)");}
           }
           break;
         case FLOAT:
           if(arg < 4){
             if(seenInt)
-              System.out.println("lw $a" + arg++ + ", " + 4*(offset++) + "($sp)");
+              out.println("lw $a" + arg++ + ", " + 4*(offset++) + "($sp)");
             else
               if(i==0)
-                {System.out.println("l.s $f12, " + 4*(offset++) + "($sp)");arg++;}
+                {out.println("l.s $f12, " + 4*(offset++) + "($sp)");arg++;}
               else if(i==1)
-                {System.out.println("l.s $f14, " + 4*(offset++) + "($sp)");arg++;}
+                {out.println("l.s $f14, " + 4*(offset++) + "($sp)");arg++;}
               else
-                System.out.println("lw $a" + arg++ + ", " + 4*(offset++) + "($sp)");
+                out.println("lw $a" + arg++ + ", " + 4*(offset++) + "($sp)");
           }
           break;
         default:
           seenInt = true;
           if(arg < 4){
-            switch(getIDSymbolTable(("1" + functionName)).getParameter(i)){
+            switch(function.getParameter(i)){
               case CHAR:
-                System.out.println("lb $a" + arg++ + ", " + 4*(offset++) + "($sp)");
+                out.println("lb $a" + arg++ + ", " + 4*(offset++) + "($sp)");
                 break;
               case SHORT:
-                System.out.println("lh $a" + arg++ + ", " + 4*(offset++) + "($sp)");
+                out.println("lh $a" + arg++ + ", " + 4*(offset++) + "($sp)");
                 break;
               default:
-                System.out.println("lw $a" + arg++ + ", " + 4*(offset++) + "($sp)");
+                out.println("lw $a" + arg++ + ", " + 4*(offset++) + "($sp)");
             }
           }
       }
     }
-    System.out.println("jal " + functionName + "\nnop"); // jump and link
-    System.out.println("addiu $sp, $sp, " + 4*(mem)); // restore stack
+    out.println("jal " + functionName + "\nnop"); // jump and link
+    out.println("addiu $sp, $sp, " + 4*(mem)); // restore stack
     current_type = current_func_invoc.pop().getType();
     current_mem_context.pop();
     current_arguments_context.pop();
@@ -1401,49 +1823,39 @@ public class CCompiler extends CBaseVisitor<String> {
   // function invocation arguments
   @Override
   public String visitSingleArgExprList(CParser.SingleArgExprListContext ctx) { 
-    Integer currentArgumentCount = current_arguments_context.pop();
-    Integer offset = current_mem_context.pop();
-    current_type = current_func_invoc.peek().getParameter(current_func_invoc.peek().getSize() - currentArgumentCount - 1);
-    this.visit(ctx.expr); // value is in $v0 or $f0. Only bottom part of stack is being used
-    switch(current_type){
-      case DOUBLE:{
-        System.out.println("s.d $f0, " + 4*(++offset) + "($sp)");
-        break;
-      }
-      case FLOAT:{
-        System.out.println("s.s $f0, " + 4*offset + "($sp)");
-        break;
-      }
-      default:
-        System.out.println("sw $v0, " + 4*offset + "($sp)");
-    }
-    current_mem_context.add(offset+1);
-    current_arguments_context.add(currentArgumentCount+1);  // argument currently treated as integer with size 1 not 4. Later refer to typeSize table
+    argument(ctx.expr);
     return "";
   }
 
   @Override
   public String visitMultArgExprList(CParser.MultArgExprListContext ctx) { 
-    this.visit(ctx.args);
+    for(CParser.ArgumentExpressionListContext args: spine(ctx, CParser.ArgumentExpressionListContext.class)){
+      if(args instanceof CParser.MultArgExprListContext) argument(((CParser.MultArgExprListContext) args).expr);
+      else this.visit(args);
+    }
+    return "";
+  }
+
+  // next argument of the current invocation, stored at the bottom of the stack
+  private void argument(CParser.AssignmentExpressionContext expr){
     Integer currentArgumentCount = current_arguments_context.pop();
     Integer offset = current_mem_context.pop();
     current_type = current_func_invoc.peek().getParameter(current_func_invoc.peek().getSize() - currentArgumentCount - 1);
-    this.visit(ctx.expr); // value is in $v0 or $f0. Only bottom part of stack is being used
+    this.visit(expr); // value is in $v0 or $f0. Only bottom part of stack is being used
     switch(current_type){
       case DOUBLE:{
-        System.out.println("s.d $f0, " + 4*(++offset) + "($sp)");
+        out.println("s.d $f0, " + 4*(++offset) + "($sp)");
         break;
       }
       case FLOAT:{
-        System.out.println("s.s $f0, " + 4*offset + "($sp)");
+        out.println("s.s $f0, " + 4*offset + "($sp)");
         break;
       }
       default:
-        System.out.println("sw $v0, " + 4*offset + "($sp)");
+        out.println("sw $v0, " + 4*offset + "($sp)");
     }
     current_mem_context.add(offset+1);
-    current_arguments_context.add(currentArgumentCount+1);
-    return "";
+    current_arguments_context.add(currentArgumentCount+1);  // argument currently treated as integer with size 1 not 4. Later refer to typeSize table
   }
 
 
@@ -1478,12 +1890,12 @@ public class CCompiler extends CBaseVisitor<String> {
         if(isEscapeSequence(intConst_val)){
           int[] escape_val = escapeSequenceValue(intConst_val);
           intConst_val =  Integer.toString(escape_val[0]);
-          System.out.println("li $v0, " + intConst_val);
+          out.println("li $v0, " + intConst_val);
         } 
         else{
           int ascii_val = (int) intConst_val.charAt(0);
           intConst_val =  Integer.toString(ascii_val);
-          System.out.println("li $v0, " + intConst_val);
+          out.println("li $v0, " + intConst_val);
         }
       } 
       else{ // not a character cases
@@ -1491,18 +1903,18 @@ public class CCompiler extends CBaseVisitor<String> {
         switch(current_type){
           case FLOAT:
             int f0 = floatBits(Float.parseFloat(intConst_val));
-            System.out.println("li $t4, " + f0 + "\nsw $t4, " + -4*mem + "($sp)\nl.s $f0, " + -4*mem + "($sp)"); // $sp because inside function arguments as well. Maybe offseted at that stage
+            out.println("li $t4, " + f0 + "\nsw $t4, " + -4*mem + "($sp)\nl.s $f0, " + -4*mem + "($sp)"); // $sp because inside function arguments as well. Maybe offseted at that stage
             break;
           case DOUBLE:
             f0 = doubleBits(Double.parseDouble(intConst_val))[1];
             int f1 = doubleBits(Double.parseDouble(intConst_val))[0];
-            System.out.println("li $t4, " + f0 + "\nsw $t4, " + -4*(mem++) + "($sp)");
-            System.out.println("li $t4, " + f1 + "\nsw $t4, " + -4*mem + "($sp)");
-            System.out.println("l.d $f0, " + -4*mem-- + "($sp)");
+            out.println("li $t4, " + f0 + "\nsw $t4, " + -4*(mem++) + "($sp)");
+            out.println("li $t4, " + f1 + "\nsw $t4, " + -4*mem + "($sp)");
+            out.println("l.d $f0, " + -4*mem-- + "($sp)");
 
             break;
           default:
-            System.out.println("li $v0, " + intConst_val);
+            out.println("li $v0, " + intConst_val);
         }
       }
     }
@@ -1519,60 +1931,62 @@ public class CCompiler extends CBaseVisitor<String> {
       if(var.getSTOType() == STOtypes.STRUCT) return id;
       if(!var.isGlobal()){
         if(var.getSTOType() == STOtypes.ARR){
-          System.out.println("addiu $v0, $fp, " + -4*getIDSymbolTable(id).getOffset()); // address of array. Ex: {int a[3]; return a;} returns address of array
+          out.println("addiu $v0, $fp, " + -4*getIDSymbolTable(id).getOffset()); // address of array. Ex: {int a[3]; return a;} returns address of array
         }else{
           if(var.getSTOType() == STOtypes.PTR){
-            System.out.println("lw $v0, " + -4*getIDSymbolTable(id).getOffset() + "($fp)"); // value of pointer is always in a word despite the type
+            out.println("lw $v0, " + -4*getIDSymbolTable(id).getOffset() + "($fp)"); // value of pointer is always in a word despite the type
+          }else if(var.getRegister() != null){
+            out.println(copy(var.getType(), isReal(var.getType()) ? "$f0" : "$v0", var.getRegister()));
           }else{
             switch(var.getType()){
               case CHAR:{
-                System.out.println("lb $v0, " + -4*getIDSymbolTable(id).getOffset() + "($fp)");
+                out.println("lb $v0, " + -4*getIDSymbolTable(id).getOffset() + "($fp)");
                 break;
               }
               case SHORT:{
-                System.out.println("lh $v0, " + -4*getIDSymbolTable(id).getOffset() + "($fp)");
+                out.println("lh $v0, " + -4*getIDSymbolTable(id).getOffset() + "($fp)");
                 break;
               }
               case FLOAT:{
-                System.out.println("l.s $f0, " + -4*getIDSymbolTable(id).getOffset() + "($fp)");
+                out.println("l.s $f0, " + -4*getIDSymbolTable(id).getOffset() + "($fp)");
                 break;
               }
               case DOUBLE:{
-                System.out.println("l.d $f0, " + -4*(getIDSymbolTable(id).getOffset()+1) + "($fp)"); // should load te pair into $f0, $f1
+                out.println("l.d $f0, " + -4*(getIDSymbolTable(id).getOffset()+1) + "($fp)"); // should load te pair into $f0, $f1
                 break;
               }
               default:
-                System.out.println("lw $v0, " + -4*getIDSymbolTable(id).getOffset() + "($fp)");
+                out.println("lw $v0, " + -4*getIDSymbolTable(id).getOffset() + "($fp)");
                 break;
             }
           }
         }
       }else{
         if(var.getSTOType() == STOtypes.ARR){
-          System.out.println("lui $v0, %hi(" + id +")\naddiu $v0, $v0, %lo(" + id + ")");
+          out.println("lui $v0, %hi(" + id +")\naddiu $v0, $v0, %lo(" + id + ")");
         }else{
           if(var.getSTOType() == STOtypes.PTR){
-            System.out.println("lui $v0,%hi(" + id + ")\nlw $v0,%lo(" + id + ")($v0)");
+            out.println("lui $v0,%hi(" + id + ")\nlw $v0,%lo(" + id + ")($v0)");
           } else{
             switch(var.getType()){
               case CHAR:{
-                  System.out.println("lui $v0,%hi(" + id + ")\nlb $v0,%lo(" + id + ")($v0)");
+                  out.println("lui $v0,%hi(" + id + ")\nlb $v0,%lo(" + id + ")($v0)");
                   break;
               }
               case SHORT:{
-                  System.out.println("lui $v0,%hi(" + id + ")\nlh $v0,%lo(" + id + ")($v0)");
+                  out.println("lui $v0,%hi(" + id + ")\nlh $v0,%lo(" + id + ")($v0)");
                   break;
               }
               case FLOAT:{
-                  System.out.println("lui $v0,%hi(" + id + ")\nl.s $f0,%lo(" + id + ")($v0)");
+                  out.println("lui $v0,%hi(" + id + ")\nl.s $f0,%lo(" + id + ")($v0)");
                   break;
               }
               case DOUBLE:{
-                  System.out.println("lui $v0,%hi(" + id + ")\nl.d $f0,%lo(" + id + "+4)($v0)");
+                  out.println("lui $v0,%hi(" + id + ")\nl.d $f0,%lo(" + id + "+4)($v0)");
                   break;
               }
               default:{
-                System.out.println("lui $v0,%hi(" + id + ")\nlw $v0,%lo(" + id + ")($v0)");
+                out.println("lui $v0,%hi(" + id + ")\nlw $v0,%lo(" + id + ")($v0)");
                 break;
               }
             }
@@ -1581,7 +1995,7 @@ public class CCompiler extends CBaseVisitor<String> {
       }
     }else{
       // could be a function
-      if(getIDSymbolTable("1" + id) == null)
+      if(getFunctionSymbolTable(id) == null)
         // if(!halt) throwIllegalArgument(id, "IdPrimaryExpr (ID NOT FOUND)"); // or tell the users "yo you didn't define that function"
         if(!halt) System.err.println(ANSI_RED + "ERROR: reference to '" + id + "' was never defined" + ANSI_RESET);
       return id;
@@ -1625,17 +2039,21 @@ public class CCompiler extends CBaseVisitor<String> {
         current_string_object = null;
       } 
       else{ //int array
-        // System.out.println(Arrays.toString(values));
-        getIDSymbolTable(id).initialize(values);
+        // out.println(Arrays.toString(values));
+        getIDSymbolTable(id).initialize(out, values);
         mem += current_array_object.getElementsCount();
         indexes = null;
       }
     }else{
       if(!getIDSymbolTable(id).isGlobal()){
         this.visit(ctx.right);
-        getIDSymbolTable(id).initialize("");
-      }else
-        getIDSymbolTable(id).initialize(ctx.right.getText());
+        getIDSymbolTable(id).initialize(out, "");
+      }else{
+        ConstEvaluator.Value value = constants.fold(ctx.right); // null for strings and addresses, the pointer handles those
+        types type = getIDSymbolTable(id).getType();
+        if(value != null && type != null) value = value.to(type);
+        getIDSymbolTable(id).initialize(out, value != null ? value.toString() : ctx.right.getText());
+      }
     }
     current_array_object = null; // we are done initializing the array
     return "";
@@ -1661,7 +2079,7 @@ public class CCompiler extends CBaseVisitor<String> {
     else if(current_array_object != null){
       //int array
         values = new double[current_array_object.getElementsCount()];
-        if(!extern) getIDSymbolTable(id).initialize(values);
+        if(!extern) getIDSymbolTable(id).initialize(out, values);
         switch(getIDSymbolTable(id).getType()){
           case CHAR:
             mem += (current_array_object.getElementsCount()/4 + (current_array_object.getElementsCount()%4 == 0 ? 0 : 1));
@@ -1673,7 +2091,7 @@ public class CCompiler extends CBaseVisitor<String> {
             mem += current_array_object.getElementsCount();
         }
     }else if(current_function_object == null && current_struct_object == null){
-      if(!extern) getIDSymbolTable(id).initialize("0");
+      if(!extern) getIDSymbolTable(id).initialize(out, "0");
     }
     current_array_object = null; // we are done initializing the array
     current_function_object = isGlobalScope() ? null : current_function_object; // we are done declaring the function
@@ -1710,10 +2128,10 @@ public class CCompiler extends CBaseVisitor<String> {
         }
       } 
       else{ // for int arrays
-        // System.out.println(Arrays.toString(indexes) + " for value " + ctx.expr.getText() + " stored at " + index);
+        // out.println(Arrays.toString(indexes) + " for value " + ctx.expr.getText() + " stored at " + index);
         switch(current_type){
           default:
-            values[index] = Double.parseDouble(interpret(ctx.expr.getText()));
+            values[index] = Double.parseDouble(interpret(ctx.expr));
         }
         indexes[index_position]++;
       }
@@ -1733,78 +2151,96 @@ public class CCompiler extends CBaseVisitor<String> {
     return ret;
   }
 
+  // {a, b, [2] = c...} elements in order
+  @Override
+  public String visitMultInitList(CParser.MultInitListContext ctx) {
+    String ret = "";
+    for(CParser.InitializerListContext initL: spine(ctx, CParser.InitializerListContext.class)){
+      if(initL instanceof CParser.MultInitListContext){
+        CParser.MultInitListContext element = (CParser.MultInitListContext) initL;
+        if(element.des != null) this.visit(element.des);
+        ret = this.visit(element.init);
+      }else{
+        ret = this.visit(initL);
+      }
+    }
+    return ret;
+  }
+
   ////////////////////////////////////////////////////////////////////////////////////
   // unary manipulation
   // ADD POINTERS IMPLEMENTATION HERE
   @Override
   public String visitCastUnaryExpr(CParser.CastUnaryExprContext ctx){
+    String op = ctx.left.getText();
+    if((op.equals("-") || op.equals("~")) && foldConstant(ctx, false)) return "";
+    if(op.equals("!") && current_type != types.FLOAT && current_type != types.DOUBLE && foldConstant(ctx, true)) return "";
     String id = this.visit(ctx.right);
     String unaryOp = this.visit(ctx.left);
-    if(halt) return id;
     switch(unaryOp){
       case "+":
         break;
       case "-":
         switch(current_type){
           case DOUBLE:
-            System.out.println("neg.d $f0, $f0");
+            out.println("neg.d $f0, $f0");
             break;
           case FLOAT:
-            System.out.println("neg.s $f0, $f0");
+            out.println("neg.s $f0, $f0");
             break;
           default:
-            System.out.println("subu $v0, $zero, $v0"); // return v0/f0 becomes -v0/-f0
+            out.println("subu $v0, $zero, $v0"); // return v0/f0 becomes -v0/-f0
         }
         break;
       case "~":
-        System.out.println("not $v0, $v0"); // ~v0 = bitwiseNOT($v0)
+        out.println("not $v0, $v0"); // ~v0 = bitwiseNOT($v0)
         break;
       case "!": // TODO FOR DOUBLES AND FLOAT
         switch(current_type){
           case DOUBLE:
-            System.out.println("li $t1,1072693248\nmtc1.d $t1, $f4");
-            System.out.println("c.eq.s $f4, $f0\nl.s $f0, " + -4*mem-- + "($sp)");
+            out.println("li $t1,1072693248\nmtc1.d $t1, $f4");
+            out.println("c.eq.s $f4, $f0\nl.s $f0, " + -4*mem-- + "($sp)");
             break;
           case FLOAT:
-            System.out.println("li $t1,1065353216\nmtc1.d $t1, $f4");
-            System.out.println("c.eq.s $f4, $f0\nl.s $f0, " + -4*mem-- + "($sp)");
+            out.println("li $t1,1065353216\nmtc1.d $t1, $f4");
+            out.println("c.eq.s $f4, $f0\nl.s $f0, " + -4*mem-- + "($sp)");
             break;
           default:
-          System.out.println("seq $v0, $v0, $zero"); // !v0 = $v0 == 0 ? 1 : 0
+          out.println("seq $v0, $v0, $zero"); // !v0 = $v0 == 0 ? 1 : 0
         }
         break;
       case "&":
         // we want the address of x, which is the offset of variable x added to frame pointer if it's a local variable
         // otherwise use the semantic for global variables
-        if(getIDSymbolTable(id).isGlobal()) System.out.println("lui $v0, %hi(" + id +")\naddiu $v0, $v0, %lo(" + id + ")");
-        else System.out.println("addiu $v0, $fp, " + -4*getIDSymbolTable(id).getOffset());
+        if(getIDSymbolTable(id).isGlobal()) out.println("lui $v0, %hi(" + id +")\naddiu $v0, $v0, %lo(" + id + ")");
+        else out.println("addiu $v0, $fp, " + -4*getIDSymbolTable(id).getOffset());
         break;
       case "*": // need to read how many stars we are propagating
         // store destination in $v1
         if(pointer_jumps == 0){
           pointer_jumps = getIDSymbolTable(id).getDepth() + 1;
         }
-        System.out.println("addu $v1, $v0, $zero");
+        out.println("addu $v1, $v0, $zero");
         if(pointer_jumps > 2){
-          System.out.println("lw $v0, 0($v0)"); // pointing to another pointer, not a variable
+          out.println("lw $v0, 0($v0)"); // pointing to another pointer, not a variable
         }else{
           // once we dereference a pointer fully, no more need to shift for operations, it's a variable
           pointer_mul = 0;
           switch(getIDSymbolTable(id).getType()){
             case DOUBLE:
-              System.out.println("l.d $f0, 0($v0)");
+              out.println("l.d $f0, 0($v0)");
               break;
             case FLOAT:
-              System.out.println("l.s $f0, 0($v0)");
+              out.println("l.s $f0, 0($v0)");
               break;
             case CHAR:
-              System.out.println("lb $v0, 0($v0)");
+              out.println("lb $v0, 0($v0)");
               break;
             case SHORT:
-              System.out.println("lh $v0, 0($v0)");
+              out.println("lh $v0, 0($v0)");
               break;
             default:
-              System.out.println("lw $v0, 0($v0)");
+              out.println("lw $v0, 0($v0)");
           }
         }
         pointer_jumps --;
@@ -1827,10 +2263,10 @@ public class CCompiler extends CBaseVisitor<String> {
     current_type = parseType(typeval);
     if(getIDSymbolTable(typeval) != null && getIDSymbolTable(typeval).getSTOType() == STOtypes.STRUCTDEF) current_struct_object = new Struct();
     this.visit(ctx.initList);
-    String id = ctx.initList.getText();
+    String id = text(ctx.initList);
     if(getIDSymbolTable(typeval) != null && getIDSymbolTable(typeval).getSTOType() == STOtypes.STRUCTDEF){
       STO templateStruct = getIDSymbolTable(typeval);
-      STO obj = new Struct(-(--mem), id, isGlobalScope(), templateStruct);
+      STO obj = new Struct(out, -(--mem), id, isGlobalScope(), templateStruct);
       setIDSymbolTable(id, obj);
       mem += obj.getSize();
     }
@@ -1838,6 +2274,15 @@ public class CCompiler extends CBaseVisitor<String> {
     return id;
   }
 
+  // int a, b = 1, c[3]... declarators in order
+  @Override public String visitMultInitDecList(CParser.MultInitDecListContext ctx) {
+    String ret = "";
+    for(CParser.InitDeclaratorListContext decL: spine(ctx, CParser.InitDeclaratorListContext.class)){
+      ret = this.visit(decL instanceof CParser.MultInitDecListContext ? ((CParser.MultInitDecListContext) decL).dec : decL);
+    }
+    return ret;
+  }
+
   @Override public String visitBaseTypeSpec(CParser.BaseTypeSpecContext ctx) { 
     current_type = parseType(ctx.type.getText());
     return ctx.type.getText();
@@ -1856,23 +2301,23 @@ public class CCompiler extends CBaseVisitor<String> {
   ////////////////////////////////////////////////////////////////////////////////////
   // string initialization for char pointers
   @Override public String visitStrLitPrimaryExpr(CParser.StrLitPrimaryExprContext ctx) {
-    String str = ctx.val.getText();
-    String sstr = str.substring(1, str.length()-1); //removing the ""s or ''
-
-
-    lc_out += "\n$LC" + lc_index + ":";
-    int i;
-    for(i=0; i<sstr.length(); i++){
-      char curr = sstr.charAt(i);
-      int charVal = (int)curr;
-      if(curr == '\\'){
-        charVal = CCompiler.escapeSequenceValue(curr+ Character.toString(sstr.charAt(i+1)))[0];
-        i++;
+    StringBuilder contents = new StringBuilder();
+    for(TerminalNode literal: ctx.StringLiteral()){ // "ab" "cd" is the single literal "abcd"
+      String str = literal.getText();
+      String sstr = str.substring(str.indexOf('"')+1, str.length()-1); //removing the ""s
+      for(int i=0; i<sstr.length(); i++){
+        char curr = sstr.charAt(i);
+        int charVal = (int)curr;
+        if(curr == '\\'){
+          charVal = CCompiler.escapeSequenceValue(curr+ Character.toString(sstr.charAt(i+1)))[0];
+          i++;
+        }
+        contents.append((char)charVal);
       }
-      lc_out += "\n\t.byte " + charVal;
     }
-    lc_out += "\n\t.byte 0";
-    System.out.println("lui $v0,%hi($LC" + lc_index + ")\naddiu $v0,$v0,%lo($LC" + lc_index++ + ")");
+    String label = literals.label(contents.toString());
+    if(recording != null) recording.literal(label, contents.toString());
+    out.println("lui $v0,%hi(" + label + ")\naddiu $v0,$v0,%lo(" + label + ")");
     return "";
   }
 
@@ -1891,43 +2336,42 @@ public class CCompiler extends CBaseVisitor<String> {
     // load address into $v1
     STO obj = getIDSymbolTable(id).getMember(invo);  // TODO: could be a pointer or an array, copy the necessary conditions check
     current_type = obj.getType();
-    if(halt) return id;
     if(!getIDSymbolTable(id).isGlobal()){
-      System.out.println("addiu $v1, $fp, " + obj.getOffset());
+      out.println("addiu $v1, $fp, " + obj.getOffset());
       switch(obj.getType()){
         case DOUBLE:
-          System.out.println("l.d $f0, " + obj.getOffset() + "($fp)");
+          out.println("l.d $f0, " + obj.getOffset() + "($fp)");
           break;
         case FLOAT:
-          System.out.println("l.s $f0, " + obj.getOffset() + "($fp)");
+          out.println("l.s $f0, " + obj.getOffset() + "($fp)");
           break;
         case CHAR:
-          System.out.println("lb $v0, " + obj.getOffset() + "($fp)");
+          out.println("lb $v0, " + obj.getOffset() + "($fp)");
           break;
         case SHORT:
-          System.out.println("lh $v0, " + obj.getOffset() + "($fp)");
+          out.println("lh $v0, " + obj.getOffset() + "($fp)");
           break;
         default:
-          System.out.println("lw $v0, " + obj.getOffset() + "($fp)");
+          out.println("lw $v0, " + obj.getOffset() + "($fp)");
       }
     }else{
       int offset = obj.getOffset();
-      System.out.println("la $v1, " + id + "+" + offset);
+      out.println("la $v1, " + id + "+" + offset);
       switch(obj.getType()){
         case DOUBLE:
-          System.out.println("l.d $f0, 0($v1)");
+          out.println("l.d $f0, 0($v1)");
           break;
         case FLOAT:
-          System.out.println("l.s $f0, 0($v1)");
+          out.println("l.s $f0, 0($v1)");
           break;
         case CHAR:
-          System.out.println("lb $v0, 0($v1)");
+          out.println("lb $v0, 0($v1)");
           break;
         case SHORT:
-          System.out.println("lh $v0, 0($v1)");
+          out.println("lh $v0, 0($v1)");
           break;
         default:
-          System.out.println("lw $v0, 0($v1)");;
+          out.println("lw $v0, 0($v1)");;
       }
     }
       return id;
@@ -1979,6 +2423,14 @@ public class CCompiler extends CBaseVisitor<String> {
     visitChildren(ctx);
     return current_structdef_object.getID();
   }
+
+  @Override public String visitMultStructDecList(CParser.MultStructDecListContext ctx) {
+    String ret = "";
+    for(CParser.StructDeclarationListContext decL: spine(ctx, CParser.StructDeclarationListContext.class)){
+      ret = this.visit(decL instanceof CParser.MultStructDecListContext ? ((CParser.MultStructDecListContext) decL).dec : decL);
+    }
+    return ret;
+  }
   
   // left is type (visit) and right is ID but in typedefName context (just getText)
   @Override public String visitSpecSpecQualList(CParser.SpecSpecQualListContext ctx) {
@@ -2017,7 +2469,7 @@ public class CCompiler extends CBaseVisitor<String> {
   // break statement
   @Override
   public String visitBreakJumpStat(CParser.BreakJumpStatContext ctx) {
-    System.out.println("j " + current_break_context.peek() + "\nnop");
+    out.println("j " + current_break_context.peek() + "\nnop");
     return "";
   }
 
@@ -2025,7 +2477,7 @@ public class CCompiler extends CBaseVisitor<String> {
   // continue statement
   @Override
   public String visitContinueJumpStat(CParser.ContinueJumpStatContext ctx) {
-    System.out.println("j " + current_continue_context.peek() + "\nnop");
+    out.println("j " + current_continue_context.peek() + "\nnop");
     return "";
   }
 
@@ -2035,7 +2487,7 @@ public class CCompiler extends CBaseVisitor<String> {
   public String visitReturnJumpStat(CParser.ReturnJumpStatContext ctx){
     current_type = current_function_object.getType();
     if(ctx.expr != null) this.visit(ctx.expr);
-    System.out.println("j " + current_return_context.peek() + "\nnop");
+    out.println("j " + current_return_context.peek() + "\nnop");
     return "";
   }
 
@@ -2058,19 +2510,20 @@ public class CCompiler extends CBaseVisitor<String> {
   // logical OR
   @Override
   public String visitOpLogOrExpr(CParser.OpLogOrExprContext ctx){
+    if(foldConstant(ctx, true)) return "";
     String successEnd = makeName("logical_or_success");
     String failEnd = makeName("logical_or_fail");
 
     this.visit(ctx.left);
-    System.out.println("bne $v0, $zero, " + successEnd + "\nnop"); // if left not zero, return true
+    out.println("bne $v0, $zero, " + successEnd + "\nnop"); // if left not zero, return true
 
     this.visit(ctx.right);
-    System.out.println("bne $v0, $zero, " + successEnd + "\nnop"); // if right not zero, return true
+    out.println("bne $v0, $zero, " + successEnd + "\nnop"); // if right not zero, return true
 
-    System.out.println("li $v0, 0"); // both were zero, return false
-    System.out.println("j " + failEnd + "\nnop");
+    out.println("li $v0, 0"); // both were zero, return false
+    out.println("j " + failEnd + "\nnop");
     insertLabel(successEnd);
-    System.out.println("li $v0, 1");
+    out.println("li $v0, 1");
     insertLabel(failEnd);
     return "";
   }
@@ -2079,19 +2532,20 @@ public class CCompiler extends CBaseVisitor<String> {
   // logical AND
   @Override
   public String visitOpLogAndExpr(CParser.OpLogAndExprContext ctx){
+    if(foldConstant(ctx, true)) return "";
     String successEnd = makeName("logical_and_success");
     String failEnd = makeName("logical_and_fail");
 
     this.visit(ctx.left);
-    System.out.println("beq $v0, $zero, " + failEnd + "\nnop"); // if left is zero, return false
+    out.println("beq $v0, $zero, " + failEnd + "\nnop"); // if left is zero, return false
 
     this.visit(ctx.right);
-    System.out.println("beq $v0, $zero, " + failEnd + "\nnop"); // if right is zero, return false
+    out.println("beq $v0, $zero, " + failEnd + "\nnop"); // if right is zero, return false
 
-    System.out.println("li $v0, 1"); // both weren't zero, return true
-    System.out.println("j " + successEnd + "\nnop");
+    out.println("li $v0, 1"); // both weren't zero, return true
+    out.println("j " + successEnd + "\nnop");
     insertLabel(failEnd);
-    System.out.println("li $v0, 0");
+    out.println("li $v0, 0");
     insertLabel(successEnd);
     return "";
   }
@@ -2100,8 +2554,10 @@ public class CCompiler extends CBaseVisitor<String> {
   // inclusive OR
   @Override
   public String visitOpIncOrExpr(CParser.OpIncOrExprContext ctx){
-    threeOp(ctx);
-    System.out.println("or $v0, $t0, $t1");
+    if(foldConstant(ctx, false)) return "";
+    Integer right = constantRight(ctx, c -> c >>> 16 == 0); // zero extended
+    if(right != null) out.println("ori $v0, " + lhs + ", " + right);
+    else out.println("or $v0, " + lhs + ", " + rhs);
     return "";
   }
 
@@ -2109,8 +2565,10 @@ public class CCompiler extends CBaseVisitor<String> {
   // exclusive OR
   @Override
   public String visitOpExcOrExpr(CParser.OpExcOrExprContext ctx){
-    threeOp(ctx);
-    System.out.println("xor $v0, $t0, $t1");
+    if(foldConstant(ctx, false)) return "";
+    Integer right = constantRight(ctx, c -> c >>> 16 == 0); // zero extended
+    if(right != null) out.println("xori $v0, " + lhs + ", " + right);
+    else out.println("xor $v0, " + lhs + ", " + rhs);
     return "";
   }
 
@@ -2118,8 +2576,10 @@ public class CCompiler extends CBaseVisitor<String> {
   // AND
   @Override
   public String visitOpAndExpr(CParser.OpAndExprContext ctx){
-    threeOp(ctx);
-    System.out.println("and $v0, $t0, $t1");
+    if(foldConstant(ctx, false)) return "";
+    Integer right = constantRight(ctx, c -> c >>> 16 == 0); // zero extended
+    if(right != null) out.println("andi $v0, " + lhs + ", " + right);
+    else out.println("and $v0, " + lhs + ", " + rhs);
     return "";
   }
 
@@ -2127,13 +2587,21 @@ public class CCompiler extends CBaseVisitor<String> {
   // shift operations (<< and >>)
   @Override
   public String visitOpShiftExpr(CParser.OpShiftExprContext ctx){
-    threeOp(ctx);
+    if(foldConstant(ctx, false)) return "";
+    Integer right = constantRight(ctx, c -> true);
+    current_type = left_type; // a shift has the type of its left operand, not of the count
+    boolean unsigned = current_type == types.UNSIGNED; // >> is logical on unsigned, arithmetic otherwise
+    if(right != null){
+      String op = ctx.op.getText().equals("<<") ? "sll" : unsigned ? "srl" : "sra";
+      out.println(op + " $v0, " + lhs + ", " + (right & 31)); // sllv / srlv / srav use 5 bits too
+      return "";
+    }
     switch(ctx.op.getText()){
       case("<<"):
-        System.out.println("sllv $v0, $t0, $t1");
+        out.println("sllv $v0, " + lhs + ", " + rhs);
         break;
       case(">>"):
-        System.out.println("srav $v0, $t0, $t1");
+        out.println((unsigned ? "srlv" : "srav") + " $v0, " + lhs + ", " + rhs);
         break;
       default:
         throwIllegalArgument(ctx.op.getText(), "OpShiftExpr");
@@ -2145,39 +2613,54 @@ public class CCompiler extends CBaseVisitor<String> {
   // MUL, DIV, MOD
   @Override
   public String visitOpMultExpr(CParser.OpMultExprContext ctx){
-    threeOp(ctx);
+    if(foldConstant(ctx, false)) return "";
+    Integer right = constantRight(ctx, c -> c != 0 || ctx.op.getText().equals("*"));
+    if(right != null){
+      boolean unsigned = current_type == types.UNSIGNED;
+      switch(ctx.op.getText()){
+        case "*":
+          StrengthReduction.multiply(out, "$v0", lhs, right, "$t1");
+          break;
+        case "/":
+          StrengthReduction.divide(out, "$v0", lhs, right, unsigned, "$t1", "$t2");
+          break;
+        default:
+          StrengthReduction.remainder(out, "$v0", lhs, right, unsigned, "$t1", "$t2");
+      }
+      return "";
+    }
     String op = " ";
     switch(ctx.op.getText()){
       case("*"):
         switch(current_type){
           case DOUBLE:
-            System.out.println("mul.d $f0, $f0, $f2");
+            out.println("mul.d $f0, " + real_lhs + ", " + real_rhs);
             break;
           case FLOAT:
-            System.out.println("mul.s $f0, $f0, $f2");
+            out.println("mul.s $f0, " + real_lhs + ", " + real_rhs);
             break;
           default:
-            System.out.println("mul $v0, $t0, $t1");
+            out.println("mul $v0, " + lhs + ", " + rhs);
         }
         break;
       case("/"):
         switch(current_type){
           case DOUBLE:
-            System.out.println("div.d $f0, $f0, $f2");
+            out.println("div.d $f0, " + real_lhs + ", " + real_rhs);
             break;
           case FLOAT:
-            System.out.println("div.s $f0, $f0, $f2");
+            out.println("div.s $f0, " + real_lhs + ", " + real_rhs);
             break;
           case UNSIGNED:
-            System.out.println("divu $v0, $t0, $t1");
+            out.println("divu $v0, " + lhs + ", " + rhs);
             break;
           default:
-            System.out.println("div $v0, $t0, $t1");
+            out.println("div $v0, " + lhs + ", " + rhs);
         }
         break;
       case("%"):
-        System.out.println("div $t0, $t1");
-        System.out.println("mfhi $v0");
+        out.println("div " + lhs + ", " + rhs);
+        out.println("mfhi $v0");
         break;
       default:
         throwIllegalArgument(ctx.op.getText(), "OpMultExpr");
@@ -2189,17 +2672,23 @@ public class CCompiler extends CBaseVisitor<String> {
   // ADD, SUB
   @Override
   public String visitOpAddExpr(CParser.OpAddExprContext ctx) {
-    threeOp(ctx);
+    if(foldConstant(ctx, false)) return "";
+    int sign = ctx.op.getText().equals("+") ? 1 : -1;
+    Integer right = constantRight(ctx, c -> MipsBackend.signed16(sign * c));
+    if(right != null){
+      out.println("addiu $v0, " + lhs + ", " + sign * right);
+      return "";
+    }
     String op = ctx.op.getText().equals("+") ? "add" : "sub";
     switch(current_type){
       case DOUBLE:
-        System.out.println(op + ".d $f0, $f0, $f2");
+        out.println(op + ".d $f0, " + real_lhs + ", " + real_rhs);
         break;
       case FLOAT:
-        System.out.println(op + ".s $f0, $f0, $f2");
+        out.println(op + ".s $f0, " + real_lhs + ", " + real_rhs);
         break;
       default:
-        System.out.println(op + "u $v0, $t0, $t1");
+        out.println(op + "u $v0, " + lhs + ", " + rhs);
     }
     return "";
   }
@@ -2209,35 +2698,55 @@ public class CCompiler extends CBaseVisitor<String> {
   @Override public String visitIncrPostExpr(CParser.IncrPostExprContext ctx) {
     String id = this.visit(ctx.expr);
     Integer offset = getIDSymbolTable(id).getOffset(); // get variable location
+    String reg = getIDSymbolTable(id).getRegister();
     
     int sign = (ctx.op.getText().equals("--") ? -1 : 1);
 
+    if(reg != null){
+      // the old value stays in $v0 / $f0
+      if(isReal(current_type)){
+        out.println("li $t4, " + floatBits(sign) + "\nmtc1 $t4, $f4");
+        if(current_type == types.DOUBLE) out.println("cvt.d.s $f4, $f4");
+      }
+      switch(current_type){
+        case FLOAT:
+          out.println("add.s " + reg + ", $f0, $f4");
+          break;
+        case DOUBLE:
+          out.println("add.d " + reg + ", $f0, $f4");
+          break;
+        default:
+          out.println("addiu " + reg + ", $v0, " + sign);
+      }
+      return id;
+    }
+
     switch(current_type){
       case FLOAT:
         int const_1 = floatBits(sign);
-        System.out.println("li $t4, " + const_1 + "\nsw $t4, " + -4*mem + "($sp)\nl.s $f4, " + -4*mem + "($sp)"); // $sp because inside function arguments as well. Maybe offseted at that stage
-        System.out.println("add.s $f2, $f0, $f4");
-        System.out.println("s.s $f2, " + -4*offset + "($fp)");
+        out.println("li $t4, " + const_1 + "\nsw $t4, " + -4*mem + "($sp)\nl.s $f4, " + -4*mem + "($sp)"); // $sp because inside function arguments as well. Maybe offseted at that stage
+        out.println("add.s $f2, $f0, $f4");
+        out.println("s.s $f2, " + -4*offset + "($fp)");
         break;
       case DOUBLE:
         const_1 = doubleBits(sign)[1];
         int const_2 = doubleBits(sign)[0];
-        System.out.println("li $t4, " + const_1 + "\nsw $t4, " + -4*mem + "($sp)\nl.s $f4, " + -4*mem + "($sp)");
-        System.out.println("li $t4, " + const_2 + "\nsw $t4, " + -4*mem + "($sp)\nl.s $f5, " + -4*mem + "($sp)");
-        System.out.println("add.d $f2, $f0, $f4");
-        System.out.println("s.d $f2, " + -4*(offset+1) + "($fp)");
+        out.println("li $t4, " + const_1 + "\nsw $t4, " + -4*mem + "($sp)\nl.s $f4, " + -4*mem + "($sp)");
+        out.println("li $t4, " + const_2 + "\nsw $t4, " + -4*mem + "($sp)\nl.s $f5, " + -4*mem + "($sp)");
+        out.println("add.d $f2, $f0, $f4");
+        out.println("s.d $f2, " + -4*(offset+1) + "($fp)");
         break;
       case CHAR:
-        System.out.println("addi $t1, $v0, " + sign);
-        System.out.println("sb $t1, " + -4*offset + "($fp)");
+        out.println("addi $t1, $v0, " + sign);
+        out.println("sb $t1, " + -4*offset + "($fp)");
         break;
       case SHORT:
-        System.out.println("addi $t1, $v0, " + sign);
-        System.out.println("sh $t1, " + -4*offset + "($fp)");
+        out.println("addi $t1, $v0, " + sign);
+        out.println("sh $t1, " + -4*offset + "($fp)");
         break;
       default:
-        System.out.println("addi $t1, $v0, " + sign);
-        System.out.println("sw $t1, " + -4*offset + "($fp)");
+        out.println("addi $t1, $v0, " + sign);
+        out.println("sw $t1, " + -4*offset + "($fp)");
     }
     return id; 
   }
@@ -2246,37 +2755,57 @@ public class CCompiler extends CBaseVisitor<String> {
   public String visitPreIncUnaryExpr(CParser.PreIncUnaryExprContext ctx) { 
     String id = this.visit(ctx.expr);
     Integer offset = getIDSymbolTable(id).getOffset(); // get variable location
+    String reg = getIDSymbolTable(id).getRegister();
     // 1 = 1065353216 for floating point bits
     // 1 = 1072693248-0 for double bits
     // since immediates are not allowed for floats and doubles, we need to manually create the +/- 1 int $f4 then add it to $f0
     int sign = (ctx.op.getText().equals("--") ? -1 : 1);
 
+    if(reg != null){
+      // the new value in $v0 / $f0 too
+      if(isReal(current_type)){
+        out.println("li $t4, " + floatBits(sign) + "\nmtc1 $t4, $f4");
+        if(current_type == types.DOUBLE) out.println("cvt.d.s $f4, $f4");
+      }
+      switch(current_type){
+        case FLOAT:
+          out.println("add.s $f0, $f0, $f4\nmov.s " + reg + ", $f0");
+          break;
+        case DOUBLE:
+          out.println("add.d $f0, $f0, $f4\nmov.d " + reg + ", $f0");
+          break;
+        default:
+          out.println("addiu $v0, $v0, " + sign + "\nmove " + reg + ", $v0");
+      }
+      return id;
+    }
+
     switch(current_type){
       case FLOAT:
         int const_1 = floatBits(sign);
-        System.out.println("li $t4, " + const_1 + "\nsw $t4, " + -4*mem + "($sp)\nl.s $f4, " + -4*mem + "($sp)"); // $sp because inside function arguments as well. Maybe offseted at that stage
-        System.out.println("add.s $f0, $f0, $f4");
-        System.out.println("s.s $f0, " + -4*offset + "($fp)");
+        out.println("li $t4, " + const_1 + "\nsw $t4, " + -4*mem + "($sp)\nl.s $f4, " + -4*mem + "($sp)"); // $sp because inside function arguments as well. Maybe offseted at that stage
+        out.println("add.s $f0, $f0, $f4");
+        out.println("s.s $f0, " + -4*offset + "($fp)");
         break;
       case DOUBLE:
         const_1 = doubleBits(sign)[1];
         int const_2 = doubleBits(sign)[0];
-        System.out.println("li $t4, " + const_1 + "\nsw $t4, " + -4*mem + "($sp)\nl.s $f4, " + -4*mem + "($sp)");
-        System.out.println("li $t4, " + const_2 + "\nsw $t4, " + -4*mem + "($sp)\nl.s $f5, " + -4*mem + "($sp)");
-        System.out.println("add.d $f0, $f0, $f4");
-        System.out.println("s.d $f0, " + -4*(offset+1) + "($fp)");
+        out.println("li $t4, " + const_1 + "\nsw $t4, " + -4*mem + "($sp)\nl.s $f4, " + -4*mem + "($sp)");
+        out.println("li $t4, " + const_2 + "\nsw $t4, " + -4*mem + "($sp)\nl.s $f5, " + -4*mem + "($sp)");
+        out.println("add.d $f0, $f0, $f4");
+        out.println("s.d $f0, " + -4*(offset+1) + "($fp)");
         break;
       case CHAR:
-        System.out.println("addi $v0, $v0, " + sign);
-        System.out.println("sb $v0, " + -4*offset + "($fp)");
+        out.println("addi $v0, $v0, " + sign);
+        out.println("sb $v0, " + -4*offset + "($fp)");
         break;
       case SHORT:
-        System.out.println("addi $v0, $v0, " + sign);
-        System.out.println("sh $v0, " + -4*offset + "($fp)");
+        out.println("addi $v0, $v0, " + sign);
+        out.println("sh $v0, " + -4*offset + "($fp)");
         break;
       default:
-        System.out.println("addi $v0, $v0, " + sign);
-        System.out.println("sw $v0, " + -4*offset + "($fp)");
+        out.println("addi $v0, $v0, " + sign);
+        out.println("sw $v0, " + -4*offset + "($fp)");
     }
 
     return id; 
@@ -2309,11 +2838,23 @@ public class CCompiler extends CBaseVisitor<String> {
     // currently storing into int variable
     // will be modified later for arrays
 
-    halt = true;
-    String a = this.visit(ctx.left); // very ugly, will generate garbage assembly unused. This is because we need to update the current_type
-    halt = false;
+    TypeAnnotator.Info lhs = annotations.annotate(ctx.left); // destination, resolved without generating code
+    String a = lhs.id;
+    if(lhs.member != null) current_type = lhs.type; // struct members are stored with their own type
 
     String b = this.visit(ctx.right);
+    STO promotedVar = lhs.member == null ? promotedVariable(ctx.left) : null;
+    if(promotedVar != null && ctx.op.getText().equals("=")){
+      // no address to compute: straight into the register
+      types type = promotedVar.getType();
+      String suffix = type == types.DOUBLE ? "d" : "s";
+      if(isReal(type) && !isReal(current_type)) out.println("mtc1 $v0, $f0\ncvt." + suffix + ".w $f0, $f0");
+      else if(!isReal(type) && isReal(current_type)) out.println("trunc.w." + (current_type == types.DOUBLE ? "d" : "s") + " $f0, $f0\nmfc1 $v0, $f0");
+      else if(isReal(type) && current_type != type) out.println("cvt." + suffix + "." + (current_type == types.DOUBLE ? "d" : "s") + " $f0, $f0");
+      out.println(copy(type, promotedVar.getRegister(), isReal(type) ? "$f0" : "$v0"));
+      current_type = type;
+      return lhs.id;
+    }
     String store = "sw ";
     String load = "lw ";
     // $v0 contains the value of whatever was on the right
@@ -2324,62 +2865,62 @@ public class CCompiler extends CBaseVisitor<String> {
       STO varObj1 = getIDSymbolTable(a);
       STO varObj2 = getIDSymbolTable(b);
 
-      System.out.println("addiu   $v0,$fp,"+ 4*(varObj1.getOffset())); 
-      System.out.println("addiu   $v1,$fp,"+ 4*(varObj2.getOffset())); 
+      out.println("addiu   $v0,$fp,"+ 4*(varObj1.getOffset())); 
+      out.println("addiu   $v1,$fp,"+ 4*(varObj2.getOffset())); 
 
       //storing $a0-$a2
       int temp_mem = mem;
-      System.out.println("sw $a0, " + -4*(mem++) + "($sp)\nsw $a1, " + -4*(mem++) + "($sp)\nsw $a2, " + -4*(mem++) + "($sp)");
+      out.println("sw $a0, " + -4*(mem++) + "($sp)\nsw $a1, " + -4*(mem++) + "($sp)\nsw $a2, " + -4*(mem++) + "($sp)");
 
       //preparing procedure call in $a0 - $a2
-      System.out.println("li $a0,"+varObj1.getSize()); //setting up arguments for procedure call
-      System.out.println("move    $a2,$a0");
-      System.out.println("move    $a1,$v1");
-      System.out.println("move    $a0,$v0");
-      System.out.println("jal    memcpy");
-      System.out.println("nop");
+      out.println("li $a0,"+varObj1.getSize()); //setting up arguments for procedure call
+      out.println("move    $a2,$a0");
+      out.println("move    $a1,$v1");
+      out.println("move    $a0,$v0");
+      out.println("jal    memcpy");
+      out.println("nop");
 
       //reload values to preserve $a0-$a2
-      System.out.println("lw $a0, " + -4*(temp_mem++) + "($sp)\nlw $a1, " + -4*(temp_mem++) + "($sp)\nlw $a2, " + -4*(temp_mem++) + "($sp)");
+      out.println("lw $a0, " + -4*(temp_mem++) + "($sp)\nlw $a1, " + -4*(temp_mem++) + "($sp)\nlw $a2, " + -4*(temp_mem++) + "($sp)");
 
       return a; //id of the first variable
     } else{
 
     switch(current_type){
       case FLOAT:
-        System.out.println("s.s $f0, " + -4*(mem++) + "($sp)");
+        out.println("s.s $f0, " + -4*(mem++) + "($sp)");
         store = "s.s "; 
         load = "l.s "; 
         break;
       case DOUBLE:
         mem++;
-        System.out.println("s.d $f0, " + -4*(mem++) + "($sp)"); 
+        out.println("s.d $f0, " + -4*(mem++) + "($sp)"); 
         store = "s.d "; 
         load = "l.d ";
         break;
       case CHAR:
-        System.out.println("sb $v0, " + -4*(mem++) + "($sp)"); 
+        out.println("sb $v0, " + -4*(mem++) + "($sp)"); 
         store = "sb ";
         load = "lb ";  
         break;
       case SHORT:
-        System.out.println("sh $v0, " + -4*(mem++) + "($sp)"); 
+        out.println("sh $v0, " + -4*(mem++) + "($sp)"); 
         store = "sh ";
         load = "lh ";  
         break;
       default:
-        System.out.println("sw $v0, " + -4*(mem++) + "($sp)");
+        out.println("sw $v0, " + -4*(mem++) + "($sp)");
     }
     indexes = null;
     String id = this.visit(ctx.left); // a struct or an array or a pointer dereference will return the destination instead in $v1
     int destination = 0;
-    if(getIDSymbolTable(id) != null && getIDSymbolTable(id).getSTOType() != STOtypes.STRUCT &&  pointer_jumps == 0){
+    if(promotedVar == null && getIDSymbolTable(id) != null && getIDSymbolTable(id).getSTOType() != STOtypes.STRUCT &&  pointer_jumps == 0){
       if(getIDSymbolTable(id).isGlobal())
-        System.out.println("lui $v1,%hi(" + id + ")\naddiu $v1, $v1, %lo(" + id + ")");
+        out.println("lui $v1,%hi(" + id + ")\naddiu $v1, $v1, %lo(" + id + ")");
       else{
         destination = -4*getIDSymbolTable(id).getOffset();
-        System.out.println("li $v1, " + destination);
-        System.out.println("addu $v1, $fp, $v1");
+        out.println("li $v1, " + destination);
+        out.println("addu $v1, $fp, $v1");
       }
     }
     String reg = "$v0";
@@ -2400,48 +2941,49 @@ public class CCompiler extends CBaseVisitor<String> {
         break;
     }
     
-    System.out.println("mov" + extraOp + temp + ", " + reg); // store current value in $t2 (or temp)
+    out.println("mov" + extraOp + temp + ", " + reg); // store current value in $t2 (or temp)
     if(extraOp.equals("e ")) extraOp = " ";
-    System.out.println(load + reg + ", " + -4*(--mem) + "($sp)"); // pop right from stack. Ready to evaluate
+    out.println(load + reg + ", " + -4*(--mem) + "($sp)"); // pop right from stack. Ready to evaluate
     if(current_type == types.DOUBLE) mem--;
     switch(ctx.op.getText()){
       case("="):
         break; // do nothing. Store into destination at the end
       case("+="):
-        System.out.println("add" + extraOp + reg + ", " + reg + ", " + temp);
+        out.println("add" + extraOp + reg + ", " + reg + ", " + temp);
         break;
       case("-="):
-        System.out.println("sub" + extraOp + reg + ", " + temp + ", " + reg);
+        out.println("sub" + extraOp + reg + ", " + temp + ", " + reg);
         break;
       case("*="):
-        System.out.println("mul" + extraOp + reg + ", " + reg + ", " + temp);
+        out.println("mul" + extraOp + reg + ", " + reg + ", " + temp);
         break;
       case("<<="):
-        System.out.println("sllv $v0, $v0, $t2");
+        out.println("sllv $v0, $v0, $t2");
         break;
       case(">>="):
-       System.out.println("srav $v0, $t2, $v0");
+       out.println("srav $v0, $t2, $v0");
        break;
       case("&="):
-        System.out.println("and $v0, $v0, $t2");
+        out.println("and $v0, $v0, $t2");
         break;
       case("|="):
-        System.out.println("or $v0, $v0, $t2");
+        out.println("or $v0, $v0, $t2");
         break;
       case("^="):
-        System.out.println("xor $v0, $v0, $t2");
+        out.println("xor $v0, $v0, $t2");
         break;
       case("/="):
-        System.out.println("div" + extraOp + reg + ", " + temp + ", " + reg);
+        out.println("div" + extraOp + reg + ", " + temp + ", " + reg);
         break;
       case("%="):
-        System.out.println("div $t2, $v0");
-        System.out.println("mfhi $v0");
+        out.println("div $t2, $v0");
+        out.println("mfhi $v0");
         break;
       default:
         throwIllegalArgument(ctx.op.getText(), "OpAssgnExpr");
     }
-    System.out.println(store + reg + ", 0($v1)");
+    if(promotedVar != null) out.println(copy(current_type, promotedVar.getRegister(), reg));
+    else out.println(store + reg + ", 0($v1)");
 
     return id;
     }
@@ -2460,72 +3002,81 @@ public class CCompiler extends CBaseVisitor<String> {
   // Relational expression
   @Override
   public String visitOpRelExpr(CParser.OpRelExprContext ctx){
-    threeOp(ctx);
-    //System.out.println("xor $t2, $t0, $t1");
-    //System.out.println("sltiu $t2, $t2, 1");  // $t2 = (right == left)
-    System.out.println("li $v0, 0");
-    System.out.println("li $t3, 1");
+    if(foldConstant(ctx, true)) return "";
+    String relation = ctx.op.getText();
+    // a <= c is a < c + 1 (no c + 1 for the largest unsigned)
+    boolean plusOne = relation.equals("<=") || relation.equals(">");
+    Integer right = constantRight(ctx, c -> plusOne ? c != -1 && MipsBackend.signed16(c + 1) : MipsBackend.signed16(c));
+    if(right != null){
+      // same signedness as below: only < and > compare unsigned
+      boolean unsigned = current_type == types.UNSIGNED && !relation.contains("=");
+      out.println((unsigned ? "sltiu" : "slti") + " $v0, " + lhs + ", " + (plusOne ? right + 1 : right));
+      if(relation.equals(">=") || relation.equals(">")) out.println("xori $v0, $v0, 1");
+      return "";
+    }
+    //out.println("xor $t2, $t0, $t1");
+    //out.println("sltiu $t2, $t2, 1");  // $t2 = (right == left)
     switch(ctx.op.getText()) {
       case ">":
         switch(current_type){
           case DOUBLE:
-            System.out.println("c.lt.d $f2, $f0");
-            System.out.println("cfc1 $v0, $25\nandi $v0, 1");
+            out.println("c.lt.d " + real_rhs + ", " + real_lhs);
+            out.println("cfc1 $v0, $25\nandi $v0, 1");
             break;
           case FLOAT:
-            System.out.println("c.lt.s $f2, $f0");
-            System.out.println("cfc1 $v0, $25\nandi $v0, 1");
+            out.println("c.lt.s " + real_rhs + ", " + real_lhs);
+            out.println("cfc1 $v0, $25\nandi $v0, 1");
             break;
           default:
-            if(current_type == types.UNSIGNED) System.out.println("sltu $v0, $t1, $t0");
-            else System.out.println("slt $v0, $t1, $t0"); // right < left
+            if(current_type == types.UNSIGNED) out.println("sltu $v0, " + rhs + ", " + lhs);
+            else out.println("slt $v0, " + rhs + ", " + lhs); // right < left
         }
         break;
       case "<":
         switch(current_type){
           case DOUBLE:
-            System.out.println("c.lt.d $f0, $f2");
-            System.out.println("cfc1 $v0, $25\nandi $v0, 1");
+            out.println("c.lt.d " + real_lhs + ", " + real_rhs);
+            out.println("cfc1 $v0, $25\nandi $v0, 1");
             break;
           case FLOAT:
-            System.out.println("c.lt.s $f0, $f2");
-            System.out.println("cfc1 $v0, $25\nandi $v0, 1");
+            out.println("c.lt.s " + real_lhs + ", " + real_rhs);
+            out.println("cfc1 $v0, $25\nandi $v0, 1");
             break;
           default:
-            if(current_type == types.UNSIGNED) System.out.println("sltu $v0, $t0, $t1");
-            else System.out.println("slt $v0, $t0, $t1"); // right < left
+            if(current_type == types.UNSIGNED) out.println("sltu $v0, " + lhs + ", " + rhs);
+            else out.println("slt $v0, " + lhs + ", " + rhs); // right < left
         }
         break;
       case ">=":
         switch(current_type){
           case DOUBLE:
-            System.out.println("c.le.d $f2, $f0");
-            System.out.println("cfc1 $v0, $25\nandi $v0, 1");
+            out.println("c.le.d " + real_rhs + ", " + real_lhs);
+            out.println("cfc1 $v0, $25\nandi $v0, 1");
             break;
           case FLOAT:
-            System.out.println("c.le.s $f2, $f0");
-            System.out.println("cfc1 $v0, $25\nandi $v0, 1");
+            out.println("c.le.s " + real_rhs + ", " + real_lhs);
+            out.println("cfc1 $v0, $25\nandi $v0, 1");
             break;
           default:
-            if(current_type == types.UNSIGNED) System.out.println("slt $v0, $t0, $t1");
-            else System.out.println("slt $v0, $t0, $t1"); // left < right
-            System.out.println("xori $v0, $v0, 1"); // !(left < right) = right <= left
+            if(current_type == types.UNSIGNED) out.println("slt $v0, " + lhs + ", " + rhs);
+            else out.println("slt $v0, " + lhs + ", " + rhs); // left < right
+            out.println("xori $v0, $v0, 1"); // !(left < right) = right <= left
         }
         break;
       case "<=": 
         switch(current_type){
           case DOUBLE:
-            System.out.println("c.le.d $f0, $f2");
-            System.out.println("cfc1 $v0, $25\nandi $v0, 1");
+            out.println("c.le.d " + real_lhs + ", " + real_rhs);
+            out.println("cfc1 $v0, $25\nandi $v0, 1");
             break;
           case FLOAT:
-            System.out.println("c.le.s $f0, $f2");
-            System.out.println("cfc1 $v0, $25\nandi $v0, 1");
+            out.println("c.le.s " + real_lhs + ", " + real_rhs);
+            out.println("cfc1 $v0, $25\nandi $v0, 1");
             break;
           default:
-            if(current_type == types.UNSIGNED) System.out.println("slt $v0, $t1, $t0");
-            else System.out.println("slt $v0, $t1, $t0"); // right < left
-            System.out.println("xori $v0, $v0, 1"); // !(right<left) = right >= left
+            if(current_type == types.UNSIGNED) out.println("slt $v0, " + rhs + ", " + lhs);
+            else out.println("slt $v0, " + rhs + ", " + lhs); // right < left
+            out.println("xori $v0, $v0, 1"); // !(right<left) = right >= left
         }
         break;
       default:
@@ -2539,35 +3090,44 @@ public class CCompiler extends CBaseVisitor<String> {
   //Equality expression
   @Override
   public String visitOpEqualExpr(CParser.OpEqualExprContext ctx){
-    threeOp(ctx);
-    System.out.println("xor $v0, $t0, $t1"); // A^B = 0 only if A=B, non-zero otherwise
+    if(foldConstant(ctx, true)) return "";
+    Integer right = constantRight(ctx, c -> c >>> 16 == 0 || MipsBackend.signed16(-c));
+    if(right != null){
+      // difference = 0 only if left = right
+      String difference = right == 0 ? lhs : "$v0";
+      if(right < 0) out.println("addiu $v0, " + lhs + ", " + -right);
+      else if(right != 0) out.println("xori $v0, " + lhs + ", " + right);
+      out.println(ctx.op.getText().equals("==") ? "sltiu $v0, " + difference + ", 1" : "sltu $v0, $zero, " + difference);
+      return "";
+    }
+    if(!isReal(current_type)) out.println("xor $v0, " + lhs + ", " + rhs); // A^B = 0 only if A=B, non-zero otherwise
     switch(ctx.op.getText()){
       case "==":
         switch(current_type){
           case DOUBLE:
-            System.out.println("c.eq.d $f0, $f2");
-            System.out.println("cfc1 $v0, $25\nandi $v0, 1");
+            out.println("c.eq.d " + real_lhs + ", " + real_rhs);
+            out.println("cfc1 $v0, $25\nandi $v0, 1");
             break;
           case FLOAT:
-            System.out.println("c.eq.s $f0, $f2");
-            System.out.println("cfc1 $v0, $25\nandi $v0, 1");
+            out.println("c.eq.s " + real_lhs + ", " + real_rhs);
+            out.println("cfc1 $v0, $25\nandi $v0, 1");
             break;
           default:
-            System.out.println("sltiu $v0, $v0, 1");
+            out.println("sltiu $v0, $v0, 1");
         }
         break;
       case "!=":
         switch(current_type){
           case DOUBLE:
-            System.out.println("c.eq.d $f0, $f2");
-            System.out.println("cfc1 $v0, $25\nandi $v0, 1\nxori $v0, $v0, 1");
+            out.println("c.eq.d " + real_lhs + ", " + real_rhs);
+            out.println("cfc1 $v0, $25\nandi $v0, 1\nxori $v0, $v0, 1");
             break;
           case FLOAT:
-            System.out.println("c.eq.s $f0, $f2");
-            System.out.println("cfc1 $v0, $25\nandi $v0, 1\nxori $v0, $v0, 1");
+            out.println("c.eq.s " + real_lhs + ", " + real_rhs);
+            out.println("cfc1 $v0, $25\nandi $v0, 1\nxori $v0, $v0, 1");
             break;
           default:
-            System.out.println("sltu $v0, $zero, $v0");
+            out.println("sltu $v0, $zero, $v0");
         }
         break;
       default:
@@ -2602,10 +3162,13 @@ public class CCompiler extends CBaseVisitor<String> {
   }
 
   ////////////////////////////////////////////////////////////////////////////////////
-  // Block Item List (Multiple items -> append strings together in return)
+  // Block Item List (Multiple items -> every statement in order)
   @Override
   public String visitMultBlockItemList(CParser.MultBlockItemListContext ctx) {
-    return this.visit(ctx.itemL) + "\n" + this.visit(ctx.item); 
+    for(CParser.BlockItemListContext itemL: spine(ctx, CParser.BlockItemListContext.class)){
+      this.visit(itemL instanceof CParser.MultBlockItemListContext ? ((CParser.MultBlockItemListContext) itemL).item : itemL);
+    }
+    return "";
   }
 
   ////////////////////////////////////////////////////////////////////////////////////
@@ -2626,14 +3189,14 @@ public class CCompiler extends CBaseVisitor<String> {
     String falseExecLabel = makeName("if_stat_false");
     String endLabel = makeName("if_stat_end");
     this.visit(ctx.cond); // $v0 holds 0 or 1 from the condition
-    System.out.println("beq $v0, $zero, " + falseExecLabel + "\nnop");
+    out.println("beq $v0, $zero, " + falseExecLabel + "\nnop");
     this.visit(ctx.trueExec);
-    System.out.println("j " + endLabel + "\nnop");
+    out.println("j " + endLabel + "\nnop");
     insertLabel(falseExecLabel);
     if(ctx.falseExec != null){
       this.visit(ctx.falseExec);
     }else{
-      System.out.println("nop");
+      out.println("nop");
     }
     insertLabel(endLabel);
     removeSymbolTable();
@@ -2661,9 +3224,9 @@ public class CCompiler extends CBaseVisitor<String> {
     current_continue_context.add(beginLabel);
     insertLabel(beginLabel);
     this.visit(ctx.cond); // condition is now in $v0
-    System.out.println("beq $v0, $zero, " + endLabel + "\nnop");
+    out.println("beq $v0, $zero, " + endLabel + "\nnop");
     this.visit(ctx.exec); // while loop execution body
-    System.out.println("j " + beginLabel + "\nnop");
+    out.println("j " + beginLabel + "\nnop");
     insertLabel(endLabel);
     current_continue_context.pop();
     current_break_context.pop();
@@ -2715,7 +3278,7 @@ public class CCompiler extends CBaseVisitor<String> {
     
     if(ctx.cond != null){
       this.visit(ctx.cond);
-      System.out.println("beq $v0, $zero, " + endLabel + "\nnop"); // skip if condition was not met
+      out.println("beq $v0, $zero, " + endLabel + "\nnop"); // skip if condition was not met
     }
 
     // compiles body from parent
@@ -2725,7 +3288,7 @@ public class CCompiler extends CBaseVisitor<String> {
     if(ctx.update != null)  this.visit(ctx.update); // increment variable (or whatever update)
 
     //return to top of loop
-    System.out.println("j " + beginLabel + "\nnop");
+    out.println("j " + beginLabel + "\nnop");
     insertLabel(endLabel);
     current_continue_context.pop();
     current_break_context.pop();
@@ -2747,7 +3310,7 @@ public class CCompiler extends CBaseVisitor<String> {
 
     if(ctx.cond != null){
       this.visit(ctx.cond);
-      System.out.println("beq $v0, $zero, " + endLabel + "\nnop"); // skip if condition was not met
+      out.println("beq $v0, $zero, " + endLabel + "\nnop"); // skip if condition was not met
     }
 
     // compiles body from parent
@@ -2757,7 +3320,7 @@ public class CCompiler extends CBaseVisitor<String> {
     if(ctx.update != null)  this.visit(ctx.update); // increment variable (or whatever update)
 
     //return to top of loop
-    System.out.println("j " + beginLabel + "\nnop");
+    out.println("j " + beginLabel + "\nnop");
     insertLabel(endLabel);
     current_continue_context.pop();
     current_break_context.pop();
@@ -2774,24 +3337,18 @@ public class CCompiler extends CBaseVisitor<String> {
     String endLabel = makeName("switch_stat_end");
     current_break_context.add(endLabel);
     this.visit(ctx.cond); //switch value loaded into register 2 ($v0) 
-    System.out.println("sw $v0, " + -4*(mem++) + "($sp)"); // save condition in stack in case of nested switches
-    System.out.println("j " + conditionLabel + "\nnop"); // check where to go (since the cases are compiled before that)
-    String cases = this.visit(ctx.trueExec); // now cases is a list of all labeled statement within the switch. They are compiled as well with labels
-    if(debug) System.out.println("\n#####\nRecived this:\n" + cases + "\n######\n");
-    System.out.println("j " + endLabel + "\nnop"); // avoid rechecking
+    out.println("sw $v0, " + -4*(mem++) + "($sp)"); // save condition in stack in case of nested switches
+    out.println("j " + conditionLabel + "\nnop"); // check where to go (since the cases are compiled before that)
+    SwitchTable cases = new SwitchTable();
+    current_switch_context.add(cases);
+    this.visit(ctx.trueExec); // every case / default label of the body adds itself to the table. They are compiled as well with labels
+    current_switch_context.pop();
+    if(debug) out.println("\n#####\nCase table:\n" + cases + "\n######\n");
+    out.println("j " + endLabel + "\nnop"); // avoid rechecking
 
     insertLabel(conditionLabel); // this is where the swich determines to what labeled statement it has to jump
-    System.out.println("lw $v0, " + -4*(--mem) + "($sp)"); // load condition from stack
-    String[] lines = cases.split(System.getProperty("line.separator")); // each line has format LABEL:CONDITION (exception default:null)
-    for(String line: lines){
-      if(!line.contains(":")) continue;
-      String[] data = line.split(":");
-      if(data[1].equals("null")) System.out.println("j " + data[0] + "\nnop");
-      else {
-        System.out.println("li $t1, " + data[1]);
-        System.out.println("beq $v0, $t1, " + data[0] + "\nnop");
-      }
-    }
+    out.println("lw $v0, " + -4*(--mem) + "($sp)"); // load condition from stack
+    cases.lower(out, endLabel, this::makeName);
     insertLabel(endLabel);
     current_break_context.pop();
     removeSymbolTable();
@@ -2803,10 +3360,14 @@ public class CCompiler extends CBaseVisitor<String> {
     extendSymbolTable();
     String beginLabel = makeName("case_stat_begin");
     insertLabel(beginLabel);
-    // the condition is a constant expression, interpret and return to switch, which will jump accordingly
+    // the condition is a constant expression, folded into the switch's table, which will jump accordingly
+    ConstEvaluator.Value value = constants.fold(ctx.cond);
+    if(value == null || !value.isInteger()) throwIllegalArgument(ctx.cond.getText(), "caseLabelStat (not an integer constant)");
+    if(current_switch_context.isEmpty()) throwIllegalArgument("case", "caseLabelStat (outside of a switch)");
+    current_switch_context.peek().addCase(value.asLong(), beginLabel);
     this.visit(ctx.exec);
     removeSymbolTable();
-    return beginLabel + ":" + interpret(ctx.cond.getText());
+    return "";
   }
 
   //Default case
@@ -2815,10 +3376,12 @@ public class CCompiler extends CBaseVisitor<String> {
     extendSymbolTable();
     String beginLabel = makeName("default_stat_begin");
     insertLabel(beginLabel); 
+    if(current_switch_context.isEmpty()) throwIllegalArgument("default", "defLabelStat (outside of a switch)");
+    current_switch_context.peek().setDefault(beginLabel);
     //execute default
     this.visit(ctx.exec);
     removeSymbolTable();
-    return beginLabel + ":null";
+    return "";
   }
 
   ////////////////////////////////////////////////////////////////////////////////////
@@ -2830,12 +3393,12 @@ public class CCompiler extends CBaseVisitor<String> {
       extendSymbolTable();
       String falseExecLabel = makeName("if_stat_false");
       String endLabel = makeName("if_stat_end");
-      System.out.println("beq $v0, $zero, " + falseExecLabel + "\nnop");
+      out.println("beq $v0, $zero, " + falseExecLabel + "\nnop");
       this.visit(ctx.true_exec);
-      System.out.println("j " + endLabel + "\nnop");
+      out.println("j " + endLabel + "\nnop");
       insertLabel(falseExecLabel);
       this.visit(ctx.false_exec);
-      System.out.println("nop");
+      out.println("nop");
       insertLabel(endLabel);
       removeSymbolTable();
     }
@@ -2872,13 +3435,12 @@ public class CCompiler extends CBaseVisitor<String> {
       current_array_object = new Array(0, mem, id, isGlobalScope(), current_type, new ArrayList<Integer>());
     }
 
-    current_array_object.addDimension(Integer.parseInt(interpret(ctx.expr.getText())));
-
-    int array_size = Integer.parseInt(interpret(ctx.expr.getText()));
+    int array_size = Integer.parseInt(interpret(ctx.expr));
+    current_array_object.addDimension(array_size);
     current_array_object.updateArraySize();
     setIDSymbolTable(id, current_array_object);
     if(current_structdef_object != null){
-      System.out.println("id: "+id+"array: "+current_array_object.size);
+      out.println("id: "+id+"array: "+current_array_object.size);
       current_structdef_object.setMember(id,current_array_object);
     }
     return id;
@@ -2898,27 +3460,24 @@ public class CCompiler extends CBaseVisitor<String> {
       id = ctx.left.getText();
       indexes = new int[getIDSymbolTable(id).getDimensions().size()];
     }
-    if(halt) return id;
     current_type = types.INT;
     this.visit(ctx.right);
     current_type = getIDSymbolTable(id).getType();
-    System.out.println("sw $v0, " + -4*(mem++) + "($sp)"); // store the indexes as they can be an expression
+    out.println("sw $v0, " + -4*(mem++) + "($sp)"); // store the indexes as they can be an expression
     index_position++;
     // indexes[++index_position] = Integer.parseInt(ctx.right.getText());
     if(index_position == getIDSymbolTable(id).getDimensions().size()-1){
       // now indexes on the stack contains what element we want to access. we can calculate the offset of that element and put in $v0 / $f0 the value of the element
-      System.out.println("li $t2, 0"); // prepare the flatten index and calculate from the indexes and the array size
+      out.println("li $t2, 0"); // prepare the flatten index and calculate from the indexes and the array size
       mem--; mem-= index_position; // set mem to beginning of sizes stack
       for(int i=0; i<getIDSymbolTable(id).getDimensions().size()-1; i++){
-        System.out.println("lw $t0, " + -4*(mem++) + "($sp)");
-        System.out.println("addu $t2, $t2, $t0"); // index += indexes[i];
+        out.println("lw $t0, " + -4*(mem++) + "($sp)");
+        out.println("addu $t2, $t2, $t0"); // index += indexes[i];
         
-        System.out.println("li $t0, " + getIDSymbolTable(id).getDimensions().get(i+1));
-        System.out.println("nop\nmult $t0, $t2");
-        System.out.println("mflo $t2"); //index *= getIDSymbolTable(id).getDimensions().get(i+1);
+        StrengthReduction.multiply(out, "$t2", "$t2", getIDSymbolTable(id).getDimensions().get(i+1), "$t0"); //index *= getIDSymbolTable(id).getDimensions().get(i+1);
       }
-      System.out.println("lw $t0, " + -4*(mem++) + "($sp)");
-      System.out.println("addu $t2, $t2, $t0"); // index += indexes[indexes.length-1];
+      out.println("lw $t0, " + -4*(mem++) + "($sp)");
+      out.println("addu $t2, $t2, $t0"); // index += indexes[indexes.length-1];
       mem--; mem -= index_position; // set memory back in place
       
       // // for array, use the offset directly
@@ -2926,56 +3485,46 @@ public class CCompiler extends CBaseVisitor<String> {
       int offset = getIDSymbolTable(id).getOffset(); // offset of the variable
       if(getIDSymbolTable(id).getDepth() == 0){
         // it's an array, use it's offset
-        if(getIDSymbolTable(id).isGlobal()) System.out.println("lui $t0, %hi(" + id +")\naddiu $t0, $t0, %lo(" + id + ")");
+        if(getIDSymbolTable(id).isGlobal()) out.println("lui $t0, %hi(" + id +")\naddiu $t0, $t0, %lo(" + id + ")");
         else {
-          System.out.println("li $t0, " + -4*offset); // address
-          System.out.println("addu $t0, $fp, $t0");
+          out.println("li $t0, " + -4*offset); // address
+          out.println("addu $t0, $fp, $t0");
         } 
       }else{
         // it's a pointer, get the variable being pointed to. Address is right now the pointer itself. We want it to be the value of the pointer
-        if(getIDSymbolTable(id).isGlobal())System.out.println("lui $v0,%hi(" + id + ")\nlw $v0,%lo(" + id + ")($v0)");
-        else System.out.println("lw $v0, " + -4*offset + "($fp)");
-        System.out.println("addu $t0, $v0, $zero"); // put the value of the pointer (which is the address of interest) in t0
+        if(getIDSymbolTable(id).isGlobal())out.println("lui $v0,%hi(" + id + ")\nlw $v0,%lo(" + id + ")($v0)");
+        else out.println("lw $v0, " + -4*offset + "($fp)");
+        out.println("addu $t0, $v0, $zero"); // put the value of the pointer (which is the address of interest) in t0
       }
-      switch(current_type){
-        case DOUBLE:
-          System.out.println("li $t1, 8");
-          break;
-        case CHAR:
-          System.out.println("li $t1, 1");
-          break;
-        default:
-          System.out.println("li $t1, 4");
-      }
-      System.out.println("nop\nmult $t1, $t2");
-      System.out.println("mflo $t2"); // index = 4 * index GCC policy (or 8 for doubles, 1 for chars)
-      System.out.println("addu $t2, $t2, $t0"); // index = (address + index);
+      int element = current_type == types.DOUBLE ? 8 : current_type == types.CHAR ? 1 : 4;
+      StrengthReduction.multiply(out, "$t2", "$t2", element, "$t1"); // index = 4 * index GCC policy (or 8 for doubles, 1 for chars)
+      out.println("addu $t2, $t2, $t0"); // index = (address + index);
       // load in $v0 or $f0
       switch(getIDSymbolTable(id).getType()){
         case CHAR:{
-          System.out.println("lb $v0, 0($t2)");
+          out.println("lb $v0, 0($t2)");
           break;
         }
         case SHORT:{
-          System.out.println("lh $v0, 0($t2)");
+          out.println("lh $v0, 0($t2)");
           break;
         }
         case FLOAT:{
-          System.out.println("l.s $f0, 0($t2)");
+          out.println("l.s $f0, 0($t2)");
           break;
         }
         case DOUBLE:{
-          System.out.println("l.d $f0, 0($t2)");
+          out.println("l.d $f0, 0($t2)");
           break;
         }
         default:
-          System.out.println("lw $v0, 0($t2)");
+          out.println("lw $v0, 0($t2)");
           break;
       }
       // indexes = null; // clean indexing for next array
       index_position = -1;
       // put destination in $v1
-      System.out.println("addu $v1, $t2, $zero");
+      out.println("addu $v1, $t2, $zero");
       return "123";
     }
     return id;
@@ -3013,10 +3562,12 @@ public class CCompiler extends CBaseVisitor<String> {
     String enumVal_s = Integer.toString(enum_state);
 
     STO varObj = new Variable(1, mem++, enumConstId, isGlobalScope(), types.INT);
+    varObj.setEnumConstant(true);
     current_enum_object = varObj;
     setIDSymbolTable(enumConstId,varObj);
-    System.out.println("li $v0, " + enumVal_s);
-    getIDSymbolTable(enumConstId).initialize(interpret(enumVal_s));
+    enum_values.put(enumConstId, ConstEvaluator.Value.ofInt(enum_state));
+    out.println("li $v0, " + enumVal_s);
+    getIDSymbolTable(enumConstId).initialize(out, enumVal_s);
 
     enum_state++;
     
@@ -3028,16 +3579,18 @@ public class CCompiler extends CBaseVisitor<String> {
 
     String enumConstId = this.visit(ctx.enume);
     // this.visit(ctx.expr); // will put the value in $v0
-    String enumVal_s = interpret(ctx.expr.getText()); // get the numerical value
+    String enumVal_s = interpret(ctx.expr); // get the numerical value
     Integer enumVal = Integer.parseInt(enumVal_s);
-    if(!isGlobalScope())System.out.println("li $v0, " + enumVal);
+    if(!isGlobalScope())out.println("li $v0, " + enumVal);
 
     enum_state = enumVal+1; //reset enum to previous value
 
     STO varObj = new Variable(1, mem++, enumConstId, isGlobalScope(), types.INT);
+    varObj.setEnumConstant(true);
     current_enum_object = varObj;
     setIDSymbolTable(enumConstId, varObj);
-    getIDSymbolTable(enumConstId).initialize(interpret(enumVal_s));
+    enum_values.put(enumConstId, ConstEvaluator.Value.ofInt(enumVal));
+    getIDSymbolTable(enumConstId).initialize(out, enumVal_s);
 
     return "";
   }
@@ -3060,12 +3613,12 @@ public class CCompiler extends CBaseVisitor<String> {
 
     STO var = getIDSymbolTable(id);
     if(var.getSTOType() == STOtypes.STRUCT){
-      System.out.println("li $v0, " + var.getSize());
+      out.println("li $v0, " + var.getSize());
     }else{
       types t = var.getType();
       int size = typeSize(t);
       String ret_size = Integer.toString(size);
-      System.out.println("li $v0, " + ret_size);
+      out.println("li $v0, " + ret_size);
     }
 
     return "";
@@ -3089,7 +3642,7 @@ public class CCompiler extends CBaseVisitor<String> {
     }
 
     String ret_size = Integer.toString(size);
-    System.out.println("li $v0, " + ret_size);
+    out.println("li $v0, " + ret_size);
 
     return ret_size;
   }
@@ -3121,29 +3674,310 @@ public class CCompiler extends CBaseVisitor<String> {
     return ctx.type.getText();
   }
 
+  ////////////////////////////////////////////////////////////////////////////////////
+  // parse and compile one translation unit. Assembly stays buffered in compiler.out
+  public static CCompiler compile(CharStream input, boolean debug){
+    return compile(input, debug, null);
+  }
+
+  // functions: reuse the code of unchanged function definitions (null: generate everything)
+  public static CCompiler compile(CharStream input, boolean debug, FunctionCache functions){
+    return compile(input, debug, functions, null);
+  }
+
+  // pool: generate function bodies in parallel (null: one after the other)
+  public static CCompiler compile(CharStream input, boolean debug, FunctionCache functions, ForkJoinPool pool){
+    CLexer lexer = new CLexer(input); // create a lexer that feeds off of input CharStream
+    CommonTokenStream tokens = new CommonTokenStream(lexer); // create a buffer of tokens pulled from the lexer
+    return generate(parse(tokens), debug, functions, pool);
+  }
+
+  // front end only: tokens to parse tree
+  public static ParseTree parse(TokenStream tokens){
+    CParser parser = new CParser(tokens); // create a parser that feeds off the tokens buffer
+    return TwoStageParser.parse(parser, CParser::compilationUnit); // begin parsing at init rule, SLL first
+  }
+
+  // back end only: a fresh compiler walks the tree (declarations, checks and code generation in one visit)
+  public static CCompiler generate(ParseTree tree, boolean debug){
+    return generate(tree, debug, (FunctionCache) null);
+  }
+
+  public static CCompiler generate(ParseTree tree, boolean debug, TimeReport timing){
+    CCompiler compiler = new CCompiler(debug);
+    compiler.timing = timing;
+    compiler.visit(tree);
+    return compiler;
+  }
+
+  // debug output prints the whole symbol table inside functions, no function is ever reused then
+  public static CCompiler generate(ParseTree tree, boolean debug, FunctionCache functions){
+    CCompiler compiler = new CCompiler(debug);
+    compiler.functions = debug ? null : functions;
+    compiler.visit(tree);
+    return compiler;
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // parallel code generation, same output as generate(tree, debug, functions)
+  // 1. a first compiler walks the unit without function bodies: every definition gets a copy
+  //    of the globals declared before it (and is looked up in the function cache)
+  // 2. every remaining body is generated on the pool by its own compiler: own labels, own
+  //    literals, own mem and output buffer (see FunctionCache.Entry)
+  // 3. the real compiler walks the unit again and splices the bodies in source order, taking
+  //    labels and literals from the unit's counters exactly as a sequential walk would
+  // Falls back to a sequential walk when a body cannot be generated apart: it declares
+  // globals, or fails, or the unit has structs (declaring a struct variable rewrites the
+  // member offsets of its global definition, later functions read them in source order)
+  public static CCompiler generate(ParseTree tree, boolean debug, FunctionCache functions, ForkJoinPool pool){
+    if(pool == null || debug) return generate(tree, debug, functions);
+    CCompiler first = new CCompiler(debug);
+    first.functions = functions;
+    first.deferred = new ArrayList<Deferred>();
+    first.bodies = new HashMap<CParser.FunctionDefinitionContext, FunctionCache.Entry>();
+    first.visit(tree);
+    for(STO global: first.symbolTable.current().values()){
+      if(global.getSTOType() == STOtypes.STRUCT || global.getSTOType() == STOtypes.STRUCTDEF) return generate(tree, debug, functions);
+    }
+
+    List<ForkJoinTask<FunctionCache.Entry>> tasks = new ArrayList<ForkJoinTask<FunctionCache.Entry>>();
+    for(final Deferred function: first.deferred){
+      tasks.add(pool.submit(new Callable<FunctionCache.Entry>(){
+        public FunctionCache.Entry call(){
+          return generateFunction(function, debug);
+        }
+      }));
+    }
+    for(int i=0; i<tasks.size(); i++){
+      FunctionCache.Entry body = tasks.get(i).join();
+      if(body == null) return generate(tree, debug, functions);
+      Deferred function = first.deferred.get(i);
+      first.bodies.put(function.ctx, body);
+      if(function.key != null) functions.put(function.key, body);
+    }
+
+    CCompiler compiler = new CCompiler(debug);
+    compiler.bodies = first.bodies;
+    compiler.visit(tree);
+    return compiler;
+  }
+
+  // one function body by a compiler of its own, null if it has to be generated in sequence
+  static FunctionCache.Entry generateFunction(Deferred function, boolean debug){
+    try{
+      CCompiler compiler = new CCompiler(debug);
+      compiler.symbolTable = function.globals;
+      compiler.annotations = new TypeAnnotator(compiler.symbolTable);
+      compiler.enum_values.putAll(function.enums);
+      compiler.task = true;
+      compiler.visit(function.ctx);
+      return compiler.entry;
+    }catch(RuntimeException | StackOverflowError e){
+      return null; // the sequential walk reports it
+    }
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // write the buffered assembly to every destination file (stdout if there is none)
+  // the first file gets the flush, the others are copied from it by the kernel (transferTo)
+  public void write(List<String> destinations) throws IOException {
+    if(destinations.isEmpty()){
+      write(Channels.newChannel(System.out));
+      System.out.flush();
+      return;
+    }
+    try(FileChannel first = FileChannel.open(Paths.get(destinations.get(0)), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE, StandardOpenOption.READ)){
+      out.flush(first);
+      long size = first.size();
+      for(int i=1; i<destinations.size(); i++){
+        try(FileChannel copy = FileChannel.open(Paths.get(destinations.get(i)), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)){
+          for(long position = 0; position < size; ){
+            position += first.transferTo(position, size - position, copy);
+          }
+        }
+      }
+    }
+  }
+
+  // write the buffered assembly to any channel
+  public void write(WritableByteChannel channel) throws IOException {
+    out.flush(channel);
+  }
+
+  // write finished assembly (from the cache) to every destination file, stdout if there is none
+  public static void write(byte[] assembly, List<String> destinations) throws IOException {
+    if(destinations.isEmpty()){
+      System.out.write(assembly);
+      System.out.flush();
+    }
+    for(String destination: destinations){
+      Files.write(Paths.get(destination), assembly);
+    }
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // compile through the on disk cache: a hit never reaches the lexer, a miss still reuses
+  // every function that did not change. returns the compiler on a miss, null on a hit
+  public static CCompiler compile(CompileCache cache, FunctionCache functions, ForkJoinPool pool, byte[] source, boolean debug, List<String> destinations) throws IOException {
+    String key = cache.key(source, debug ? "-debug" : "");
+    byte[] assembly = cache.get(key);
+    CCompiler compiler = null;
+    if(assembly == null){
+      compiler = compile(CharStreams.fromStream(new ByteArrayInputStream(source)), debug, functions, pool);
+      ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+      compiler.write(Channels.newChannel(buffer));
+      assembly = buffer.toByteArray();
+      cache.put(key, assembly);
+    }
+    write(assembly, destinations);
+    return compiler;
+  }
+
+  static byte[] readAll(InputStream in) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    byte[] buffer = new byte[8192];
+    for(int n; (n = in.read(buffer)) > 0; ) bytes.write(buffer, 0, n);
+    return bytes.toByteArray();
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // threads with the compile stack (main, compile server and batch workers)
+  public static ThreadFactory threads(final String name){
+    return new ThreadFactory(){
+      private final AtomicInteger count = new AtomicInteger();
+      public Thread newThread(Runnable task){
+        return new Thread(null, task, name + "-" + count.incrementAndGet(), stack);
+      }
+    };
+  }
+
   ////////////////////////////////////////////////////////////////////////////////////
   // main class. create a tree and call a listener on the tree
-  public static void main(String[] args) throws Exception {
-    // create a CharStream that reads from standard input
-    ANTLRInputStream input = new ANTLRInputStream(System.in); // create a lexer that feeds off of input CharStream
-    CLexer lexer = new CLexer(input); // create a buffer of tokens pulled from the lexer
-    CommonTokenStream tokens = new CommonTokenStream(lexer); // create a parser that feeds off the tokens buffer
+  // usage: CCompiler [-debug] [-stack MB] [-S source.c] [-o dest.s]...
+  // no -S reads the source from stdin, no -o writes the assembly to stdout. Every -o gets a copy
+  // Runs on a thread of its own: the JVM's main thread stack overflows on deep expressions
+  public static void main(final String[] args) throws Exception {
+    for(int i=0; i+1<args.length; i++){
+      if(args[i].equals("-stack")) stack = Long.parseLong(args[i+1]) << 20;
+    }
+    final Throwable[] failure = new Throwable[1];
+    Thread compiler = threads("compiler").newThread(new Runnable(){
+      public void run(){
+        try{
+          CCompiler.run(args);
+        }catch(Throwable e){
+          failure[0] = e;
+        }
+      }
+    });
+    compiler.start();
+    compiler.join();
+    if(failure[0] instanceof Exception) throw (Exception) failure[0];
+    if(failure[0] != null) throw (Error) failure[0];
+  }
+
+  static void run(String[] args) throws Exception {
+    boolean debug = false;
+    boolean timeReport = false;
+    String cacheDir = null;
+    int threads = 1;
+    long cacheSize = CompileCache.DEFAULT_SIZE;
+    String source = null;
+    String server = null; // port, or - for stdin
+    List<String> destinations = new ArrayList<String>();
+    for(int i=0; i<args.length; i++){
+      switch(args[i]){
+        case "-debug":
+          debug = true;
+          break;
+        case "-time-report":
+          timeReport = true;
+          break;
+        case "-server":
+          if(++i < args.length) server = args[i];
+          break;
+        case "-cache":
+          if(++i < args.length) cacheDir = args[i];
+          break;
+        case "-j":
+          if(++i < args.length) threads = Integer.parseInt(args[i]);
+          break;
+        case "-cache-size":
+          if(++i < args.length) cacheSize = Long.parseLong(args[i]) << 20;
+          break;
+        case "-stack":
+          ++i; // read by main()
+          break;
+        case "-S":
+          if(++i < args.length) source = args[i];
+          break;
+        case "-o":
+          if(++i < args.length) destinations.add(args[i]);
+          break;
+        default:
+          System.err.println("usage: CCompiler [-debug] [-time-report] [-j threads] [-stack MB] [-cache dir [-cache-size MB]] [-S source.c] [-o dest.s]... | CCompiler [-j threads] [-cache dir] -server port|-");
+          System.exit(1);
+      }
+    }
+    final CompileCache cache = cacheDir != null && !timeReport ? new CompileCache(Paths.get(cacheDir), cacheSize) : null;
+    final FunctionCache functions = cache != null ? new FunctionCache(cache.share("functions")) : null;
+    final ForkJoinPool pool = threads > 1 && !timeReport ? new ForkJoinPool(threads) : null; // function bodies in parallel
+    if(server != null){
+      // warm server: a fresh compiler per request, parser caches shared by all of them
+      CompileServer compileServer = new CompileServer(new CompileServer.Job(){
+        public void run(String source, List<String> destinations) throws Exception {
+          if(cache != null) compile(cache, functions, pool, Files.readAllBytes(Paths.get(source)), false, destinations);
+          else compile(CharStreams.fromFileName(source), false, null, pool).write(destinations);
+        }
+      }, threads("compile-worker"));
+      if(server.equals("-")) compileServer.serveStdin();
+      else compileServer.serve(Integer.parseInt(server));
+      return;
+    }
+    if(cache != null){
+      byte[] bytes = source != null ? Files.readAllBytes(Paths.get(source)) : readAll(System.in);
+      boolean hit = compile(cache, functions, pool, bytes, debug, destinations) == null;
+      System.err.println((hit ? "cache hit, " : "cache miss, ") + cache.report());
+      if(!hit) System.err.println(functions.report());
+      return;
+    }
     System.err.println("\n\n\n--------------------------------");
     System.err.println("=======     Compiling    =======");
     System.err.println("--------------------------------");
-    CParser parser = new CParser(tokens);
-    ParseTree tree = parser.compilationUnit(); // begin parsing at init rule
-    boolean debug = false;
-    if(args.length > 0){
-      if(args[0].equals("-debug"))debug = true;
+    // create a CharStream that reads from the source file or standard input
+    CharStream input = source != null ? CharStreams.fromFileName(source) : CharStreams.fromStream(System.in);
+    CCompiler compiler;
+    TimeReport timing = null;
+    if(timeReport){
+      // same steps as compile() and write(), one phase each
+      timing = new TimeReport();
+      timing.begin("lex");
+      CommonTokenStream tokens = new CommonTokenStream(new CLexer(input));
+      tokens.fill();
+      timing.end();
+      timing.begin("parse");
+      ParseTree tree = parse(tokens);
+      timing.end();
+      timing.begin("codegen");
+      compiler = generate(tree, debug, timing);
+      timing.end();
+      timing.begin("emit");
+      compiler.write(destinations);
+      timing.end();
+    }else{
+      compiler = compile(input, debug, null, pool);
+      compiler.write(destinations);
     }
-    CCompiler compiler = new CCompiler(debug);
-    compiler.visit(tree);
     System.err.println("\n\n\nSymbol table (should have one entry of global declarations): " + compiler.symbolTable);
     System.err.println("Final mem: "+compiler.mem);
-    for(Map.Entry<String, STO> e: compiler.symbolTable.pop().entrySet()){
+    System.err.println(TwoStageParser.report());
+    for(Map.Entry<String, STO> e: compiler.symbolTable.current().entrySet()){
+      e.getValue().print();
+    }
+    for(Map.Entry<String, STO> e: compiler.symbolTable.getFunctions().entrySet()){
       e.getValue().print();
     }
+    if(timing != null) timing.print(System.err);
     System.err.println("\n\n\n--------------------------------");
     System.err.println("=======       Done       =======");
     System.err.println("--------------------------------");
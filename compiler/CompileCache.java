@@ -0,0 +1,256 @@
+package compiler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+////////////////////////////////////////////////////////////////////////////////////
+// On disk compile cache
+// Assembly is stored under the SHA-256 of (compiler build, flags, source bytes), one file per
+// entry: <dir>/<hash>.s. A hit returns the file without lexing or parsing anything.
+// The compiler build is the hash of the compiler's own class files (or jar), so rebuilding the
+// compiler invalidates every entry without any version number to bump.
+// LRU: a hit touches the file's modification time, and once the entries go over the size
+// bound the oldest ones are deleted until they are back under it. Listing a big directory
+// is not free, so the size is kept up to date from the stores and the directory is only
+// listed again when that goes over the bound, or every RESCAN stores (other processes
+// store entries too).
+// A cache made by share() lives in a subdirectory and shares the bound of its parent: one
+// eviction weighs the entries of both, the whole directory stays under the bound.
+// Hit / miss counts are kept in <dir>/stats, shared by every process using the directory.
+
+public class CompileCache {
+
+  public static final long DEFAULT_SIZE = 256L << 20; // 256MB
+
+  static final int RESCAN = 64;
+
+  private final Path dir;
+  private final long maxBytes;
+  private final CompileCache budget; // whose bound this cache counts against, itself when top level
+  private final List<Path> dirs = new ArrayList<Path>(); // budget only: every directory under the bound
+  private long known = -1; // budget only: bytes of all those entries, -1 until listed
+  private int stores = 0; // budget only: since the last listing
+  private long hits = 0, misses = 0; // this process
+
+  public CompileCache(Path dir, long maxBytes) throws IOException {
+    this.dir = dir;
+    this.maxBytes = maxBytes;
+    this.budget = this;
+    Files.createDirectories(dir);
+    dirs.add(dir);
+  }
+
+  private CompileCache(Path dir, CompileCache budget) throws IOException {
+    this.dir = dir;
+    this.maxBytes = budget.maxBytes;
+    this.budget = budget;
+    Files.createDirectories(dir);
+  }
+
+  // a cache in the subdirectory name, counted against the size bound of this one
+  public CompileCache share(String name) throws IOException {
+    CompileCache shared = new CompileCache(dir.resolve(name), budget);
+    synchronized(budget){
+      budget.dirs.add(shared.dir);
+    }
+    return shared;
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // cache key of a source compiled with some flags by this build of the compiler
+  public String key(byte[] source, String flags){
+    MessageDigest sha = sha256();
+    sha.update(Build.FINGERPRINT);
+    sha.update(flags.getBytes(StandardCharsets.UTF_8));
+    sha.update((byte) 0);
+    sha.update(source);
+    return hex(sha.digest());
+  }
+
+  // cached assembly, null on a miss
+  public synchronized byte[] get(String key) throws IOException {
+    Path entry = dir.resolve(key + ".s");
+    try{
+      byte[] assembly = Files.readAllBytes(entry);
+      Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis())); // most recently used
+      hits++;
+      count(1, 0);
+      return assembly;
+    }catch(NoSuchFileException e){
+      misses++;
+      count(0, 1);
+      return null;
+    }
+  }
+
+  // written to a temporary file then renamed, so readers never see half an entry
+  public synchronized void put(String key, byte[] assembly) throws IOException {
+    Path temp = Files.createTempFile(dir, key, ".tmp");
+    Files.write(temp, assembly);
+    Files.move(temp, dir.resolve(key + ".s"), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    budget.stored(assembly.length);
+  }
+
+  // size bound after a store of size bytes in any of the directories
+  private synchronized void stored(long size) throws IOException {
+    if(known >= 0 && known + size <= maxBytes && ++stores < RESCAN){
+      known += size;
+      return;
+    }
+    known = evict();
+    stores = 0;
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // least recently used entries go first
+  static final class Entry {
+    final Path path;
+    final long size, used;
+
+    Entry(Path path, long size, long used){
+      this.path = path;
+      this.size = size;
+      this.used = used;
+    }
+  }
+
+  // returns the bytes left
+  private long evict() throws IOException {
+    List<Path> files = new ArrayList<Path>();
+    for(Path d: dirs){
+      try(Stream<Path> list = Files.list(d)){
+        files.addAll(list.filter(p -> p.toString().endsWith(".s")).collect(Collectors.toList()));
+      }
+    }
+    long total = 0;
+    List<Entry> entries = new ArrayList<Entry>();
+    for(Path file: files){
+      try{
+        Entry entry = new Entry(file, Files.size(file), Files.getLastModifiedTime(file).toMillis());
+        entries.add(entry);
+        total += entry.size;
+      }catch(NoSuchFileException e){
+        // evicted by another process meanwhile
+      }
+    }
+    if(total <= maxBytes) return total;
+    Collections.sort(entries, new Comparator<Entry>(){
+      public int compare(Entry a, Entry b){return Long.compare(a.used, b.used);}
+    });
+    for(Entry entry: entries){
+      if(total <= maxBytes) break;
+      Files.deleteIfExists(entry.path);
+      total -= entry.size;
+    }
+    return total;
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // hit / miss counts
+  public long hits(){return hits;}
+  public long misses(){return misses;}
+
+  // cumulative {hits, misses} of every process using this directory
+  public long[] totals() throws IOException {
+    return count(0, 0);
+  }
+
+  // adds to the shared counters under a file lock, returns the new totals
+  private long[] count(long hit, long miss) throws IOException {
+    try(FileChannel stats = FileChannel.open(dir.resolve("stats"), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)){
+      FileLock lock = stats.lock();
+      try{
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        while(buffer.hasRemaining() && stats.read(buffer) >= 0);
+        buffer.flip();
+        long[] totals = buffer.remaining() == 16 ? new long[]{buffer.getLong(), buffer.getLong()} : new long[2];
+        if(hit == 0 && miss == 0) return totals;
+        totals[0] += hit;
+        totals[1] += miss;
+        buffer.clear();
+        buffer.putLong(totals[0]).putLong(totals[1]).flip();
+        stats.position(0);
+        while(buffer.hasRemaining()) stats.write(buffer);
+        return totals;
+      }finally{
+        lock.release();
+      }
+    }
+  }
+
+  public String report() throws IOException {
+    long[] totals = totals();
+    return "compile cache " + dir + ": " + hits + " hits, " + misses + " misses (all runs: " + totals[0] + " hits, " + totals[1] + " misses)";
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // fingerprint of the compiler build, computed once per JVM
+  static final class Build {
+    static final byte[] FINGERPRINT = fingerprint();
+
+    private static byte[] fingerprint(){
+      MessageDigest sha = sha256();
+      try{
+        Path location = Paths.get(CCompiler.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        if(Files.isDirectory(location)){
+          // class files of the compiler package (grammar included), in a fixed order
+          List<Path> classes;
+          try(Stream<Path> files = Files.walk(location.resolve("compiler"))){
+            classes = files.filter(p -> p.toString().endsWith(".class")).sorted().collect(Collectors.toList());
+          }
+          for(Path file: classes){
+            sha.update(location.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+            sha.update(Files.readAllBytes(file));
+          }
+        }else{
+          sha.update(Files.readAllBytes(location)); // jar
+        }
+      }catch(IOException | URISyntaxException | RuntimeException e){
+        // unknown build: fall back to this class alone, still changes with most compiler edits
+        try(InputStream in = CCompiler.class.getResourceAsStream("CCompiler.class")){
+          byte[] buffer = new byte[8192];
+          for(int n; in != null && (n = in.read(buffer)) > 0; ) sha.update(buffer, 0, n);
+        }catch(IOException ignored){
+          // no class file either, hash stays the same for every build
+        }
+      }
+      return sha.digest();
+    }
+  }
+
+  static MessageDigest sha256(){
+    try{
+      return MessageDigest.getInstance("SHA-256");
+    }catch(NoSuchAlgorithmException e){
+      throw new IllegalStateException(e); // every JVM has SHA-256
+    }
+  }
+
+  static String hex(byte[] bytes){
+    StringBuilder hex = new StringBuilder(bytes.length * 2);
+    for(byte b: bytes){
+      hex.append(Character.forDigit((b >> 4) & 15, 16)).append(Character.forDigit(b & 15, 16));
+    }
+    return hex.toString();
+  }
+}
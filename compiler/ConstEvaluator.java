@@ -0,0 +1,348 @@
+package compiler;
+
+import compiler.antlr.*;
+import org.antlr.v4.runtime.tree.*;
+
+import java.util.Map;
+
+////////////////////////////////////////////////////////////////////////////////////
+// Constant expression evaluator
+// Folds C constant expressions straight from the parse tree (global initializers,
+// array sizes, case labels, enum values). Follows the MIPS o32 C semantics:
+//  - char / short promoted to int, int and unsigned are 32 bits and wrap around
+//  - usual arithmetic conversions (double > float > unsigned > int)
+//  - signed >> is arithmetic, unsigned >> is logical
+// Returns null for anything that is not a constant expression (calls, assignments,
+// unknown identifiers, division by zero...). Identifiers are resolved through the
+// names map, which the compiler fills with enum constants.
+
+class ConstEvaluator extends CBaseVisitor<ConstEvaluator.Value> {
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // folded value: integers are kept normalized to 32 bits, reals rounded to their precision
+  static final class Value {
+    final types type; // INT, UNSIGNED, FLOAT or DOUBLE
+    final long bits;
+    final double real;
+
+    private Value(types type, long bits, double real){
+      this.type = type;
+      this.bits = bits;
+      this.real = real;
+    }
+
+    static Value ofInt(long v){return new Value(types.INT, (long)(int)v, 0);}
+    static Value ofUnsigned(long v){return new Value(types.UNSIGNED, v & 0xFFFFFFFFL, 0);}
+    static Value ofFloat(double d){return new Value(types.FLOAT, 0, (double)(float)d);}
+    static Value ofDouble(double d){return new Value(types.DOUBLE, 0, d);}
+    static Value ofBool(boolean b){return ofInt(b ? 1 : 0);}
+
+    boolean isInteger(){return type == types.INT || type == types.UNSIGNED;}
+    boolean isZero(){return isInteger() ? bits == 0 : real == 0;}
+    long asLong(){return isInteger() ? bits : (long) real;}
+    double asDouble(){return isInteger() ? (double) bits : real;}
+
+    // conversion as done by a C cast to t
+    Value to(types t){
+      switch(t){
+        case DOUBLE:
+          return ofDouble(asDouble());
+        case FLOAT:
+          return ofFloat(asDouble());
+        case UNSIGNED:
+          return ofUnsigned(asLong());
+        case CHAR:
+          return ofInt((byte) asLong());
+        case SHORT:
+          return ofInt((short) asLong());
+        default:
+          return ofInt(asLong());
+      }
+    }
+
+    @Override public String toString(){
+      switch(type){
+        case FLOAT:
+          return Float.toString((float) real);
+        case DOUBLE:
+          return Double.toString(real);
+        default:
+          return Long.toString(bits);
+      }
+    }
+  }
+
+  private final Map<String, Value> names;
+
+  ConstEvaluator(Map<String, Value> names){
+    this.names = names;
+  }
+
+  // fold a subtree, null if not constant
+  public Value fold(ParseTree tree){
+    return tree == null ? null : this.visit(tree);
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // helpers
+
+  // usual arithmetic conversions
+  static types common(Value a, Value b){
+    if(a.type == types.DOUBLE || b.type == types.DOUBLE) return types.DOUBLE;
+    if(a.type == types.FLOAT || b.type == types.FLOAT) return types.FLOAT;
+    if(a.type == types.UNSIGNED || b.type == types.UNSIGNED) return types.UNSIGNED;
+    return types.INT;
+  }
+
+  static Value make(types t, long v){
+    return t == types.UNSIGNED ? Value.ofUnsigned(v) : Value.ofInt(v);
+  }
+
+  static Value make(types t, double d){
+    return t == types.FLOAT ? Value.ofFloat(d) : Value.ofDouble(d);
+  }
+
+  // a single arithmetic / bitwise / comparison operator on two constants
+  static Value binary(String op, Value left, Value right){
+    if(left == null || right == null) return null;
+    types t = common(left, right);
+    boolean real = (t == types.FLOAT || t == types.DOUBLE);
+    boolean unsigned = (t == types.UNSIGNED);
+    long a = left.to(t).asLong(), b = right.to(t).asLong();
+    double x = left.asDouble(), y = right.asDouble();
+    switch(op){
+      case "*":
+        return real ? make(t, x * y) : make(t, a * b);
+      case "/":
+        if(real) return make(t, x / y);
+        if(b == 0) return null;
+        return unsigned ? make(t, a / b) : make(t, (int) a / (int) b);
+      case "%":
+        if(real || b == 0) return null;
+        return unsigned ? make(t, a % b) : make(t, (int) a % (int) b);
+      case "+":
+        return real ? make(t, x + y) : make(t, a + b);
+      case "-":
+        return real ? make(t, x - y) : make(t, a - b);
+      case "<<":
+      case ">>":{
+        if(!left.isInteger() || !right.isInteger()) return null;
+        int count = (int) right.bits & 31;
+        if(op.equals("<<")) return make(left.type, left.bits << count);
+        return left.type == types.UNSIGNED ? make(left.type, left.bits >>> count) : make(left.type, (long)((int) left.bits >> count));
+      }
+      case "<":
+        return Value.ofBool(real ? x < y : compare(a, b, unsigned) < 0);
+      case ">":
+        return Value.ofBool(real ? x > y : compare(a, b, unsigned) > 0);
+      case "<=":
+        return Value.ofBool(real ? x <= y : compare(a, b, unsigned) <= 0);
+      case ">=":
+        return Value.ofBool(real ? x >= y : compare(a, b, unsigned) >= 0);
+      case "==":
+        return Value.ofBool(real ? x == y : a == b);
+      case "!=":
+        return Value.ofBool(real ? x != y : a != b);
+      case "&":
+        return real ? null : make(t, a & b);
+      case "^":
+        return real ? null : make(t, a ^ b);
+      case "|":
+        return real ? null : make(t, a | b);
+      default:
+        return null;
+    }
+  }
+
+  static int compare(long a, long b, boolean unsigned){
+    return unsigned ? Integer.compareUnsigned((int) a, (int) b) : Integer.compare((int) a, (int) b);
+  }
+
+  // C type name to the type enum, null for anything we cannot size
+  static types baseType(String name){
+    if(name.contains("*")) return types.UNSIGNED; // pointers are plain 32 bit words
+    switch(name){
+      case "char": case "signedchar": case "unsignedchar":
+        return types.CHAR;
+      case "short": case "shortint": case "unsignedshort": case "unsignedshortint": case "signedshort": case "signedshortint":
+        return types.SHORT;
+      case "int": case "signed": case "signedint": case "long": case "longint":
+        return types.INT;
+      case "unsigned": case "unsignedint": case "unsignedlong":
+        return types.UNSIGNED;
+      case "float":
+        return types.FLOAT;
+      case "double": case "longdouble":
+        return types.DOUBLE;
+      default:
+        return null;
+    }
+  }
+
+  static int sizeOf(String name){
+    if(name.contains("*")) return 4;
+    types t = baseType(name);
+    if(t == null) return -1;
+    switch(t){
+      case CHAR:
+        return 1;
+      case SHORT:
+        return 2;
+      case DOUBLE:
+        return 8;
+      default:
+        return 4;
+    }
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // literal parsing (integer, floating point and character constants)
+  static Value parseConstant(String text){
+    if(text.charAt(0) == '\''){
+      String c = text.substring(1, text.length() - 1);
+      int v = c.charAt(0) == '\\' ? CCompiler.escapeSequenceValue(c)[0] : (int) c.charAt(0);
+      return Value.ofInt((byte) v); // plain char is signed on MIPS
+    }
+    String lower = text.toLowerCase();
+    boolean hex = lower.startsWith("0x");
+    boolean floating = hex ? lower.contains("p") : (lower.contains(".") || lower.contains("e"));
+    try{
+      if(floating){
+        if(lower.endsWith("f")) return Value.ofFloat(Double.parseDouble(text.substring(0, text.length() - 1)));
+        if(lower.endsWith("l")) return Value.ofDouble(Double.parseDouble(text.substring(0, text.length() - 1)));
+        return Value.ofDouble(Double.parseDouble(text));
+      }
+      int end = lower.length();
+      boolean unsigned = false;
+      while(end > 0 && (lower.charAt(end - 1) == 'u' || lower.charAt(end - 1) == 'l')){
+        if(lower.charAt(end - 1) == 'u') unsigned = true;
+        end--;
+      }
+      String digits = lower.substring(0, end);
+      long v;
+      boolean decimal = false;
+      if(hex) v = Long.parseLong(digits.substring(2), 16);
+      else if(digits.startsWith("0b")) v = Long.parseLong(digits.substring(2), 2);
+      else if(digits.length() > 1 && digits.charAt(0) == '0') v = Long.parseLong(digits.substring(1), 8);
+      else {v = Long.parseLong(digits); decimal = true;}
+      // octal / hex constants that do not fit an int become unsigned (C99 6.4.4.1)
+      if(unsigned || (!decimal && v > Integer.MAX_VALUE && v <= 0xFFFFFFFFL)) return Value.ofUnsigned(v);
+      return Value.ofInt(v);
+    }catch(NumberFormatException e){
+      return null;
+    }
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // visitor. Single child rules are passed through, anything else not handled (calls,
+  // assignments, comma...) is not constant
+  @Override public Value visitChildren(RuleNode node){
+    if(node.getChildCount() == 1) return this.visit(node.getChild(0));
+    return null;
+  }
+
+  @Override public Value visitTerminal(TerminalNode node){
+    return null;
+  }
+
+  @Override public Value visitIntConstPrimaryExpr(CParser.IntConstPrimaryExprContext ctx){
+    return parseConstant(ctx.val.getText());
+  }
+
+  @Override public Value visitIdPrimaryExpr(CParser.IdPrimaryExprContext ctx){
+    return names.get(ctx.id.getText());
+  }
+
+  @Override public Value visitParExprPrimaryExpr(CParser.ParExprPrimaryExprContext ctx){
+    return this.visit(ctx.expr);
+  }
+
+  @Override public Value visitCastUnaryExpr(CParser.CastUnaryExprContext ctx){
+    Value v = this.visit(ctx.right);
+    if(v == null) return null;
+    switch(ctx.left.getText()){
+      case "+":
+        return v;
+      case "-":
+        return v.isInteger() ? make(v.type, -v.bits) : make(v.type, -v.real);
+      case "~":
+        return v.isInteger() ? make(v.type, ~v.bits) : null;
+      case "!":
+        return Value.ofBool(v.isZero());
+      default:
+        return null; // & and * need an address
+    }
+  }
+
+  @Override public Value visitTypeCastExpr(CParser.TypeCastExprContext ctx){
+    Value v = this.visit(ctx.expr);
+    String name = ctx.type.getText();
+    types t = baseType(name);
+    if(v == null || t == null) return null;
+    if(name.startsWith("unsigned") && (t == types.CHAR || t == types.SHORT)) return Value.ofInt(v.asLong() & (t == types.CHAR ? 0xFF : 0xFFFF)); // zero extended
+    return v.to(t);
+  }
+
+  @Override public Value visitSizeTypeUnaryExpe(CParser.SizeTypeUnaryExpeContext ctx){
+    int size = sizeOf(ctx.type.getText());
+    return size < 0 ? null : Value.ofUnsigned(size);
+  }
+
+  @Override public Value visitOpMultExpr(CParser.OpMultExprContext ctx){
+    return binary(ctx.op.getText(), this.visit(ctx.left), this.visit(ctx.right));
+  }
+
+  @Override public Value visitOpAddExpr(CParser.OpAddExprContext ctx){
+    return binary(ctx.op.getText(), this.visit(ctx.left), this.visit(ctx.right));
+  }
+
+  @Override public Value visitOpShiftExpr(CParser.OpShiftExprContext ctx){
+    return binary(ctx.op.getText(), this.visit(ctx.left), this.visit(ctx.right));
+  }
+
+  @Override public Value visitOpRelExpr(CParser.OpRelExprContext ctx){
+    return binary(ctx.op.getText(), this.visit(ctx.left), this.visit(ctx.right));
+  }
+
+  @Override public Value visitOpEqualExpr(CParser.OpEqualExprContext ctx){
+    return binary(ctx.op.getText(), this.visit(ctx.left), this.visit(ctx.right));
+  }
+
+  @Override public Value visitOpAndExpr(CParser.OpAndExprContext ctx){
+    return binary("&", this.visit(ctx.left), this.visit(ctx.right));
+  }
+
+  @Override public Value visitOpExcOrExpr(CParser.OpExcOrExprContext ctx){
+    return binary("^", this.visit(ctx.left), this.visit(ctx.right));
+  }
+
+  @Override public Value visitOpIncOrExpr(CParser.OpIncOrExprContext ctx){
+    return binary("|", this.visit(ctx.left), this.visit(ctx.right));
+  }
+
+  @Override public Value visitOpLogAndExpr(CParser.OpLogAndExprContext ctx){
+    Value left = this.visit(ctx.left);
+    if(left == null) return null;
+    if(left.isZero()) return Value.ofBool(false);
+    Value right = this.visit(ctx.right);
+    return right == null ? null : Value.ofBool(!right.isZero());
+  }
+
+  @Override public Value visitOpLogOrExpr(CParser.OpLogOrExprContext ctx){
+    Value left = this.visit(ctx.left);
+    if(left == null) return null;
+    if(!left.isZero()) return Value.ofBool(true);
+    Value right = this.visit(ctx.right);
+    return right == null ? null : Value.ofBool(!right.isZero());
+  }
+
+  @Override public Value visitConditionalExpression(CParser.ConditionalExpressionContext ctx){
+    Value cond = this.visit(ctx.cond);
+    if(ctx.true_exec == null || cond == null) return cond;
+    Value t = this.visit(ctx.true_exec);
+    Value f = this.visit(ctx.false_exec);
+    Value taken = cond.isZero() ? f : t;
+    if(taken == null) return null;
+    return (t != null && f != null) ? taken.to(common(t, f)) : taken;
+  }
+}
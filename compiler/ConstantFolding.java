@@ -0,0 +1,148 @@
+package compiler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+////////////////////////////////////////////////////////////////////////////////////
+// Constant folding (IR pass, after SlotPromotion)
+// A register is known inside a block from the CONST (or copy of a known register) that last
+// wrote it there, everywhere when that is its only definition. Operators on known registers
+// become CONST (C semantics of ConstEvaluator, nothing folded for a division by zero),
+// a known right operand becomes the immediate of the instruction (a known left one too,
+// swapped, when the operator has a mirror: + * & | ^ == != and the comparisons) for
+// MipsBackend to pick immediate forms, shifts or magic numbers (see StrengthReduction),
+// branches and switches on them become jumps, then the blocks no longer reached and the
+// instructions whose result is never read (calls stay) are removed. Repeated until
+// nothing changes: a folded value can make a later block's operands known.
+
+final class ConstantFolding {
+
+  private ConstantFolding(){}
+
+  static void run(Ir.Function fn){
+    for(boolean changed = true; changed; ){
+      boolean jumps = false;
+      changed = false;
+      int[] defs = new int[fn.regs];
+      Map<Ir.Reg, Long> global = new HashMap<Ir.Reg, Long>();
+      for(Ir.Block block: fn.blocks){
+        for(Ir.Instr i: block.code){
+          if(i.dst != null) defs[i.dst.id]++;
+        }
+      }
+      for(Ir.Block block: fn.blocks){
+        for(Ir.Instr i: block.code){
+          if(i.op == Ir.Op.CONST && defs[i.dst.id] == 1) global.put(i.dst, i.imm);
+        }
+      }
+      for(Ir.Block block: fn.blocks){
+        Map<Ir.Reg, Long> known = new HashMap<Ir.Reg, Long>(); // this block
+        List<Ir.Instr> code = block.code;
+        for(int n=0; n<code.size(); n++){
+          Ir.Instr i = code.get(n);
+          Long a = i.a != null ? value(i.a, known, global) : null;
+          Long b = i.b != null ? value(i.b, known, global) : i.op.isBinary() ? (Long) i.imm : null;
+          Ir.Instr folded = null;
+          if(i.op == Ir.Op.COPY && a != null){
+            folded = Ir.constant(i.dst, a);
+          }else if(i.op.isBinary() && a != null && b != null){
+            ConstEvaluator.Value v = ConstEvaluator.binary(i.op.symbol(), ConstEvaluator.Value.ofInt(a), ConstEvaluator.Value.ofInt(b));
+            if(v != null) folded = Ir.constant(i.dst, v.bits);
+          }else if(i.op.isBinary() && i.b != null && b != null && immediate(i.op, b)){
+            folded = Ir.binary(i.op, i.dst, i.a, b);
+          }else if(i.op.isBinary() && i.b != null && a != null && swapped(i.op) != null){
+            folded = Ir.binary(swapped(i.op), i.dst, i.b, a);
+          }else if(i.op.isUnary() && a != null){
+            folded = Ir.constant(i.dst, i.op == Ir.Op.NEG ? -a : i.op == Ir.Op.NOT ? ~a : a == 0 ? 1 : 0);
+          }else if(i.op == Ir.Op.BRANCH && a != null){
+            folded = Ir.jump(a != 0 ? i.target : i.otherwise);
+          }else if(i.op == Ir.Op.SWITCH && a != null){
+            Ir.Block target = i.otherwise;
+            for(int c=0; c<i.values.length; c++){
+              if((int) i.values[c] == a) target = i.cases[c];
+            }
+            folded = Ir.jump(target);
+          }
+          if(folded != null){
+            code.set(n, folded);
+            jumps |= folded.op == Ir.Op.JUMP;
+            changed = true;
+            i = folded;
+          }
+          if(i.dst == null) continue;
+          if(i.op == Ir.Op.CONST) known.put(i.dst, i.imm);
+          else known.put(i.dst, null);
+        }
+      }
+      if(jumps) fn.removeUnreachable();
+      changed |= sweep(fn);
+    }
+  }
+
+  // operators taking a constant right operand as an immediate (all but division by zero)
+  private static boolean immediate(Ir.Op op, long b){
+    return b != 0 || op != Ir.Op.DIV && op != Ir.Op.REM;
+  }
+
+  // b op a as a op' b: the operator with its operands swapped, null when there is none
+  private static Ir.Op swapped(Ir.Op op){
+    switch(op){
+      case ADD: case MUL: case AND: case OR: case XOR: case EQ: case NE:
+        return op;
+      case LT: return Ir.Op.GT;
+      case GT: return Ir.Op.LT;
+      case LE: return Ir.Op.GE;
+      case GE: return Ir.Op.LE;
+      default:
+        return null;
+    }
+  }
+
+  // value of r at this point, null when not known
+  private static Long value(Ir.Reg r, Map<Ir.Reg, Long> known, Map<Ir.Reg, Long> global){
+    return known.containsKey(r) ? known.get(r) : global.get(r);
+  }
+
+  // remove what computes registers nobody reads, true if anything went
+  private static boolean sweep(Ir.Function fn){
+    int[] uses = new int[fn.regs];
+    Map<Ir.Reg, List<Ir.Instr>> defs = new HashMap<Ir.Reg, List<Ir.Instr>>();
+    Deque<Ir.Instr> dead = new ArrayDeque<Ir.Instr>();
+    for(Ir.Block block: fn.blocks){
+      for(Ir.Instr i: block.code){
+        for(Ir.Reg use: i.uses()){
+          uses[use.id]++;
+        }
+        if(i.dst == null) continue;
+        if(!defs.containsKey(i.dst)) defs.put(i.dst, new ArrayList<Ir.Instr>());
+        defs.get(i.dst).add(i);
+      }
+    }
+    for(List<Ir.Instr> writes: defs.values()){
+      if(uses[writes.get(0).dst.id] == 0) dead.addAll(writes);
+    }
+    Set<Ir.Instr> removed = new HashSet<Ir.Instr>();
+    while(!dead.isEmpty()){
+      Ir.Instr i = dead.pop();
+      if(i.op == Ir.Op.CALL){
+        i.dst = null; // the call stays
+        continue;
+      }
+      if(!removed.add(i)) continue;
+      for(Ir.Reg use: i.uses()){
+        if(--uses[use.id] == 0 && defs.containsKey(use)) dead.addAll(defs.get(use));
+      }
+    }
+    if(removed.isEmpty()) return false;
+    for(Ir.Block block: fn.blocks){
+      block.code.removeAll(removed);
+    }
+    return true;
+  }
+}
@@ -0,0 +1,210 @@
+package compiler;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+////////////////////////////////////////////////////////////////////////////////////
+// Per function compile cache
+// The text of every function definition is cached under a key made of its tokens and a
+// description of every global symbol it names (variables, typedefs, struct definitions,
+// function signatures, enum constants), see CCompiler.functionKey(). When only one function
+// of a unit changed, every other one is copied from here instead of being generated.
+// Function text is not position independent: branch labels (_if_stat_false_12) come from a
+// counter for the whole unit and string literals ($LC3) are numbered in order of first use.
+// An entry therefore remembers the labels and literals it used, in order. On a hit they are
+// asked again from this compile (same counter, same pool) and renamed in the text when they
+// differ, so the result is byte for byte what generating the function would have written.
+// Entries live in memory (LRU, bounded in characters), and on disk too when a CompileCache
+// directory is given, so separate runs share them.
+
+public class FunctionCache {
+
+  public static final long MEMORY = 64L << 20; // characters of text kept in memory
+
+  // one generated function
+  public static final class Entry {
+    final String text;
+    final String[] labels;   // makeName() labels, in order
+    final String[] literals; // $LC labels, in order of first use
+    final String[] contents; // characters of each literal
+
+    Entry(String text, String[] labels, String[] literals, String[] contents){
+      this.text = text;
+      this.labels = labels;
+      this.literals = literals;
+      this.contents = contents;
+    }
+
+    long size(){
+      return text.length();
+    }
+  }
+
+  // what a function being generated uses, becomes an Entry at the end
+  static final class Recording {
+    final List<String> labels = new ArrayList<String>();
+    final Map<String, String> literals = new LinkedHashMap<String, String>(); // label -> contents
+
+    void label(String name){
+      labels.add(name);
+    }
+
+    void literal(String label, String contents){
+      if(!literals.containsKey(label)) literals.put(label, contents);
+    }
+
+    Entry finish(String text){
+      return new Entry(text, labels.toArray(new String[0]), literals.keySet().toArray(new String[0]), literals.values().toArray(new String[0]));
+    }
+  }
+
+  private final CompileCache disk; // null: memory only
+  private final Map<String, Entry> memory = new LinkedHashMap<String, Entry>(16, 0.75f, true); // access order
+  private long chars = 0;
+  private long reused = 0, generated = 0;
+
+  public FunctionCache(CompileCache disk){
+    this.disk = disk;
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // key of a function description, for this build of the compiler
+  public String key(CharSequence description){
+    MessageDigest sha = CompileCache.sha256();
+    sha.update(CompileCache.Build.FINGERPRINT);
+    sha.update(description.toString().getBytes(StandardCharsets.UTF_8));
+    return CompileCache.hex(sha.digest());
+  }
+
+  // cached function, null on a miss
+  public synchronized Entry get(String key){
+    Entry entry = memory.get(key);
+    if(entry == null && disk != null){
+      try{
+        byte[] bytes = disk.get(key);
+        if(bytes != null){
+          entry = read(bytes);
+          remember(key, entry);
+        }
+      }catch(IOException e){
+        entry = null; // unreadable entry, generate the function again
+      }
+    }
+    if(entry != null) reused++;
+    else generated++;
+    return entry;
+  }
+
+  public synchronized void put(String key, Entry entry){
+    remember(key, entry);
+    if(disk != null){
+      try{
+        disk.put(key, write(entry));
+      }catch(IOException e){
+        // the disk copy is only an optimisation
+      }
+    }
+  }
+
+  private void remember(String key, Entry entry){
+    Entry old = memory.put(key, entry);
+    if(old != null) chars -= old.size();
+    chars += entry.size();
+    Iterator<Entry> oldest = memory.values().iterator();
+    while(chars > MEMORY && oldest.hasNext()){
+      chars -= oldest.next().size();
+      oldest.remove();
+    }
+  }
+
+  public synchronized long reused(){return reused;}
+  public synchronized long generated(){return generated;}
+
+  public synchronized String report(){
+    return "function cache: " + reused + " functions reused, " + generated + " generated";
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // rename whole label tokens of the text ($, dots and underscores are part of a token)
+  static String rename(String text, Map<String, String> names){
+    StringBuilder renamed = new StringBuilder(text.length() + 64);
+    int i = 0;
+    while(i < text.length()){
+      int start = i;
+      while(i < text.length() && isLabelChar(text.charAt(i))) i++;
+      if(i > start){
+        String token = text.substring(start, i);
+        String name = names.get(token);
+        renamed.append(name != null ? name : token);
+      }else{
+        renamed.append(text.charAt(i++));
+      }
+    }
+    return renamed.toString();
+  }
+
+  private static boolean isLabelChar(char c){
+    return Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == '.';
+  }
+
+  // base of a makeName() label: _if_stat_false_12 -> if_stat_false
+  static String base(String label){
+    return label.substring(1, label.lastIndexOf('_'));
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // disk format: text, labels, literals then contents, each string as length + UTF-8
+  static byte[] write(Entry entry) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(entry.text.length() + 256);
+    DataOutputStream data = new DataOutputStream(bytes);
+    writeString(data, entry.text);
+    writeStrings(data, entry.labels);
+    writeStrings(data, entry.literals);
+    writeStrings(data, entry.contents);
+    data.flush();
+    return bytes.toByteArray();
+  }
+
+  static Entry read(byte[] bytes) throws IOException {
+    DataInputStream data = new DataInputStream(new ByteArrayInputStream(bytes));
+    String text = readString(data);
+    return new Entry(text, readStrings(data), readStrings(data), readStrings(data));
+  }
+
+  private static void writeString(DataOutputStream data, String s) throws IOException {
+    byte[] utf8 = s.getBytes(StandardCharsets.UTF_8);
+    data.writeInt(utf8.length);
+    data.write(utf8);
+  }
+
+  private static void writeStrings(DataOutputStream data, String[] strings) throws IOException {
+    data.writeInt(strings.length);
+    for(String s: strings){
+      writeString(data, s);
+    }
+  }
+
+  private static String readString(DataInputStream data) throws IOException {
+    byte[] utf8 = new byte[data.readInt()];
+    data.readFully(utf8);
+    return new String(utf8, StandardCharsets.UTF_8);
+  }
+
+  private static String[] readStrings(DataInputStream data) throws IOException {
+    String[] strings = new String[data.readInt()];
+    for(int i=0; i<strings.length; i++){
+      strings[i] = readString(data);
+    }
+    return strings;
+  }
+}
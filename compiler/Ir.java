@@ -0,0 +1,371 @@
+package compiler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+////////////////////////////////////////////////////////////////////////////////////
+// Three address intermediate representation
+// A function is a list of basic blocks in layout order, the first one is the entry. Every
+// block ends with exactly one terminator (JUMP, BRANCH, SWITCH, RETURN), nothing else in a
+// block branches. Values are in virtual registers: any number of them, each with a C type,
+// and not SSA (the two arms of a ?: write the same register). Variables are slots
+// (parameters and locals), only reached through LOAD / STORE, globals are read and written
+// by name. SlotPromotion turns slots into registers, arguments are then read by PARAM.
+// Built by IrLowering from the parse tree, turned into MIPS by MipsBackend. Optimisation
+// passes go in between and rewrite the blocks in place.
+
+final class Ir {
+
+  private Ir(){}
+
+  enum Op {
+    CONST,                      // dst = imm
+    COPY,                       // dst = a
+    ADD, SUB, MUL, DIV, REM,    // dst = a op b (op imm when b is null), 32 bits wrapping, DIV / REM truncate like C
+    AND, OR, XOR, SHL, SHR,     // SHR is arithmetic
+    LT, LE, GT, GE, EQ, NE,     // dst = a op b ? 1 : 0, signed
+    NEG, NOT, LNOT,             // dst = -a, ~a, !a
+    LOAD, STORE,                // dst = slot, slot = a
+    LOAD_GLOBAL, STORE_GLOBAL,  // dst = symbol, symbol = a
+    PARAM,                      // dst = argument imm, only at the start of the entry block
+    CALL,                       // dst = symbol(args), no dst for void functions
+    JUMP,                       // goto target
+    BRANCH,                     // a != 0 ? goto target : goto otherwise
+    SWITCH,                     // goto cases[i] when a == values[i], otherwise when none
+    RETURN;                     // return a (none for void)
+
+    boolean isBinary(){return compareTo(ADD) >= 0 && compareTo(NE) <= 0;}
+    boolean isUnary(){return compareTo(NEG) >= 0 && compareTo(LNOT) <= 0;}
+    boolean isTerminator(){return compareTo(JUMP) >= 0;}
+
+    String symbol(){
+      switch(this){
+        case ADD: return "+";
+        case SUB: case NEG: return "-";
+        case MUL: return "*";
+        case DIV: return "/";
+        case REM: return "%";
+        case AND: return "&";
+        case OR: return "|";
+        case XOR: return "^";
+        case SHL: return "<<";
+        case SHR: return ">>";
+        case LT: return "<";
+        case LE: return "<=";
+        case GT: return ">";
+        case GE: return ">=";
+        case EQ: return "==";
+        case NE: return "!=";
+        case NOT: return "~";
+        case LNOT: return "!";
+        default: return name().toLowerCase();
+      }
+    }
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // virtual register
+  static final class Reg {
+    final int id;
+    final types type;
+
+    Reg(int id, types type){
+      this.id = id;
+      this.type = type;
+    }
+
+    @Override public String toString(){return "%" + id;}
+  }
+
+  // parameter or local variable
+  static final class Slot {
+    final int id;
+    final String name;
+    final int param; // argument index, -1 for locals
+
+    Slot(int id, String name, int param){
+      this.id = id;
+      this.name = name;
+      this.param = param;
+    }
+
+    @Override public String toString(){return name + "." + id;}
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // one instruction, only the fields of its op are set
+  static final class Instr {
+    Op op;
+    Reg dst, a, b;
+    long imm;
+    Slot slot;
+    String symbol;
+    List<Reg> args;
+    Block target, otherwise;
+    long[] values;
+    Block[] cases;
+
+    Instr(Op op){
+      this.op = op;
+    }
+
+    // registers read, in order
+    List<Reg> uses(){
+      List<Reg> uses = new ArrayList<Reg>(2);
+      if(a != null) uses.add(a);
+      if(b != null) uses.add(b);
+      if(args != null) uses.addAll(args);
+      return uses;
+    }
+
+    List<Block> successors(){
+      switch(op){
+        case JUMP:
+          return Collections.singletonList(target);
+        case BRANCH:
+          return Arrays.asList(target, otherwise);
+        case SWITCH:
+          List<Block> successors = new ArrayList<Block>(Arrays.asList(cases));
+          successors.add(otherwise);
+          return successors;
+        default:
+          return Collections.emptyList();
+      }
+    }
+
+    @Override public String toString(){
+      String to = dst != null ? dst + " = " : "";
+      switch(op){
+        case CONST:
+          return to + imm;
+        case COPY:
+          return to + a;
+        case LOAD:
+          return to + slot;
+        case STORE:
+          return slot + " = " + a;
+        case LOAD_GLOBAL:
+          return to + symbol;
+        case STORE_GLOBAL:
+          return symbol + " = " + a;
+        case PARAM:
+          return to + "param " + imm;
+        case CALL:
+          return to + "call " + symbol + args;
+        case JUMP:
+          return "jump " + target;
+        case BRANCH:
+          return "branch " + a + " ? " + target + " : " + otherwise;
+        case SWITCH:{
+          StringBuilder text = new StringBuilder("switch ").append(a).append(" [");
+          for(int i=0; i<values.length; i++){
+            text.append(values[i]).append(": ").append(cases[i]).append(", ");
+          }
+          return text.append("else: ").append(otherwise).append(']').toString();
+        }
+        case RETURN:
+          return a != null ? "return " + a : "return";
+        default:
+          if(op.isBinary()) return to + a + " " + op.symbol() + " " + (b != null ? b : imm);
+          return to + op.symbol() + a;
+      }
+    }
+  }
+
+  static Instr constant(Reg dst, long value){
+    Instr i = new Instr(Op.CONST);
+    i.dst = dst;
+    i.imm = (int) value;
+    return i;
+  }
+
+  static Instr copy(Reg dst, Reg a){
+    Instr i = new Instr(Op.COPY);
+    i.dst = dst;
+    i.a = a;
+    return i;
+  }
+
+  static Instr binary(Op op, Reg dst, Reg a, Reg b){
+    Instr i = new Instr(op);
+    i.dst = dst;
+    i.a = a;
+    i.b = b;
+    return i;
+  }
+
+  // constant right operand
+  static Instr binary(Op op, Reg dst, Reg a, long b){
+    Instr i = new Instr(op);
+    i.dst = dst;
+    i.a = a;
+    i.imm = (int) b;
+    return i;
+  }
+
+  static Instr unary(Op op, Reg dst, Reg a){
+    Instr i = new Instr(op);
+    i.dst = dst;
+    i.a = a;
+    return i;
+  }
+
+  static Instr load(Reg dst, Slot slot){
+    Instr i = new Instr(Op.LOAD);
+    i.dst = dst;
+    i.slot = slot;
+    return i;
+  }
+
+  static Instr store(Slot slot, Reg a){
+    Instr i = new Instr(Op.STORE);
+    i.slot = slot;
+    i.a = a;
+    return i;
+  }
+
+  static Instr loadGlobal(Reg dst, String symbol){
+    Instr i = new Instr(Op.LOAD_GLOBAL);
+    i.dst = dst;
+    i.symbol = symbol;
+    return i;
+  }
+
+  static Instr storeGlobal(String symbol, Reg a){
+    Instr i = new Instr(Op.STORE_GLOBAL);
+    i.symbol = symbol;
+    i.a = a;
+    return i;
+  }
+
+  static Instr param(Reg dst, int index){
+    Instr i = new Instr(Op.PARAM);
+    i.dst = dst;
+    i.imm = index;
+    return i;
+  }
+
+  static Instr call(Reg dst, String symbol, List<Reg> args){
+    Instr i = new Instr(Op.CALL);
+    i.dst = dst;
+    i.symbol = symbol;
+    i.args = args;
+    return i;
+  }
+
+  static Instr jump(Block target){
+    Instr i = new Instr(Op.JUMP);
+    i.target = target;
+    return i;
+  }
+
+  static Instr branch(Reg a, Block target, Block otherwise){
+    Instr i = new Instr(Op.BRANCH);
+    i.a = a;
+    i.target = target;
+    i.otherwise = otherwise;
+    return i;
+  }
+
+  static Instr switchOn(Reg a, long[] values, Block[] cases, Block otherwise){
+    Instr i = new Instr(Op.SWITCH);
+    i.a = a;
+    i.values = values;
+    i.cases = cases;
+    i.otherwise = otherwise;
+    return i;
+  }
+
+  static Instr ret(Reg a){
+    Instr i = new Instr(Op.RETURN);
+    i.a = a;
+    return i;
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // basic block, hint is the base of its label in the assembly
+  static final class Block {
+    final int id;
+    final String hint;
+    final List<Instr> code = new ArrayList<Instr>();
+
+    Block(int id, String hint){
+      this.id = id;
+      this.hint = hint;
+    }
+
+    Instr terminator(){
+      return code.isEmpty() ? null : code.get(code.size() - 1);
+    }
+
+    List<Block> successors(){
+      return terminator().successors();
+    }
+
+    @Override public String toString(){return hint + "." + id;}
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  static final class Function {
+    final String name;
+    final types returnType; // INT or VOID
+    final List<Slot> params = new ArrayList<Slot>();
+    final List<Slot> slots = new ArrayList<Slot>(); // parameters then locals
+    final List<Block> blocks = new ArrayList<Block>();
+    final BitSet variables = new BitSet(); // registers holding a local (SlotPromotion)
+    int regs = 0, labels = 0;
+
+    Function(String name, types returnType){
+      this.name = name;
+      this.returnType = returnType;
+    }
+
+    Reg newReg(types type){
+      return new Reg(regs++, type);
+    }
+
+    Slot newSlot(String name, int param){
+      Slot slot = new Slot(slots.size(), name, param);
+      slots.add(slot);
+      if(param >= 0) params.add(slot);
+      return slot;
+    }
+
+    // not placed in the layout yet
+    Block newBlock(String hint){
+      return new Block(labels++, hint);
+    }
+
+    // drop blocks no path from the entry reaches (code after return, break...)
+    void removeUnreachable(){
+      Set<Block> reached = new HashSet<Block>();
+      Deque<Block> work = new ArrayDeque<Block>();
+      reached.add(blocks.get(0));
+      work.push(blocks.get(0));
+      while(!work.isEmpty()){
+        for(Block next: work.pop().successors()){
+          if(reached.add(next)) work.push(next);
+        }
+      }
+      blocks.retainAll(reached);
+    }
+
+    @Override public String toString(){
+      StringBuilder text = new StringBuilder().append(returnType.name().toLowerCase()).append(' ').append(name).append(params).append('\n');
+      for(Block block: blocks){
+        text.append(block).append(":\n");
+        for(Instr i: block.code){
+          text.append("  ").append(i).append('\n');
+        }
+      }
+      return text.toString();
+    }
+  }
+}
@@ -0,0 +1,578 @@
+package compiler;
+
+import compiler.antlr.*;
+import org.antlr.v4.runtime.tree.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+////////////////////////////////////////////////////////////////////////////////////
+// Parse tree to IR (see Ir)
+// Lowers one function definition. Expressions return the register holding their value,
+// null for a call to a void function; statements return null. Conditions of if / loops /
+// && / || / ! are lowered to branches rather than 0 / 1 values.
+// Covers int code only:
+//  - int or void functions with int parameters, int locals (scalars), global int variables
+//    and enum constants
+//  - every int operator but & and * (address, pointer), calls to functions taking and
+//    returning ints
+//  - if, switch, while, do, for, break, continue, return
+// Anything else (other types, pointers, arrays, strings, goto, sizeof...) throws
+// Unsupported, lower() then returns null and the function is generated straight from the
+// tree by CCompiler. Lowering only reads the compiler (symbols, enum values): no label,
+// no literal, no symbol is created here, so giving up half way changes nothing.
+
+class IrLowering extends CBaseVisitor<Ir.Reg> {
+
+  // outside of what the IR covers
+  static final class Unsupported extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    Unsupported(String what){
+      super(what, null, false, false);
+    }
+  }
+
+  // a switch being lowered: its case blocks in source order
+  private static final class Cases {
+    final Map<Integer, Ir.Block> cases = new LinkedHashMap<Integer, Ir.Block>();
+    Ir.Block otherwise = null;
+  }
+
+  private final CCompiler compiler;
+  private Ir.Function fn;
+  private Ir.Block block; // where code goes, null after a terminator
+  private final Deque<Map<String, Ir.Slot>> scopes = new ArrayDeque<Map<String, Ir.Slot>>();
+  private final Deque<Ir.Block> breaks = new ArrayDeque<Ir.Block>();
+  private final Deque<Ir.Block> continues = new ArrayDeque<Ir.Block>();
+  private final Deque<Cases> switches = new ArrayDeque<Cases>();
+
+  String unsupported = null; // why the last lower() gave up
+
+  IrLowering(CCompiler compiler){
+    this.compiler = compiler;
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // IR of a function definition, null when it is not covered
+  Ir.Function lower(CParser.FunctionDefinitionContext ctx, String name){
+    try{
+      if(ctx.dec_list != null) throw new Unsupported("K&R parameters");
+      String type = ctx.spec != null ? CCompiler.text(ctx.spec) : "";
+      if(!type.equals("int") && !type.equals("void")) throw new Unsupported("return type " + type);
+      if(ctx.func_dec.ptr != null) throw new Unsupported("pointer return type");
+      fn = new Ir.Function(name, type.equals("int") ? types.INT : types.VOID);
+      block = null;
+      start(fn.newBlock("entry"));
+      scopes.push(new HashMap<String, Ir.Slot>());
+      parameters(ctx.func_dec.directDec);
+      items(ctx.comp_stat.itemL); // same scope as the parameters
+      if(block != null) terminate(Ir.ret(null));
+      fn.removeUnreachable();
+      return fn;
+    }catch(Unsupported e){
+      unsupported = e.getMessage();
+      return null;
+    }finally{
+      scopes.clear();
+      breaks.clear();
+      continues.clear();
+      switches.clear();
+    }
+  }
+
+  private void parameters(CParser.DirectDeclaratorContext dec){
+    if(dec instanceof CParser.IdlDirDecContext && ((CParser.IdlDirDecContext) dec).idL == null) return; // f()
+    if(!(dec instanceof CParser.ParamlDirDecContext)) throw new Unsupported("declarator " + CCompiler.text(dec));
+    CParser.ParameterTypeListContext list = ((CParser.ParamlDirDecContext) dec).paramL;
+    if(!(list instanceof CParser.SingleParamTypeListContext)) throw new Unsupported("variadic function");
+    CParser.ParameterListContext params = ((CParser.SingleParamTypeListContext) list).paramL;
+    int i = 0;
+    for(CParser.ParameterListContext p: CCompiler.spine(params, CParser.ParameterListContext.class)){
+      CParser.ParameterDeclarationContext param = p instanceof CParser.MultParamListContext ? ((CParser.MultParamListContext) p).param : ((CParser.SingleParamListContext) p).param;
+      if(param instanceof CParser.AbsParamDecContext){
+        CParser.AbsParamDecContext abs = (CParser.AbsParamDecContext) param;
+        if(params instanceof CParser.SingleParamListContext && abs.dec == null && CCompiler.text(abs.spec).equals("void")) return; // f(void)
+        throw new Unsupported("unnamed parameter");
+      }
+      CParser.DecParamDecContext named = (CParser.DecParamDecContext) param;
+      if(!CCompiler.text(named.spec).equals("int")) throw new Unsupported("parameter type " + CCompiler.text(named.spec));
+      declare(name(named.dec), i++);
+    }
+  }
+
+  // name of a plain declarator (no pointer, array, function)
+  private static String name(CParser.DeclaratorContext dec){
+    if(dec.ptr != null || !dec.gccDeclaratorExtension().isEmpty() || !(dec.directDec instanceof CParser.IdDirDecContext)) throw new Unsupported("declarator " + CCompiler.text(dec));
+    return ((CParser.IdDirDecContext) dec.directDec).id.getText();
+  }
+
+  private Ir.Slot declare(String name, int param){
+    if(scopes.peek().containsKey(name)) throw new Unsupported("redeclaration of " + name);
+    Ir.Slot slot = fn.newSlot(name, param);
+    scopes.peek().put(name, slot);
+    return slot;
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // building blocks
+  private Ir.Reg reg(){
+    return fn.newReg(types.INT);
+  }
+
+  private Ir.Reg emit(Ir.Instr i){
+    if(block == null) start(fn.newBlock("dead")); // after a return / break, reached by nothing
+    block.code.add(i);
+    return i.dst;
+  }
+
+  private void terminate(Ir.Instr i){
+    emit(i);
+    block = null;
+  }
+
+  // place a block in the layout and put code there, the current block falls through to it
+  private void start(Ir.Block next){
+    if(block != null) emit(Ir.jump(next));
+    fn.blocks.add(next);
+    block = next;
+  }
+
+  // value of an expression that must have one
+  private Ir.Reg value(ParseTree tree){
+    Ir.Reg value = this.visit(tree);
+    if(value == null) throw new Unsupported("void value used");
+    return value;
+  }
+
+  private Ir.Reg constant(long value){
+    return emit(Ir.constant(reg(), value));
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // anything not handled below: single child rules are passed through, others are not covered
+  @Override public Ir.Reg visitChildren(RuleNode node){
+    if(node.getChildCount() == 1 && node.getChild(0) instanceof RuleNode) return this.visit(node.getChild(0));
+    throw new Unsupported(node.getClass().getSimpleName());
+  }
+
+  @Override public Ir.Reg visitTerminal(TerminalNode node){
+    throw new Unsupported(node.getText());
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // statements
+  private void items(CParser.BlockItemListContext items){
+    if(items == null) return;
+    for(CParser.BlockItemListContext list: CCompiler.spine(items, CParser.BlockItemListContext.class)){
+      this.visit(list instanceof CParser.MultBlockItemListContext ? ((CParser.MultBlockItemListContext) list).item : ((CParser.SingleBlockItemListContext) list).item);
+    }
+  }
+
+  @Override public Ir.Reg visitCompoundStatement(CParser.CompoundStatementContext ctx){
+    scopes.push(new HashMap<String, Ir.Slot>());
+    items(ctx.itemL);
+    scopes.pop();
+    return null;
+  }
+
+  @Override public Ir.Reg visitInitSpecDeclaration(CParser.InitSpecDeclarationContext ctx){
+    declarations(ctx.spec, ctx.initList);
+    return null;
+  }
+
+  // int locals, initialized in order. The name is in scope in its own initializer
+  private void declarations(CParser.DeclarationSpecifiersContext spec, CParser.InitDeclaratorListContext list){
+    if(!CCompiler.text(spec).equals("int")) throw new Unsupported("local type " + CCompiler.text(spec));
+    for(CParser.InitDeclaratorListContext l: CCompiler.spine(list, CParser.InitDeclaratorListContext.class)){
+      CParser.InitDeclaratorContext dec = l instanceof CParser.MultInitDecListContext ? ((CParser.MultInitDecListContext) l).dec : ((CParser.SingleInitDecListContext) l).dec;
+      if(dec instanceof CParser.TermInitDecContext){
+        declare(name(((CParser.TermInitDecContext) dec).dec), -1);
+      }else{
+        CParser.OpInitDecContext init = (CParser.OpInitDecContext) dec;
+        Ir.Slot slot = declare(name(init.left), -1);
+        if(!(init.right instanceof CParser.AssgnInitContext)) throw new Unsupported("initializer list");
+        emit(Ir.store(slot, value(((CParser.AssgnInitContext) init.right).expr)));
+      }
+    }
+  }
+
+  @Override public Ir.Reg visitExpressionStatement(CParser.ExpressionStatementContext ctx){
+    if(ctx.expr != null) this.visit(ctx.expr);
+    return null;
+  }
+
+  @Override public Ir.Reg visitIfSelecStat(CParser.IfSelecStatContext ctx){
+    Ir.Block then = fn.newBlock("if_true"), otherwise = fn.newBlock("if_false"), end = ctx.falseExec != null ? fn.newBlock("if_end") : otherwise;
+    branch(ctx.cond, then, otherwise);
+    start(then);
+    this.visit(ctx.trueExec);
+    if(ctx.falseExec != null){
+      if(block != null) terminate(Ir.jump(end));
+      start(otherwise);
+      this.visit(ctx.falseExec);
+    }
+    start(end);
+    return null;
+  }
+
+  // the dispatch ends the block of the condition, it is added once the body gave every case
+  @Override public Ir.Reg visitSwitchSelecStat(CParser.SwitchSelecStatContext ctx){
+    Ir.Reg cond = value(ctx.cond);
+    Ir.Block dispatch = block, end = fn.newBlock("switch_end");
+    block = null;
+    Cases cases = new Cases();
+    switches.push(cases);
+    breaks.push(end);
+    this.visit(ctx.trueExec);
+    breaks.pop();
+    switches.pop();
+    start(end);
+    long[] values = new long[cases.cases.size()];
+    Ir.Block[] targets = new Ir.Block[values.length];
+    int i = 0;
+    for(Map.Entry<Integer, Ir.Block> c: cases.cases.entrySet()){
+      values[i] = c.getKey();
+      targets[i++] = c.getValue();
+    }
+    dispatch.code.add(Ir.switchOn(cond, values, targets, cases.otherwise != null ? cases.otherwise : end));
+    return null;
+  }
+
+  @Override public Ir.Reg visitCaseLabelStat(CParser.CaseLabelStatContext ctx){
+    if(switches.isEmpty()) throw new Unsupported("case outside of a switch");
+    ConstEvaluator.Value value = compiler.constants.fold(ctx.cond);
+    if(value == null || !value.isInteger()) throw new Unsupported("case " + CCompiler.text(ctx.cond));
+    Ir.Block label = fn.newBlock("switch_case");
+    if(switches.peek().cases.put((int) value.asLong(), label) != null) throw new Unsupported("duplicate case");
+    start(label);
+    this.visit(ctx.exec);
+    return null;
+  }
+
+  @Override public Ir.Reg visitDefLabelStat(CParser.DefLabelStatContext ctx){
+    if(switches.isEmpty() || switches.peek().otherwise != null) throw new Unsupported("default");
+    switches.peek().otherwise = fn.newBlock("switch_default");
+    start(switches.peek().otherwise);
+    this.visit(ctx.exec);
+    return null;
+  }
+
+  @Override public Ir.Reg visitWhileIterStat(CParser.WhileIterStatContext ctx){
+    Ir.Block cond = fn.newBlock("while_cond"), body = fn.newBlock("while_body"), end = fn.newBlock("while_end");
+    start(cond);
+    branch(ctx.cond, body, end);
+    loop(body, cond, end, ctx.exec);
+    terminate(Ir.jump(cond));
+    start(end);
+    return null;
+  }
+
+  @Override public Ir.Reg visitDoIterStat(CParser.DoIterStatContext ctx){
+    Ir.Block body = fn.newBlock("do_body"), cond = fn.newBlock("do_cond"), end = fn.newBlock("do_end");
+    loop(body, cond, end, ctx.exec);
+    start(cond);
+    branch(ctx.cond, body, end);
+    start(end);
+    return null;
+  }
+
+  @Override public Ir.Reg visitForIterStat(CParser.ForIterStatContext ctx){
+    Ir.Block cond = fn.newBlock("for_cond"), body = fn.newBlock("for_body"), update = fn.newBlock("for_update"), end = fn.newBlock("for_end");
+    scopes.push(new HashMap<String, Ir.Slot>());
+    CParser.ForExpressionContext test, next;
+    if(ctx.cond instanceof CParser.DecForCondContext){
+      CParser.DecForCondContext c = (CParser.DecForCondContext) ctx.cond;
+      if(!(c.init instanceof CParser.MultForDecContext)) throw new Unsupported("for declaration");
+      declarations(((CParser.MultForDecContext) c.init).dec, ((CParser.MultForDecContext) c.init).init);
+      test = c.cond;
+      next = c.update;
+    }else{
+      CParser.ExpForCondContext c = (CParser.ExpForCondContext) ctx.cond;
+      if(c.init != null) this.visit(c.init);
+      test = c.cond;
+      next = c.update;
+    }
+    start(cond);
+    if(test != null) branch(test, body, end);
+    loop(body, update, end, ctx.exec);
+    start(update);
+    if(next != null) this.visit(next);
+    terminate(Ir.jump(cond));
+    start(end);
+    scopes.pop();
+    return null;
+  }
+
+  private void loop(Ir.Block body, Ir.Block next, Ir.Block end, ParseTree exec){
+    start(body);
+    breaks.push(end);
+    continues.push(next);
+    this.visit(exec);
+    continues.pop();
+    breaks.pop();
+  }
+
+  // comma separated: the value of the last one
+  @Override public Ir.Reg visitMultForExpr(CParser.MultForExprContext ctx){
+    this.visit(ctx.forExp);
+    return this.visit(ctx.expr);
+  }
+
+  @Override public Ir.Reg visitBreakJumpStat(CParser.BreakJumpStatContext ctx){
+    if(breaks.isEmpty()) throw new Unsupported("break outside of a loop or switch");
+    terminate(Ir.jump(breaks.peek()));
+    return null;
+  }
+
+  @Override public Ir.Reg visitContinueJumpStat(CParser.ContinueJumpStatContext ctx){
+    if(continues.isEmpty()) throw new Unsupported("continue outside of a loop");
+    terminate(Ir.jump(continues.peek()));
+    return null;
+  }
+
+  @Override public Ir.Reg visitReturnJumpStat(CParser.ReturnJumpStatContext ctx){
+    Ir.Reg value = null;
+    if(ctx.expr != null && fn.returnType == types.VOID) this.visit(ctx.expr);
+    else if(ctx.expr != null) value = value(ctx.expr);
+    terminate(Ir.ret(value));
+    return null;
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // conditions: jump to yes when the expression is not zero, no otherwise
+  private void branch(ParseTree tree, Ir.Block yes, Ir.Block no){
+    while(true){
+      if(tree instanceof CParser.ParExprPrimaryExprContext) tree = ((CParser.ParExprPrimaryExprContext) tree).expr;
+      else if(tree instanceof RuleNode && tree.getChildCount() == 1 && tree.getChild(0) instanceof RuleNode) tree = tree.getChild(0);
+      else break;
+    }
+    if(tree instanceof CParser.OpLogAndExprContext){
+      Ir.Block right = fn.newBlock("and_right");
+      branch(((CParser.OpLogAndExprContext) tree).left, right, no);
+      start(right);
+      branch(((CParser.OpLogAndExprContext) tree).right, yes, no);
+    }else if(tree instanceof CParser.OpLogOrExprContext){
+      Ir.Block right = fn.newBlock("or_right");
+      branch(((CParser.OpLogOrExprContext) tree).left, yes, right);
+      start(right);
+      branch(((CParser.OpLogOrExprContext) tree).right, yes, no);
+    }else if(tree instanceof CParser.CastUnaryExprContext && ((CParser.CastUnaryExprContext) tree).left.op.getType() == CParser.Not){
+      branch(((CParser.CastUnaryExprContext) tree).right, no, yes);
+    }else{
+      terminate(Ir.branch(value(tree), yes, no));
+    }
+  }
+
+  // 0 / 1 value of a condition
+  private Ir.Reg truth(ParseTree tree){
+    Ir.Reg result = reg();
+    Ir.Block yes = fn.newBlock("true"), no = fn.newBlock("false"), end = fn.newBlock("bool_end");
+    branch(tree, yes, no);
+    start(yes);
+    emit(Ir.constant(result, 1));
+    terminate(Ir.jump(end));
+    start(no);
+    emit(Ir.constant(result, 0));
+    start(end);
+    return result;
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // expressions
+  @Override public Ir.Reg visitMultExpr(CParser.MultExprContext ctx){
+    this.visit(ctx.left);
+    return this.visit(ctx.right);
+  }
+
+  @Override public Ir.Reg visitConditionalExpression(CParser.ConditionalExpressionContext ctx){
+    if(ctx.true_exec == null) return this.visit(ctx.cond);
+    Ir.Reg result = reg();
+    Ir.Block yes = fn.newBlock("cond_true"), no = fn.newBlock("cond_false"), end = fn.newBlock("cond_end");
+    branch(ctx.cond, yes, no);
+    start(yes);
+    emit(Ir.copy(result, value(ctx.true_exec)));
+    terminate(Ir.jump(end));
+    start(no);
+    emit(Ir.copy(result, value(ctx.false_exec)));
+    start(end);
+    return result;
+  }
+
+  @Override public Ir.Reg visitOpLogOrExpr(CParser.OpLogOrExprContext ctx){return truth(ctx);}
+  @Override public Ir.Reg visitOpLogAndExpr(CParser.OpLogAndExprContext ctx){return truth(ctx);}
+
+  @Override public Ir.Reg visitOpIncOrExpr(CParser.OpIncOrExprContext ctx){return binary(Ir.Op.OR, ctx.left, ctx.right);}
+  @Override public Ir.Reg visitOpExcOrExpr(CParser.OpExcOrExprContext ctx){return binary(Ir.Op.XOR, ctx.left, ctx.right);}
+  @Override public Ir.Reg visitOpAndExpr(CParser.OpAndExprContext ctx){return binary(Ir.Op.AND, ctx.left, ctx.right);}
+  @Override public Ir.Reg visitOpEqualExpr(CParser.OpEqualExprContext ctx){return binary(operator(ctx.op.getText()), ctx.left, ctx.right);}
+  @Override public Ir.Reg visitOpRelExpr(CParser.OpRelExprContext ctx){return binary(operator(ctx.op.getText()), ctx.left, ctx.right);}
+  @Override public Ir.Reg visitOpShiftExpr(CParser.OpShiftExprContext ctx){return binary(operator(ctx.op.getText()), ctx.left, ctx.right);}
+  @Override public Ir.Reg visitOpAddExpr(CParser.OpAddExprContext ctx){return binary(operator(ctx.op.getText()), ctx.left, ctx.right);}
+  @Override public Ir.Reg visitOpMultExpr(CParser.OpMultExprContext ctx){return binary(operator(ctx.op.getText()), ctx.left, ctx.right);}
+
+  // left operand first
+  private Ir.Reg binary(Ir.Op op, ParseTree left, ParseTree right){
+    Ir.Reg a = value(left);
+    Ir.Reg b = value(right);
+    return emit(Ir.binary(op, reg(), a, b));
+  }
+
+  // C operator (or the operator of a compound assignment, without its =)
+  static Ir.Op operator(String op){
+    switch(op){
+      case "+": return Ir.Op.ADD;
+      case "-": return Ir.Op.SUB;
+      case "*": return Ir.Op.MUL;
+      case "/": return Ir.Op.DIV;
+      case "%": return Ir.Op.REM;
+      case "&": return Ir.Op.AND;
+      case "|": return Ir.Op.OR;
+      case "^": return Ir.Op.XOR;
+      case "<<": return Ir.Op.SHL;
+      case ">>": return Ir.Op.SHR;
+      case "<": return Ir.Op.LT;
+      case "<=": return Ir.Op.LE;
+      case ">": return Ir.Op.GT;
+      case ">=": return Ir.Op.GE;
+      case "==": return Ir.Op.EQ;
+      case "!=": return Ir.Op.NE;
+      default: throw new Unsupported("operator " + op);
+    }
+  }
+
+  @Override public Ir.Reg visitTypeCastExpr(CParser.TypeCastExprContext ctx){
+    if(!CCompiler.text(ctx.type).equals("int")) throw new Unsupported("cast to " + CCompiler.text(ctx.type));
+    return value(ctx.expr);
+  }
+
+  @Override public Ir.Reg visitCastUnaryExpr(CParser.CastUnaryExprContext ctx){
+    switch(ctx.left.op.getType()){
+      case CParser.Plus:
+        return value(ctx.right);
+      case CParser.Minus:
+        return emit(Ir.unary(Ir.Op.NEG, reg(), value(ctx.right)));
+      case CParser.Tilde:
+        return emit(Ir.unary(Ir.Op.NOT, reg(), value(ctx.right)));
+      case CParser.Not:
+        return emit(Ir.unary(Ir.Op.LNOT, reg(), value(ctx.right)));
+      default:
+        throw new Unsupported("unary " + ctx.left.op.getText());
+    }
+  }
+
+  @Override public Ir.Reg visitParExprPrimaryExpr(CParser.ParExprPrimaryExprContext ctx){
+    return this.visit(ctx.expr);
+  }
+
+  @Override public Ir.Reg visitIntConstPrimaryExpr(CParser.IntConstPrimaryExprContext ctx){
+    ConstEvaluator.Value value = ConstEvaluator.parseConstant(ctx.val.getText());
+    if(value == null || value.type != types.INT) throw new Unsupported("constant " + ctx.val.getText());
+    return constant(value.asLong());
+  }
+
+  @Override public Ir.Reg visitIdPrimaryExpr(CParser.IdPrimaryExprContext ctx){
+    String id = ctx.id.getText();
+    Ir.Slot slot = local(id);
+    if(slot != null) return emit(Ir.load(reg(), slot));
+    ConstEvaluator.Value value = compiler.enum_values.get(id);
+    if(value != null) return constant(value.asLong());
+    return emit(Ir.loadGlobal(reg(), global(id)));
+  }
+
+  private Ir.Slot local(String id){
+    for(Map<String, Ir.Slot> scope: scopes){
+      Ir.Slot slot = scope.get(id);
+      if(slot != null) return slot;
+    }
+    return null;
+  }
+
+  // global int variable
+  private String global(String id){
+    STO var = compiler.symbolTable.get(id);
+    if(var == null || !var.isGlobal() || var.getSTOType() != STOtypes.VAR || var.getType() != types.INT || var.getDepth() != 0) throw new Unsupported("variable " + id);
+    return id;
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // assignments: the variable an lvalue names, a slot or a global
+  private final class Place {
+    final Ir.Slot slot;
+    final String global;
+
+    Place(ParseTree tree){
+      while(!(tree instanceof CParser.IdPrimaryExprContext)){
+        if(tree instanceof CParser.ParExprPrimaryExprContext) tree = ((CParser.ParExprPrimaryExprContext) tree).expr;
+        else if(tree instanceof RuleNode && tree.getChildCount() == 1 && tree.getChild(0) instanceof RuleNode) tree = tree.getChild(0);
+        else throw new Unsupported("assignment to " + CCompiler.text(tree));
+      }
+      String id = ((CParser.IdPrimaryExprContext) tree).id.getText();
+      slot = local(id);
+      global = slot == null ? global(id) : null;
+    }
+
+    Ir.Reg load(){
+      return emit(slot != null ? Ir.load(reg(), slot) : Ir.loadGlobal(reg(), global));
+    }
+
+    void store(Ir.Reg value){
+      emit(slot != null ? Ir.store(slot, value) : Ir.storeGlobal(global, value));
+    }
+  }
+
+  // right hand side first, like the tree code generation
+  @Override public Ir.Reg visitOpAssgnExpr(CParser.OpAssgnExprContext ctx){
+    Place place = new Place(ctx.left);
+    String op = ctx.op.getText();
+    Ir.Reg value = value(ctx.right);
+    if(!op.equals("=")) value = emit(Ir.binary(operator(op.substring(0, op.length() - 1)), reg(), place.load(), value));
+    place.store(value);
+    return value;
+  }
+
+  @Override public Ir.Reg visitPreIncUnaryExpr(CParser.PreIncUnaryExprContext ctx){
+    return increment(ctx.expr, ctx.op.getText(), false);
+  }
+
+  @Override public Ir.Reg visitIncrPostExpr(CParser.IncrPostExprContext ctx){
+    return increment(ctx.expr, ctx.op.getText(), true);
+  }
+
+  private Ir.Reg increment(ParseTree tree, String op, boolean post){
+    Place place = new Place(tree);
+    Ir.Reg old = place.load();
+    Ir.Reg value = emit(Ir.binary(op.equals("++") ? Ir.Op.ADD : Ir.Op.SUB, reg(), old, constant(1)));
+    place.store(value);
+    return post ? old : value;
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // calls to functions taking and returning ints, arguments left to right
+  @Override public Ir.Reg visitFuncInvocPostExpr(CParser.FuncInvocPostExprContext ctx){
+    String name = CCompiler.text(ctx.expr);
+    STO function = local(name) == null ? compiler.symbolTable.getFunction(name) : null;
+    if(function == null) throw new Unsupported("call of " + name);
+    List<ParseTree> args = new ArrayList<ParseTree>();
+    if(ctx.args != null){
+      for(CParser.ArgumentExpressionListContext list: CCompiler.spine(ctx.args, CParser.ArgumentExpressionListContext.class)){
+        args.add(list instanceof CParser.MultArgExprListContext ? ((CParser.MultArgExprListContext) list).expr : ((CParser.SingleArgExprListContext) list).expr);
+      }
+    }
+    if(function.getType() != types.INT && function.getType() != types.VOID) throw new Unsupported("call of " + name);
+    if(function.getParamCount() != args.size() || function.getParameters().size() != args.size()) throw new Unsupported("call of " + name);
+    for(types param: function.getParameters()){
+      if(param != types.INT) throw new Unsupported("call of " + name);
+    }
+    List<Ir.Reg> values = new ArrayList<Ir.Reg>(args.size());
+    for(ParseTree arg: args){
+      values.add(value(arg));
+    }
+    return emit(Ir.call(function.getType() == types.INT ? reg() : null, name, values));
+  }
+}
@@ -0,0 +1,189 @@
+package compiler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+////////////////////////////////////////////////////////////////////////////////////
+// Linear scan register allocation (Poletto & Sarkar) of the virtual registers of an IR
+// function.
+// Instructions are numbered in layout order, each has two positions: 2n where it reads its
+// operands, 2n+1 where it writes its result. A register's live interval goes from its first
+// to its last position: definitions, uses, and the start / end of every block it is live
+// into / out of (liveness by the usual backward dataflow over the blocks). Intervals
+// are taken by increasing start, each gets a free machine register, else the active
+// interval ending last (it or the new one) is spilled to the stack.
+// An interval a call sits inside of must survive it: it only gets callee saved registers.
+// In a function that calls, variables (fn.variables) used often enough to pay for saving
+// the register take a callee saved one first, so the temporaries between the calls keep
+// the caller saved ones (a leaf saves nothing it does not need to). Others take a caller
+// saved one first. The register of an operand read
+// for the last time can hold the result of the same instruction.
+
+class LinearScan {
+
+  static final class Interval {
+    final int reg;
+    int start = Integer.MAX_VALUE, end = -1;
+    int uses; // reads and writes
+    boolean acrossCall;
+    String register; // null: spilled
+
+    Interval(int reg){
+      this.reg = reg;
+    }
+
+    void cover(int position){
+      start = Math.min(start, position);
+      end = Math.max(end, position);
+    }
+
+    void use(int position){
+      cover(position);
+      uses++;
+    }
+  }
+
+  private final Ir.Function fn;
+  private final Interval[] intervals;
+  private final List<Integer> calls = new ArrayList<Integer>(); // read positions, increasing
+
+  LinearScan(Ir.Function fn){
+    this.fn = fn;
+    intervals = new Interval[fn.regs];
+    for(int r=0; r<fn.regs; r++){
+      intervals[r] = new Interval(r);
+    }
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // machine register of every virtual register (null: spilled), callee saved ones used
+  // are added to saved
+  String[] allocate(String[] callerSaved, String[] calleeSaved, List<String> saved){
+    liveIntervals();
+    List<Interval> order = new ArrayList<Interval>();
+    for(Interval i: intervals){
+      if(i.end >= 0) order.add(i);
+    }
+    Collections.sort(order, new Comparator<Interval>(){
+      public int compare(Interval a, Interval b){return a.start != b.start ? Integer.compare(a.start, b.start) : Integer.compare(a.reg, b.reg);}
+    });
+    TreeSet<Interval> active = new TreeSet<Interval>(new Comparator<Interval>(){
+      public int compare(Interval a, Interval b){return a.end != b.end ? Integer.compare(a.end, b.end) : Integer.compare(a.reg, b.reg);}
+    });
+    List<String> freeCaller = new ArrayList<String>(Arrays.asList(callerSaved));
+    List<String> freeCallee = new ArrayList<String>(Arrays.asList(calleeSaved));
+    for(Interval current: order){
+      while(!active.isEmpty() && active.first().end < current.start){
+        release(active.pollFirst().register, callerSaved, freeCaller, freeCallee);
+      }
+      current.acrossCall = acrossCall(current);
+      boolean variable = !calls.isEmpty() && fn.variables.get(current.reg) && current.uses >= CCompiler.PROMOTE_USES;
+      if(!current.acrossCall && !freeCaller.isEmpty() && (!variable || freeCallee.isEmpty())){
+        current.register = freeCaller.remove(0);
+      }else if(!freeCallee.isEmpty()){
+        current.register = freeCallee.remove(0);
+      }else{
+        // spill the interval ending last that holds a register current can use
+        Interval victim = null;
+        for(Interval a: active.descendingSet()){
+          if(a.end <= current.end) break;
+          if(!current.acrossCall || !isCallerSaved(a.register, callerSaved)){
+            victim = a;
+            break;
+          }
+        }
+        if(victim == null) continue; // current stays on the stack
+        current.register = victim.register;
+        victim.register = null;
+        active.remove(victim);
+      }
+      if(!isCallerSaved(current.register, callerSaved) && !saved.contains(current.register)) saved.add(current.register);
+      active.add(current);
+    }
+    String[] registers = new String[fn.regs];
+    for(Interval i: intervals){
+      registers[i.reg] = i.register;
+    }
+    return registers;
+  }
+
+  private static boolean isCallerSaved(String register, String[] callerSaved){
+    return Arrays.asList(callerSaved).contains(register);
+  }
+
+  private static void release(String register, String[] callerSaved, List<String> freeCaller, List<String> freeCallee){
+    if(register == null) return;
+    if(isCallerSaved(register, callerSaved)) freeCaller.add(register);
+    else freeCallee.add(register);
+  }
+
+  // live before a call and after it (a call reading it last or defining it does not count)
+  private boolean acrossCall(Interval i){
+    int at = Collections.binarySearch(calls, i.start + 1);
+    if(at < 0) at = -at - 1;
+    return at < calls.size() && calls.get(at) + 1 < i.end;
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // liveness of the blocks, then the interval of every register
+  private void liveIntervals(){
+    List<Ir.Block> blocks = fn.blocks;
+    int n = blocks.size();
+    BitSet[] gen = new BitSet[n], kill = new BitSet[n], in = new BitSet[n], out = new BitSet[n];
+    Map<Ir.Block, Integer> index = new HashMap<Ir.Block, Integer>();
+    for(int b=0; b<n; b++){
+      index.put(blocks.get(b), b);
+      gen[b] = new BitSet();
+      kill[b] = new BitSet();
+      in[b] = new BitSet();
+      out[b] = new BitSet();
+      for(Ir.Instr i: blocks.get(b).code){
+        for(Ir.Reg use: i.uses()){
+          if(!kill[b].get(use.id)) gen[b].set(use.id);
+        }
+        if(i.dst != null) kill[b].set(i.dst.id);
+      }
+    }
+    for(boolean changed = true; changed; ){
+      changed = false;
+      for(int b=n-1; b>=0; b--){
+        BitSet live = new BitSet();
+        for(Ir.Block next: blocks.get(b).successors()){
+          live.or(in[index.get(next)]);
+        }
+        out[b] = live;
+        BitSet live_in = (BitSet) live.clone();
+        live_in.andNot(kill[b]);
+        live_in.or(gen[b]);
+        if(!live_in.equals(in[b])){
+          in[b] = live_in;
+          changed = true;
+        }
+      }
+    }
+    int position = 0;
+    for(int b=0; b<n; b++){
+      for(int r = in[b].nextSetBit(0); r >= 0; r = in[b].nextSetBit(r + 1)){
+        intervals[r].cover(position);
+      }
+      for(Ir.Instr i: blocks.get(b).code){
+        for(Ir.Reg use: i.uses()){
+          intervals[use.id].use(position);
+        }
+        if(i.dst != null) intervals[i.dst.id].use(position + 1);
+        if(i.op == Ir.Op.CALL) calls.add(position);
+        position += 2;
+      }
+      for(int r = out[b].nextSetBit(0); r >= 0; r = out[b].nextSetBit(r + 1)){
+        intervals[r].cover(position - 1);
+      }
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package compiler;
+
+import java.util.HashMap;
+import java.util.Map;
+
+////////////////////////////////////////////////////////////////////////////////////
+// String literal pool
+// One per compilation unit. Identical literals share one $LC label, wherever they appear.
+// The label's data is written once, into the data section, as a single .asciiz directive
+// the first time the literal is seen.
+
+class LiteralPool {
+
+  private final AsmEmitter out;
+  private final Map<String, String> labels = new HashMap<String, String>(); // contents -> $LC label
+
+  LiteralPool(AsmEmitter out){
+    this.out = out;
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // label of a literal, given its characters (escape sequences already decoded, no terminating 0)
+  String label(String contents){
+    String label = labels.get(contents);
+    if(label == null){
+      label = "$LC" + labels.size();
+      labels.put(contents, label);
+      out.data(label + ":\n\t.asciiz \"" + escape(contents) + "\"");
+    }
+    return label;
+  }
+
+  int size(){
+    return labels.size();
+  }
+
+  // printable ascii as is, quotes, backslashes and anything else as 3 digit octal escapes
+  static String escape(String contents){
+    StringBuilder escaped = new StringBuilder(contents.length());
+    for(int i=0; i<contents.length(); i++){
+      int c = contents.charAt(i) & 0xFF;
+      if(c >= 32 && c < 127 && c != '"' && c != '\\'){
+        escaped.append((char) c);
+      }else{
+        escaped.append('\\').append((char)('0' + (c >> 6))).append((char)('0' + ((c >> 3) & 7))).append((char)('0' + (c & 7)));
+      }
+    }
+    return escaped.toString();
+  }
+}
@@ -0,0 +1,409 @@
+package compiler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+////////////////////////////////////////////////////////////////////////////////////
+// MIPS code of an IR function (see Ir)
+// o32 frame of F bytes, addressed from $sp only. $fp is left alone: functions generated
+// straight from the tree keep theirs in it across calls.
+//
+//   F+4*i($sp)   argument i, in the caller's area ($a0-$a3 are stored there on entry when
+//                the parameter is still a slot, PARAM reads it otherwise)
+//   F-4($sp)     $ra, when the function calls
+//   ...          $s registers the function uses, saved on entry
+//   ...          homes of the locals and spilled virtual registers, one word each
+//   0($sp)       outgoing arguments, max(4, most arguments of a call) words
+//
+// Virtual registers get machine registers from LinearScan: $s0-$s7 for whatever a call
+// happens in the middle of and for the variables of a function that calls, $t3-$t9, $v1 for
+// the rest (the tree generator saves the $s registers it uses, so they survive its code
+// too). Spilled ones live in their home: operands are loaded into $t0 / $t1, the result is
+// computed in $t0 and stored back. use() / def() / put() are the only places that know
+// where a register is. The return value goes in $v0, a switch dispatches on $v0 with
+// SwitchTable ($t1, $t2 are its scratch registers).
+// A binary instruction with an immediate (b null) gets the instructions for that constant:
+// addiu, andi, slti ... when it fits their 16 bits, sll / sra, shifts and magic numbers for
+// * / % (StrengthReduction), the register form with the constant in $t1 otherwise.
+// Blocks are laid out in IR order, jumps to the next block are left out. Labels come from
+// names (CCompiler.makeName) in layout order, so the function cache can rename them.
+
+class MipsBackend {
+
+  static final int MAX_OFFSET = Short.MAX_VALUE; // lw / sw offsets are 16 bits
+  static final String[] CALLER_SAVED = {"$t3", "$t4", "$t5", "$t6", "$t7", "$t8", "$t9", "$v1"};
+  static final String[] CALLEE_SAVED = {"$s0", "$s1", "$s2", "$s3", "$s4", "$s5", "$s6", "$s7"};
+
+  private final AsmEmitter out;
+  private final UnaryOperator<String> names;
+
+  // frame of the function being written
+  private Ir.Function fn;
+  private int frame, raHome;
+  private boolean calls;
+  private int[] regHomes, slotHomes;
+  private final Set<Ir.Slot> slots = new HashSet<Ir.Slot>(); // still loaded / stored
+  private String[] registers; // null: spilled
+  private boolean[] present; // passes leave some registers unused
+  private final List<String> saved = new ArrayList<String>();
+  private int savedHome;
+  private final Map<Ir.Block, String> labels = new HashMap<Ir.Block, String>();
+
+  MipsBackend(AsmEmitter out, UnaryOperator<String> names){
+    this.out = out;
+    this.names = names;
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // write the function after its label. false, nothing written, when the frame is too large
+  // for 16 bit offsets
+  boolean emit(Ir.Function fn, boolean debug){
+    this.fn = fn;
+    if(!layout()) return false;
+    if(debug){
+      for(String line: fn.toString().split("\n")){
+        out.println("# " + line);
+      }
+      StringBuilder allocation = new StringBuilder("#");
+      for(int r=0; r<fn.regs; r++){
+        if(present[r]) allocation.append(" %").append(r).append('=').append(registers[r] != null ? registers[r] : regHomes[r] + "($sp)");
+      }
+      out.println(allocation.toString());
+    }
+    out.println("# " + fn.name + ": function entry");
+    if(frame > 0) out.println("addiu $sp, $sp, " + -frame);
+    if(calls) out.println("sw $ra, " + raHome + "($sp)");
+    for(int s=0; s<saved.size(); s++){
+      out.println("sw " + saved.get(s) + ", " + (savedHome + 4 * s) + "($sp)");
+    }
+    for(Ir.Slot param: fn.params){
+      if(param.param < 4 && slots.contains(param)) out.println("sw $a" + param.param + ", " + slotHomes[param.id] + "($sp)");
+    }
+    out.println("# " + fn.name + ": function body");
+    name();
+    List<Ir.Block> blocks = fn.blocks;
+    for(int b=0; b<blocks.size(); b++){
+      Ir.Block block = blocks.get(b);
+      Ir.Block next = b + 1 < blocks.size() ? blocks.get(b + 1) : null;
+      if(labels.containsKey(block)) out.println(labels.get(block) + ":");
+      for(Ir.Instr i: block.code){
+        if(i.op.isTerminator()) terminator(i, next);
+        else instruction(i);
+      }
+    }
+    out.println("# " + fn.name + ": function return\n_return_" + fn.name + ":");
+    for(int s=0; s<saved.size(); s++){
+      out.println("lw " + saved.get(s) + ", " + (savedHome + 4 * s) + "($sp)");
+    }
+    if(calls) out.println("lw $ra, " + raHome + "($sp)");
+    if(frame > 0) out.println("addiu $sp, $sp, " + frame);
+    out.println("jr $ra\nnop");
+    labels.clear();
+    return true;
+  }
+
+  // registers and homes of everything, false when the frame is too large
+  private boolean layout(){
+    saved.clear();
+    registers = new LinearScan(fn).allocate(CALLER_SAVED, CALLEE_SAVED, saved);
+    int arguments = 0;
+    calls = false;
+    slots.clear();
+    present = new boolean[fn.regs];
+    for(Ir.Block block: fn.blocks){
+      for(Ir.Instr i: block.code){
+        if(i.slot != null) slots.add(i.slot);
+        if(i.dst != null) present[i.dst.id] = true;
+        for(Ir.Reg use: i.uses()){
+          present[use.id] = true;
+        }
+        if(i.op == Ir.Op.CALL){
+          calls = true;
+          arguments = Math.max(arguments, Math.max(4, i.args.size()));
+        }
+      }
+    }
+    int offset = 4 * arguments;
+    slotHomes = new int[fn.slots.size()];
+    for(Ir.Slot slot: fn.slots){
+      if(slot.param < 0 && slots.contains(slot)){
+        slotHomes[slot.id] = offset;
+        offset += 4;
+      }
+    }
+    regHomes = new int[fn.regs];
+    for(int r=0; r<fn.regs; r++){
+      if(registers[r] != null || !present[r]) continue;
+      regHomes[r] = offset;
+      offset += 4;
+    }
+    savedHome = offset;
+    offset += 4 * saved.size();
+    if(calls){
+      raHome = offset;
+      offset += 4;
+    }
+    frame = (offset + 7) & ~7;
+    for(Ir.Slot param: fn.params){
+      slotHomes[param.id] = frame + 4 * param.param;
+    }
+    return frame + 4 * fn.params.size() <= MAX_OFFSET;
+  }
+
+  // labels of the blocks something jumps to, in layout order
+  private void name(){
+    List<Ir.Block> blocks = fn.blocks;
+    Set<Ir.Block> targets = new HashSet<Ir.Block>();
+    for(int b=0; b<blocks.size(); b++){
+      Ir.Instr last = blocks.get(b).terminator();
+      Ir.Block next = b + 1 < blocks.size() ? blocks.get(b + 1) : null;
+      for(Ir.Block target: last.successors()){
+        if(target != next || last.op == Ir.Op.SWITCH) targets.add(target);
+      }
+    }
+    for(Ir.Block block: blocks){
+      if(targets.contains(block)) labels.put(block, names.apply(block.hint));
+    }
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // allocation: where a register's value is, and where it is computed
+
+  // value of r in a machine register, loaded into scratch if it has to be
+  private String use(Ir.Reg r, String scratch){
+    if(registers[r.id] != null) return registers[r.id];
+    out.println("lw " + scratch + ", " + regHomes[r.id] + "($sp)");
+    return scratch;
+  }
+
+  // machine register to compute r in
+  private String def(Ir.Reg r){
+    return registers[r.id] != null ? registers[r.id] : "$t0";
+  }
+
+  // r was computed in reg
+  private void put(Ir.Reg r, String reg){
+    if(registers[r.id] != null){
+      if(!registers[r.id].equals(reg)) out.println("move " + registers[r.id] + ", " + reg);
+      return;
+    }
+    out.println("sw " + reg + ", " + regHomes[r.id] + "($sp)");
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  private void instruction(Ir.Instr i){
+    switch(i.op){
+      case CONST:{
+        String d = def(i.dst);
+        out.println("li " + d + ", " + i.imm);
+        put(i.dst, d);
+        break;
+      }
+      case COPY:{
+        String a = use(i.a, "$t0");
+        String d = def(i.dst);
+        if(!a.equals(d)) out.println("move " + d + ", " + a);
+        put(i.dst, d);
+        break;
+      }
+      case LOAD:{
+        String d = def(i.dst);
+        out.println("lw " + d + ", " + slotHomes[i.slot.id] + "($sp)");
+        put(i.dst, d);
+        break;
+      }
+      case STORE:
+        out.println("sw " + use(i.a, "$t0") + ", " + slotHomes[i.slot.id] + "($sp)");
+        break;
+      case LOAD_GLOBAL:{
+        String d = def(i.dst);
+        out.println("lui " + d + ", %hi(" + i.symbol + ")");
+        out.println("lw " + d + ", %lo(" + i.symbol + ")(" + d + ")");
+        put(i.dst, d);
+        break;
+      }
+      case STORE_GLOBAL:{
+        String a = use(i.a, "$t0");
+        out.println("lui $t1, %hi(" + i.symbol + ")");
+        out.println("sw " + a + ", %lo(" + i.symbol + ")($t1)");
+        break;
+      }
+      case PARAM:
+        if(i.imm < 4){
+          put(i.dst, "$a" + i.imm);
+        }else{
+          String d = def(i.dst);
+          out.println("lw " + d + ", " + (frame + 4 * i.imm) + "($sp)");
+          put(i.dst, d);
+        }
+        break;
+      case CALL:
+        call(i);
+        break;
+      default:
+        if(i.op.isBinary()) binary(i);
+        else unary(i);
+    }
+  }
+
+  private void binary(Ir.Instr i){
+    String a = use(i.a, "$t0");
+    if(i.b == null && immediate(i, a)) return;
+    String b = "$t1";
+    if(i.b != null) b = use(i.b, "$t1");
+    else out.println("li $t1, " + (int) i.imm); // too wide for the immediate form
+    String d = def(i.dst);
+    switch(i.op){
+      case ADD: out.println("addu " + d + ", " + a + ", " + b); break;
+      case SUB: out.println("subu " + d + ", " + a + ", " + b); break;
+      case MUL: out.println("mul " + d + ", " + a + ", " + b); break;
+      case DIV: out.println("div " + a + ", " + b + "\nmflo " + d); break;
+      case REM: out.println("div " + a + ", " + b + "\nmfhi " + d); break;
+      case AND: out.println("and " + d + ", " + a + ", " + b); break;
+      case OR: out.println("or " + d + ", " + a + ", " + b); break;
+      case XOR: out.println("xor " + d + ", " + a + ", " + b); break;
+      case SHL: out.println("sllv " + d + ", " + a + ", " + b); break;
+      case SHR: out.println("srav " + d + ", " + a + ", " + b); break;
+      case LT: out.println("slt " + d + ", " + a + ", " + b); break;
+      case GT: out.println("slt " + d + ", " + b + ", " + a); break;
+      case LE: out.println("slt " + d + ", " + b + ", " + a + "\nxori " + d + ", " + d + ", 1"); break;
+      case GE: out.println("slt " + d + ", " + a + ", " + b + "\nxori " + d + ", " + d + ", 1"); break;
+      case EQ: out.println("xor " + d + ", " + a + ", " + b + "\nsltiu " + d + ", " + d + ", 1"); break;
+      case NE: out.println("xor " + d + ", " + a + ", " + b + "\nsltu " + d + ", $zero, " + d); break;
+      default: throw new IllegalStateException("not a binary operator: " + i);
+    }
+    put(i.dst, d);
+  }
+
+  // constant right operand ($t1, $t2 are free), false when it does not fit the instruction
+  private boolean immediate(Ir.Instr i, String a){
+    String d = def(i.dst);
+    int b = (int) i.imm;
+    switch(i.op){
+      case ADD:
+      case SUB:
+        int add = i.op == Ir.Op.ADD ? b : -b;
+        if(!signed16(add)) return false;
+        out.println("addiu " + d + ", " + a + ", " + add);
+        break;
+      case MUL: StrengthReduction.multiply(out, d, a, b, "$t1"); break;
+      case DIV: StrengthReduction.divide(out, d, a, b, false, "$t1", "$t2"); break;
+      case REM: StrengthReduction.remainder(out, d, a, b, false, "$t1", "$t2"); break;
+      case AND:
+      case OR:
+      case XOR:
+        if(b >>> 16 != 0) return false; // zero extended
+        out.println(i.op.name().toLowerCase() + "i " + d + ", " + a + ", " + b);
+        break;
+      case SHL: out.println("sll " + d + ", " + a + ", " + (b & 31)); break; // sllv / srav use 5 bits too
+      case SHR: out.println("sra " + d + ", " + a + ", " + (b & 31)); break;
+      case LT:
+      case GE:
+        if(!signed16(b)) return false;
+        out.println("slti " + d + ", " + a + ", " + b);
+        if(i.op == Ir.Op.GE) out.println("xori " + d + ", " + d + ", 1");
+        break;
+      case LE:
+      case GT:
+        // a <= b is a < b + 1
+        if(!signed16(b + 1)) return false;
+        out.println("slti " + d + ", " + a + ", " + (b + 1));
+        if(i.op == Ir.Op.GT) out.println("xori " + d + ", " + d + ", 1");
+        break;
+      case EQ:
+      case NE:
+        String difference = difference(d, a, b);
+        if(difference == null) return false;
+        if(i.op == Ir.Op.EQ) out.println("sltiu " + d + ", " + difference + ", 1");
+        else out.println("sltu " + d + ", $zero, " + difference);
+        break;
+      default: throw new IllegalStateException("no immediate form: " + i);
+    }
+    put(i.dst, d);
+    return true;
+  }
+
+  // register that is 0 exactly when a == b (a itself, or d), null when b fits no immediate
+  private String difference(String d, String a, int b){
+    if(b == 0) return a;
+    if(b >>> 16 == 0) out.println("xori " + d + ", " + a + ", " + b);
+    else if(signed16(-b)) out.println("addiu " + d + ", " + a + ", " + -b);
+    else return null;
+    return d;
+  }
+
+  static boolean signed16(int c){
+    return c >= Short.MIN_VALUE && c <= Short.MAX_VALUE;
+  }
+
+  private void unary(Ir.Instr i){
+    String a = use(i.a, "$t0");
+    String d = def(i.dst);
+    switch(i.op){
+      case NEG: out.println("subu " + d + ", $zero, " + a); break;
+      case NOT: out.println("nor " + d + ", " + a + ", $zero"); break;
+      case LNOT: out.println("sltiu " + d + ", " + a + ", 1"); break;
+      default: throw new IllegalStateException("not an instruction: " + i);
+    }
+    put(i.dst, d);
+  }
+
+  // first four arguments in $a0-$a3, the others on the stack where the callee looks for them
+  private void call(Ir.Instr i){
+    for(int n=0; n<i.args.size(); n++){
+      if(n < 4){
+        String a = use(i.args.get(n), "$a" + n);
+        if(!a.equals("$a" + n)) out.println("move $a" + n + ", " + a);
+      }else{
+        out.println("sw " + use(i.args.get(n), "$t0") + ", " + 4 * n + "($sp)");
+      }
+    }
+    out.println("jal " + i.symbol + "\nnop");
+    if(i.dst != null) put(i.dst, "$v0");
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // end of a block, next is the block laid out after it (null for the last one)
+  private void terminator(Ir.Instr i, Ir.Block next){
+    switch(i.op){
+      case JUMP:
+        if(i.target != next) out.println("j " + labels.get(i.target) + "\nnop");
+        break;
+      case BRANCH:{
+        String a = use(i.a, "$t0");
+        if(i.target == next){
+          out.println("beq " + a + ", $zero, " + labels.get(i.otherwise) + "\nnop");
+        }else{
+          out.println("bne " + a + ", $zero, " + labels.get(i.target) + "\nnop");
+          if(i.otherwise != next) out.println("j " + labels.get(i.otherwise) + "\nnop");
+        }
+        break;
+      }
+      case SWITCH:{
+        String a = use(i.a, "$v0");
+        if(!a.equals("$v0")) out.println("move $v0, " + a);
+        SwitchTable table = new SwitchTable();
+        for(int c=0; c<i.values.length; c++){
+          table.addCase(i.values[c], labels.get(i.cases[c]));
+        }
+        table.setDefault(labels.get(i.otherwise));
+        table.lower(out, labels.get(i.otherwise), names);
+        break;
+      }
+      case RETURN:
+        if(i.a != null){
+          String a = use(i.a, "$v0");
+          if(!a.equals("$v0")) out.println("move $v0, " + a);
+        }
+        if(next != null) out.println("j _return_" + fn.name + "\nnop");
+        break;
+      default:
+        throw new IllegalStateException("not a terminator: " + i);
+    }
+  }
+}
@@ -0,0 +1,179 @@
+package compiler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+abstract class STO {
+
+  // all elements have the following
+  protected int size;
+  protected int offset;
+  protected String ID;
+  protected boolean isGlobal;
+  protected boolean isPointer;
+  protected types type;
+  protected STOtypes STOtype;
+
+  // variables extra
+  protected String register; // promoted local: lives in this register instead of at its offset
+  protected boolean isEnumConstant; // its value is known (CCompiler.enum_values)
+
+  // arrays extra
+  public ArrayList<Integer> dimensions;
+
+  // functions extra
+  public ArrayList<types> parameters;
+
+  // pointers extra
+  public int pointerDepth;
+
+  // struct extra
+  public Map<String, STO> members = new HashMap<String,STO>();
+  protected ArrayList<Integer> sizes = new ArrayList<Integer>(); // just to make things easier, could have used ids list
+  protected ArrayList<String> ids = new ArrayList<String>(); // keep IDs in order for initialization
+
+  // initializers for factory
+  protected void initSTO(){
+    size = 0;
+    offset = 0;
+    ID = "";
+    isGlobal = false;
+    isPointer = false;
+    pointerDepth = 0;
+    type = types.INT;
+    dimensions = null;
+  }
+
+  protected void initSTO(int s, int o, String i, boolean g, boolean p, types t, ArrayList<Integer> v, STOtypes st){
+    size = s;
+    offset = o;
+    ID = i;
+    isGlobal = g;
+    isPointer = p;
+    pointerDepth = 0;
+    type = t;
+    dimensions = v;
+    STOtype = st;
+  }
+
+  // common functions
+  public int getSize(){return this.size;}
+  public void setSize(int s){this.size = s;}
+  public int getOffset(){return this.offset;}
+  public void setOffset(int o){this.offset = o;}
+  public String getID(){return this.ID;}
+  public void setID(String s){this.ID = s;}
+  public boolean isGlobal(){return this.isGlobal;}
+  public void setGlobal(boolean g){this.isGlobal = g;}
+  public types getType(){return this.type;}
+  public void setType(types t){this.type = t;}
+  public STOtypes getSTOType(){return this.STOtype;}
+
+  // variable functions
+  public String getRegister(){return this.register;}
+  public void setRegister(String r){this.register = r;}
+  public boolean isEnumConstant(){return this.isEnumConstant;}
+  public void setEnumConstant(boolean e){this.isEnumConstant = e;}
+
+  // array functions
+  public ArrayList<Integer> getDimensions(){return this.dimensions;}
+  public int getDimensions(int i){return this.dimensions.get(i);}
+  public void addDimension(int i){this.dimensions.add(i);}
+  public void setDimensions(ArrayList<Integer> d){this.dimensions = d;}
+  public void updateArraySize(){
+    size = typeSize(type)*dimensions.get(0);
+    for(int i=1; i<dimensions.size(); i++){
+      size *= typeSize(type)*dimensions.get(i);
+    }
+  }
+  public int getElementsCount(){
+    int count = dimensions.get(0);
+    for(int i=1; i<dimensions.size(); i++){
+      count *= dimensions.get(i);
+    }
+    return count;
+  }
+
+  // function functions
+  public ArrayList<types> getParameters(){return this.parameters;}
+  public types getParameter(int i){return this.parameters.get(i);}
+  public void addParameter(types i){this.parameters.add(i);}
+  public void setParamCount(int s){this.size = s;}
+  public int getParamCount(){return this.size;}
+  public void setParameters(ArrayList<types> params){this.parameters = params;}
+
+  // pointers functions
+  public void setDepth(int d){this.pointerDepth = d;}
+  public int getDepth(){return this.pointerDepth;}
+
+  // struct functions
+  public STO getMember(String ID){return members.get(ID);}
+  public void setMember(String ID, STO obj){
+    members.put(ID, obj);
+    getSize(); //updates size
+  }
+  public Map<String, STO> getMembers(){return members;}
+  protected void setMembers(Map<String, STO> m){
+    members = m;
+    getSize();
+  }
+  public ArrayList<Integer> getSizes(){return sizes;}
+  public ArrayList<String> getIDs(){return ids;}
+
+  // parse enum to int size
+  protected int typeSize(types type){
+    switch(type){
+      case INT:
+        return 4;
+      case CHAR:
+        return 1;
+      case DOUBLE:
+        return 8;
+      case FLOAT:
+        return 4;
+      case UNSIGNED:
+        return 4;
+      case SIGNED:
+        return 4;
+      case SHORT:
+        return 2;
+      case VOID:
+        return 1;
+      default:
+        return -1;
+    }
+  }
+
+  // intialization and declaration functions
+  public void initialize(AsmEmitter out, double[] values){
+    throw new IllegalStateException("Operation init(int[]) not implemented for current object " + getID());
+  }
+
+  public void initialize(AsmEmitter out, String value){
+    throw new IllegalStateException("Operation init(String) not implemented for current object " + getID());
+  }
+
+  // debuging print function
+  public void print(){
+    System.err.println("\nSTO type: " + STOtype);
+    System.err.println("ID: " + ID);
+    System.err.println("Is global: " + isGlobal);
+    System.err.println("Type: " + type);
+    System.err.println("Stack offset: " + offset);
+    System.err.println("Size: " + size);
+  }
+
+  // everything code generation may read from a symbol, for the per function cache key
+  public void describe(StringBuilder sb){
+    sb.append(STOtype).append(' ').append(type).append(' ').append(size).append(' ').append(offset).append(' ')
+      .append(isGlobal).append(' ').append(isPointer).append(' ').append(pointerDepth).append(' ')
+      .append(dimensions).append(' ').append(parameters);
+    for(String id: ids){
+      sb.append(" {").append(id).append(':');
+      if(members.get(id) != null) members.get(id).describe(sb);
+      sb.append('}');
+    }
+  }
+
+}
@@ -0,0 +1,3 @@
+package compiler;
+
+enum STOtypes {VAR, ARR, PTR, FUN, STR, DEF, STRUCTDEF, STRUCT};
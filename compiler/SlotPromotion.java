@@ -0,0 +1,111 @@
+package compiler;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+////////////////////////////////////////////////////////////////////////////////////
+// Slots to virtual registers (IR pass, between IrLowering and MipsBackend)
+// A slot whose address is never taken (only LOAD / STORE reach it) gets a register of its
+// own: LOAD becomes a copy from it, STORE a copy into it, and parameters are read into
+// theirs by PARAM at the start of the entry block (no jump goes there, lowering starts
+// every loop in a block of its own). LinearScan then keeps the variable in a machine
+// register (a callee saved one first in a function that calls, see fn.variables) instead
+// of a word of the frame.
+// Two copies are folded afterwards, inside a block:
+//  - %t = %x, read before %x changes: the reads use %x, the copy goes when nothing is left
+//  - %t = a op b; %x = %t, %t read nowhere else: the op writes %x
+
+final class SlotPromotion {
+
+  private SlotPromotion(){}
+
+  static void run(Ir.Function fn){
+    Map<Ir.Slot, Ir.Reg> promoted = new HashMap<Ir.Slot, Ir.Reg>();
+    for(Ir.Slot slot: fn.slots){
+      promoted.put(slot, fn.newReg(types.INT));
+    }
+    for(Ir.Block block: fn.blocks){
+      for(Ir.Instr i: block.code){
+        if(i.slot != null && i.op != Ir.Op.LOAD && i.op != Ir.Op.STORE) promoted.remove(i.slot); // escapes
+      }
+    }
+    if(promoted.isEmpty()) return;
+    for(Ir.Reg reg: promoted.values()){
+      fn.variables.set(reg.id);
+    }
+    for(Ir.Block block: fn.blocks){
+      List<Ir.Instr> code = block.code;
+      for(int n=0; n<code.size(); n++){
+        Ir.Instr i = code.get(n);
+        Ir.Reg reg = i.slot != null ? promoted.get(i.slot) : null;
+        if(reg == null) continue;
+        code.set(n, i.op == Ir.Op.LOAD ? Ir.copy(i.dst, reg) : Ir.copy(reg, i.a));
+      }
+    }
+    List<Ir.Instr> entry = fn.blocks.get(0).code;
+    for(int p=fn.params.size()-1; p>=0; p--){
+      Ir.Slot param = fn.params.get(p);
+      if(promoted.containsKey(param)) entry.add(0, Ir.param(promoted.get(param), param.param));
+    }
+    fold(fn, new HashSet<Ir.Reg>(promoted.values()));
+  }
+
+  private static void fold(Ir.Function fn, Set<Ir.Reg> variables){
+    int[] defs = new int[fn.regs], uses = new int[fn.regs];
+    int[] version = new int[fn.regs], copied = new int[fn.regs]; // writes to a variable, version a copy was taken at
+    for(Ir.Block block: fn.blocks){
+      for(Ir.Instr i: block.code){
+        if(i.dst != null) defs[i.dst.id]++;
+        for(Ir.Reg use: i.uses()){
+          uses[use.id]++;
+        }
+      }
+    }
+    for(Ir.Block block: fn.blocks){
+      // reads of a copy of a variable, while the variable still holds the same value
+      Map<Ir.Reg, Ir.Reg> copies = new HashMap<Ir.Reg, Ir.Reg>();
+      for(Ir.Instr i: block.code){
+        if(i.a != null) i.a = replace(i.a, copies, version, copied, uses);
+        if(i.b != null) i.b = replace(i.b, copies, version, copied, uses);
+        if(i.args != null){
+          for(int n=0; n<i.args.size(); n++){
+            i.args.set(n, replace(i.args.get(n), copies, version, copied, uses));
+          }
+        }
+        if(i.dst == null) continue;
+        version[i.dst.id]++;
+        if(i.op == Ir.Op.COPY && variables.contains(i.a) && defs[i.dst.id] == 1){
+          copies.put(i.dst, i.a);
+          copied[i.dst.id] = version[i.a.id];
+        }
+      }
+      // a value computed only to go into a variable
+      List<Ir.Instr> code = block.code;
+      for(int n=1; n<code.size(); n++){
+        Ir.Instr i = code.get(n), previous = code.get(n - 1);
+        if(i.op != Ir.Op.COPY || !variables.contains(i.dst) || previous.dst != i.a) continue;
+        if(variables.contains(i.a) || defs[i.a.id] != 1 || uses[i.a.id] != 1) continue;
+        uses[i.a.id]--;
+        previous.dst = i.dst;
+        i.a = i.dst; // dropped below
+      }
+      for(Iterator<Ir.Instr> it = code.iterator(); it.hasNext(); ){
+        Ir.Instr i = it.next();
+        if(i.op == Ir.Op.COPY && (i.a == i.dst || !variables.contains(i.dst) && uses[i.dst.id] == 0)) it.remove();
+      }
+    }
+  }
+
+  // the variable r is a copy of, when it was not written since
+  private static Ir.Reg replace(Ir.Reg r, Map<Ir.Reg, Ir.Reg> copies, int[] version, int[] copied, int[] uses){
+    Ir.Reg variable = copies.get(r);
+    if(variable == null || version[variable.id] != copied[r.id]) return r;
+    uses[r.id]--;
+    uses[variable.id]++;
+    return variable;
+  }
+}
@@ -0,0 +1,221 @@
+package compiler;
+
+////////////////////////////////////////////////////////////////////////////////////
+// Multiplication, division and remainder by a constant, without mult / div when possible
+// Used by both code generators (MipsBackend, CCompiler for * / % and array indexes).
+// 32 bit wrapping arithmetic, division truncates like C (signed) or is unsigned:
+//  - x * c: shift for powers of two (and their negation), shift and add / sub for 2^k +- 1,
+//    mul otherwise
+//  - x / c, x % c: shifts for powers of two (signed ones add c-1 to negative x first), else
+//    multiply by a magic number and keep the high word (Hacker's Delight, 10-4 / 10-10),
+//    the remainder is then x - q * c
+// d is the destination, a the operand (either can be any register, even the same one),
+// s1 and s2 are scratch registers distinct from both. d is written last, a is never
+// written. c is never 0 for division.
+
+final class StrengthReduction {
+
+  private StrengthReduction(){}
+
+  static void multiply(AsmEmitter out, String d, String a, int c, String s1){
+    int k = log2(c);
+    if(c == 0){
+      out.println("move " + d + ", $zero");
+    }else if(c == 1){
+      if(!d.equals(a)) out.println("move " + d + ", " + a);
+    }else if(k >= 0){
+      out.println("sll " + d + ", " + a + ", " + k);
+    }else if(c == -1){
+      out.println("subu " + d + ", $zero, " + a);
+    }else if(log2(-c) >= 0){
+      out.println("sll " + s1 + ", " + a + ", " + log2(-c));
+      out.println("subu " + d + ", $zero, " + s1);
+    }else if(log2(c - 1) >= 0){
+      out.println("sll " + s1 + ", " + a + ", " + log2(c - 1));
+      out.println("addu " + d + ", " + s1 + ", " + a);
+    }else if(log2(c + 1) >= 0){
+      out.println("sll " + s1 + ", " + a + ", " + log2(c + 1));
+      out.println("subu " + d + ", " + s1 + ", " + a);
+    }else{
+      out.println("li " + s1 + ", " + c);
+      out.println("mul " + d + ", " + a + ", " + s1);
+    }
+  }
+
+  static void divide(AsmEmitter out, String d, String a, int c, boolean unsigned, String s1, String s2){
+    if(unsigned){
+      divideUnsigned(out, d, a, c, s1, s2);
+      return;
+    }
+    if(c == 1){
+      if(!d.equals(a)) out.println("move " + d + ", " + a);
+    }else if(c == -1){
+      out.println("subu " + d + ", $zero, " + a);
+    }else if(c == Integer.MIN_VALUE){
+      // 1 for MIN_VALUE itself, 0 for everything else
+      out.println("lui " + s1 + ", 0x8000");
+      out.println("xor " + s1 + ", " + a + ", " + s1);
+      out.println("sltiu " + d + ", " + s1 + ", 1");
+    }else{
+      int abs = Math.abs(c);
+      int k = log2(abs);
+      if(k >= 0){
+        bias(out, s1, a, k);
+        out.println("addu " + s1 + ", " + a + ", " + s1);
+        out.println("sra " + (c < 0 ? s1 : d) + ", " + s1 + ", " + k);
+      }else{
+        long[] magic = magic(abs);
+        out.println("li " + s1 + ", " + (int) magic[0]);
+        out.println("mult " + a + ", " + s1);
+        out.println("mfhi " + s1);
+        if((int) magic[0] < 0) out.println("addu " + s1 + ", " + s1 + ", " + a);
+        if(magic[1] > 0) out.println("sra " + s1 + ", " + s1 + ", " + magic[1]);
+        out.println("srl " + s2 + ", " + a + ", 31"); // + 1 for negative a: truncate toward 0
+        out.println("addu " + (c < 0 ? s1 : d) + ", " + s1 + ", " + s2);
+      }
+      if(c < 0) out.println("subu " + d + ", $zero, " + s1);
+    }
+  }
+
+  static void remainder(AsmEmitter out, String d, String a, int c, boolean unsigned, String s1, String s2){
+    int k = unsigned ? log2(c) : log2(Math.abs(c));
+    if(!unsigned && c == Integer.MIN_VALUE){
+      // a itself, but 0 for MIN_VALUE: a + MIN_VALUE wraps to 0
+      out.println("lui " + s1 + ", 0x8000");
+      out.println("xor " + s1 + ", " + a + ", " + s1);
+      out.println("sltiu " + s1 + ", " + s1 + ", 1");
+      out.println("sll " + s1 + ", " + s1 + ", 31");
+      out.println("addu " + d + ", " + a + ", " + s1);
+    }else if(k == 0){
+      out.println("move " + d + ", $zero");
+    }else if(k > 0 && unsigned){
+      low(out, d, a, k);
+    }else if(k > 0){
+      // (a + bias & 2^k - 1) - bias, bias = 2^k - 1 for negative a
+      bias(out, s1, a, k);
+      out.println("addu " + s2 + ", " + a + ", " + s1);
+      low(out, s2, s2, k);
+      out.println("subu " + d + ", " + s2 + ", " + s1);
+    }else{
+      int divisor = unsigned ? c : Math.abs(c);
+      divide(out, s1, a, divisor, unsigned, s1, s2);
+      multiply(out, s1, s1, divisor, s2);
+      out.println("subu " + d + ", " + a + ", " + s1);
+    }
+  }
+
+  private static void divideUnsigned(AsmEmitter out, String d, String a, int c, String s1, String s2){
+    int k = log2(c);
+    if(k == 0){
+      if(!d.equals(a)) out.println("move " + d + ", " + a);
+    }else if(k > 0){
+      out.println("srl " + d + ", " + a + ", " + k);
+    }else if(c < 0){
+      // above 2^31: the quotient is 0 or 1
+      out.println("li " + s1 + ", " + c);
+      out.println("sltu " + s1 + ", " + a + ", " + s1);
+      out.println("xori " + d + ", " + s1 + ", 1");
+    }else{
+      long[] magic = magicUnsigned(c & 0xFFFFFFFFL);
+      out.println("li " + s1 + ", " + (int) magic[0]);
+      out.println("multu " + a + ", " + s1);
+      out.println("mfhi " + s1);
+      if(magic[1] != 0){
+        out.println("subu " + s2 + ", " + a + ", " + s1);
+        out.println("srl " + s2 + ", " + s2 + ", 1");
+        out.println("addu " + s1 + ", " + s2 + ", " + s1);
+        out.println("srl " + d + ", " + s1 + ", " + (magic[2] - 1));
+      }else{
+        out.println("srl " + d + ", " + s1 + ", " + magic[2]);
+      }
+    }
+  }
+
+  // s = 2^k - 1 when a is negative, else 0
+  private static void bias(AsmEmitter out, String s, String a, int k){
+    if(k == 1){
+      out.println("srl " + s + ", " + a + ", 31");
+    }else{
+      out.println("sra " + s + ", " + a + ", 31");
+      out.println("srl " + s + ", " + s + ", " + (32 - k));
+    }
+  }
+
+  // d = a & 2^k - 1
+  private static void low(AsmEmitter out, String d, String a, int k){
+    if(k <= 16){
+      out.println("andi " + d + ", " + a + ", " + ((1 << k) - 1));
+    }else{
+      out.println("sll " + d + ", " + a + ", " + (32 - k));
+      out.println("srl " + d + ", " + d + ", " + (32 - k));
+    }
+  }
+
+  // k when c is 2^k (c taken as unsigned), else -1
+  static int log2(int c){
+    return c != 0 && (c & (c - 1)) == 0 ? Integer.numberOfTrailingZeros(c) : -1;
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // magic numbers, 32 bit unsigned arithmetic in longs
+
+  // {M, s} for signed division by 2 <= c < 2^31, c not a power of 2
+  static long[] magic(int c){
+    final long two31 = 0x80000000L, mask = 0xFFFFFFFFL;
+    long ad = c;
+    long anc = two31 - 1 - two31 % ad; // |nc|
+    int p = 31;
+    long q1 = two31 / anc, r1 = two31 - q1 * anc;
+    long q2 = two31 / ad, r2 = two31 - q2 * ad;
+    long delta;
+    do{
+      p++;
+      q1 = 2 * q1 & mask;
+      r1 = 2 * r1 & mask;
+      if(r1 >= anc){
+        q1 = q1 + 1 & mask;
+        r1 = r1 - anc & mask;
+      }
+      q2 = 2 * q2 & mask;
+      r2 = 2 * r2 & mask;
+      if(r2 >= ad){
+        q2 = q2 + 1 & mask;
+        r2 = r2 - ad & mask;
+      }
+      delta = ad - r2;
+    }while(q1 < delta || (q1 == delta && r1 == 0));
+    return new long[]{q2 + 1 & mask, p - 32};
+  }
+
+  // {M, add, s} for unsigned division by 2 < c < 2^31, c not a power of 2
+  static long[] magicUnsigned(long c){
+    final long mask = 0xFFFFFFFFL;
+    boolean add = false;
+    long nc = mask - (0x100000000L - c) % c;
+    int p = 31;
+    long q1 = 0x80000000L / nc, r1 = 0x80000000L - q1 * nc;
+    long q2 = 0x7FFFFFFFL / c, r2 = 0x7FFFFFFFL - q2 * c;
+    long delta;
+    do{
+      p++;
+      if(r1 >= nc - r1){
+        q1 = 2 * q1 + 1 & mask;
+        r1 = 2 * r1 - nc & mask;
+      }else{
+        q1 = 2 * q1 & mask;
+        r1 = 2 * r1 & mask;
+      }
+      if(r2 + 1 >= c - r2){
+        if(q2 >= 0x7FFFFFFFL) add = true;
+        q2 = 2 * q2 + 1 & mask;
+        r2 = 2 * r2 + 1 - c & mask;
+      }else{
+        if(q2 >= 0x80000000L) add = true;
+        q2 = 2 * q2 & mask;
+        r2 = 2 * r2 + 1 & mask;
+      }
+      delta = c - 1 - r2;
+    }while(p < 64 && (q1 < delta || (q1 == delta && r1 == 0)));
+    return new long[]{q2 + 1 & mask, add ? 1 : 0, p - 32};
+  }
+}
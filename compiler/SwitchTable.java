@@ -0,0 +1,152 @@
+package compiler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+////////////////////////////////////////////////////////////////////////////////////
+// Switch case table
+// One per switch statement being compiled (innermost on CCompiler.current_switch_context).
+// Every case label met while compiling the body adds its value and label here, wherever it
+// is nested (blocks, if bodies, other labels), so the switch sees all of its cases.
+// The body is compiled first, then lower() writes the dispatch, default (or the end) when
+// nothing matched:
+//  - a few cases: compared one after the other, in source order
+//  - dense values (range at most DENSITY times the number of cases): bounds check, then an
+//    indirect jr through a .word table of case labels, holes going to default
+//  - sparse values: balanced binary search on the sorted values, each half lowered the
+//    same way again, so dense clusters inside a sparse switch still get their own table
+
+class SwitchTable {
+
+  static final int MIN_CASES = 4;    // below this, compare one by one
+  static final int DENSITY = 3;      // table slots allowed per case
+  static final long MAX_TABLE = 4096; // words
+
+  static final class Case {
+    final long value; // converted to the type of the condition (32 bits)
+    final String label;
+
+    Case(long value, String label){
+      this.value = value;
+      this.label = label;
+    }
+  }
+
+  private final List<Case> cases = new ArrayList<Case>();
+  private final Set<Integer> values = new HashSet<Integer>();
+  private String defaultLabel = null;
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // labels found in the body
+  void addCase(long value, String label){
+    if(!values.add((int) value)) throw new IllegalArgumentException("Duplicate case value " + value);
+    cases.add(new Case(value, label));
+  }
+
+  void setDefault(String label){
+    if(defaultLabel != null) throw new IllegalArgumentException("Multiple default labels in one switch");
+    defaultLabel = label;
+  }
+
+  List<Case> getCases(){return cases;}
+  String getDefault(){return defaultLabel;}
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // dispatch on the condition in $v0 ($t1, $t2 are free), ends at endLabel when nothing
+  // matches and there is no default. names makes the labels of the dispatch code
+  void lower(AsmEmitter out, String endLabel, UnaryOperator<String> names){
+    if(cases.size() < MIN_CASES){
+      for(Case c: cases){
+        compare(out, c);
+      }
+      if(defaultLabel != null) out.println("j " + defaultLabel + "\nnop");
+      return;
+    }
+    List<Case> sorted = new ArrayList<Case>(cases);
+    Collections.sort(sorted, new Comparator<Case>(){
+      public int compare(Case a, Case b){return Integer.compare((int) a.value, (int) b.value);}
+    });
+    lower(out, sorted, defaultLabel != null ? defaultLabel : endLabel, names);
+  }
+
+  // cases sorted by value, always ends with a jump
+  private void lower(AsmEmitter out, List<Case> sorted, String otherwise, UnaryOperator<String> names){
+    if(sorted.size() < MIN_CASES){
+      for(Case c: sorted){
+        compare(out, c);
+      }
+      out.println("j " + otherwise + "\nnop");
+    }else if(isDense(sorted)){
+      jumpTable(out, sorted, otherwise, names);
+    }else{
+      int middle = sorted.size() / 2;
+      Case pivot = sorted.get(middle);
+      String less = names.apply("switch_less");
+      compare(out, pivot);
+      out.println("slt $t2, $v0, $t1"); // $t1 still holds the pivot
+      out.println("bne $t2, $zero, " + less + "\nnop");
+      lower(out, sorted.subList(middle + 1, sorted.size()), otherwise, names);
+      out.println(less + ":");
+      lower(out, sorted.subList(0, middle), otherwise, names);
+    }
+  }
+
+  private static void compare(AsmEmitter out, Case c){
+    out.println("li $t1, " + c.value);
+    out.println("beq $v0, $t1, " + c.label + "\nnop");
+  }
+
+  private static long range(List<Case> sorted){
+    return (long) (int) sorted.get(sorted.size() - 1).value - (int) sorted.get(0).value + 1;
+  }
+
+  static boolean isDense(List<Case> sorted){
+    long range = range(sorted);
+    return range <= MAX_TABLE && range <= (long) DENSITY * sorted.size();
+  }
+
+  // $t1 = $v0 - min, unsigned compare against the range also rejects values under min
+  private static void jumpTable(AsmEmitter out, List<Case> sorted, String otherwise, UnaryOperator<String> names){
+    int min = (int) sorted.get(0).value;
+    long range = range(sorted);
+    String table = names.apply("switch_table");
+    if(min > Short.MIN_VALUE && min <= -Short.MIN_VALUE){
+      out.println("addiu $t1, $v0, " + -min);
+    }else{
+      out.println("li $t2, " + min);
+      out.println("subu $t1, $v0, $t2");
+    }
+    out.println("sltiu $t2, $t1, " + range);
+    out.println("beq $t2, $zero, " + otherwise + "\nnop");
+    out.println("sll $t1, $t1, 2");
+    out.println("lui $t2, %hi(" + table + ")");
+    out.println("addu $t2, $t2, $t1");
+    out.println("lw $t1, %lo(" + table + ")($t2)");
+    out.println("jr $t1\nnop");
+    // the table sits with the function's text so it moves with it (function cache, -j)
+    out.println(".data\n.align 2");
+    out.println(table + ":");
+    int next = 0;
+    for(Case c: sorted){
+      for(int slot = (int) c.value - min; next < slot; next++){
+        out.println(".word " + otherwise);
+      }
+      out.println(".word " + c.label);
+      next++;
+    }
+    out.println(".text");
+  }
+
+  @Override public String toString(){
+    StringBuilder table = new StringBuilder();
+    for(Case c: cases){
+      table.append(c.label).append(':').append(c.value).append('\n');
+    }
+    return table.append(defaultLabel).append(":default").toString();
+  }
+}
@@ -0,0 +1,120 @@
+package compiler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+////////////////////////////////////////////////////////////////////////////////////
+// Scoped symbol table
+// Every scope only stores what is declared in it and points to its parent, so
+// entering or leaving a block is O(1) whatever the number of visible symbols.
+// Lookups walk the chain from the innermost scope outwards, which gives shadowing.
+// Functions have their own (global) namespace since C has no nested functions.
+
+public class SymbolTable<V> {
+
+  private static final class Scope<V> {
+    final Scope<V> parent;
+    final int depth;
+    Map<String, V> symbols = null; // most scopes (if / while bodies...) declare nothing, allocate on first put
+
+    Scope(Scope<V> parent){
+      this.parent = parent;
+      this.depth = parent == null ? 1 : parent.depth + 1;
+    }
+  }
+
+  private Scope<V> top = null;
+  private final Map<String, V> functions = new HashMap<String, V>();
+  private int globalWrites = 0; // changes to the outermost scope or to functions
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // scopes
+  public void push(){
+    top = new Scope<V>(top);
+  }
+
+  public void pop(){
+    top = top.parent;
+  }
+
+  public int depth(){
+    return top == null ? 0 : top.depth;
+  }
+
+  public boolean isGlobalScope(){
+    return depth() == 1;
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // variables, arrays, typedefs, structs... (innermost declaration wins)
+  public V get(String id){
+    for(Scope<V> scope = top; scope != null; scope = scope.parent){
+      if(scope.symbols != null){
+        V value = scope.symbols.get(id);
+        if(value != null) return value;
+      }
+    }
+    return null;
+  }
+
+  public void put(String id, V value){
+    if(top.symbols == null) top.symbols = new HashMap<String, V>();
+    top.symbols.put(id, value);
+    if(top.parent == null) globalWrites++;
+  }
+
+  // only removes from the current scope
+  public V remove(String id){
+    V removed = top.symbols == null ? null : top.symbols.remove(id);
+    if(removed != null && top.parent == null) globalWrites++;
+    return removed;
+  }
+
+  // declarations of the current scope only
+  public Map<String, V> current(){
+    return top.symbols == null ? Collections.<String, V>emptyMap() : top.symbols;
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // functions
+  public V getFunction(String id){
+    return functions.get(id);
+  }
+
+  public void putFunction(String id, V value){
+    functions.put(id, value);
+    globalWrites++;
+  }
+
+  public Map<String, V> getFunctions(){
+    return functions;
+  }
+
+  // a new table holding a copy of the outermost scope and of the functions, what a function
+  // defined here sees of the unit. Symbols themselves are shared, not copied
+  public SymbolTable<V> snapshot(){
+    Scope<V> global = top;
+    while(global.parent != null) global = global.parent;
+    SymbolTable<V> copy = new SymbolTable<V>();
+    copy.push();
+    if(global.symbols != null) copy.top.symbols = new HashMap<String, V>(global.symbols);
+    copy.functions.putAll(functions);
+    return copy;
+  }
+
+  // changes so far to what every function sees (outermost scope and functions)
+  public int globalWrites(){
+    return globalWrites;
+  }
+
+  // outermost to innermost, for debugging
+  @Override public String toString(){
+    ArrayList<Map<String, V>> scopes = new ArrayList<Map<String, V>>();
+    for(Scope<V> scope = top; scope != null; scope = scope.parent){
+      scopes.add(0, scope.symbols == null ? Collections.<String, V>emptyMap() : scope.symbols);
+    }
+    return scopes + " functions: " + functions;
+  }
+}
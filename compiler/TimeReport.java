@@ -0,0 +1,140 @@
+package compiler;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+////////////////////////////////////////////////////////////////////////////////////
+// Time report (-time-report)
+// Phases (lex, parse, codegen, emit) are timed as a whole. Inside codegen every visitXxx
+// call (and helpers such as threeOp) is an entry: calls, self time (minus nested entries),
+// total time (outermost activation only, so recursion is not counted twice) and bytes
+// allocated by the thread while in the entry itself.
+// Only exists while the flag is on: the compiler checks for null and does nothing else.
+
+public class TimeReport {
+
+  static final class Stat {
+    final String name;
+    long calls, selfNanos, totalNanos, selfBytes;
+    int active; // activations currently on the stack (recursion)
+
+    Stat(String name){
+      this.name = name;
+    }
+  }
+
+  static final class Frame {
+    final Stat stat;
+    final long startNanos, startBytes;
+    long childNanos, childBytes;
+
+    Frame(Stat stat, long startNanos, long startBytes){
+      this.stat = stat;
+      this.startNanos = startNanos;
+      this.startBytes = startBytes;
+    }
+  }
+
+  private final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+  private final Map<String, long[]> phases = new LinkedHashMap<String, long[]>(); // name -> {nanos, bytes}
+  private final Map<String, Stat> entries = new HashMap<String, Stat>();
+  private final Map<Class<?>, String> names = new HashMap<Class<?>, String>(); // XxxContext -> visitXxx
+  private final ArrayList<Frame> stack = new ArrayList<Frame>();
+  private String phase = null;
+  private long phaseNanos, phaseBytes;
+
+  private long allocated(){
+    return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // phases: begin("parse") ... end()
+  public void begin(String name){
+    phase = name;
+    phaseBytes = allocated();
+    phaseNanos = System.nanoTime();
+  }
+
+  public void end(){
+    long nanos = System.nanoTime() - phaseNanos;
+    phases.put(phase, new long[]{nanos, allocated() - phaseBytes});
+    phase = null;
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // entries: enter("visitArrPostExpr") ... exit()
+  public void enter(String name){
+    Stat stat = entries.get(name);
+    if(stat == null){
+      stat = new Stat(name);
+      entries.put(name, stat);
+    }
+    stat.calls++;
+    stat.active++;
+    stack.add(new Frame(stat, System.nanoTime(), allocated()));
+  }
+
+  // entry of the visitor method a parse tree node dispatches to
+  public void enter(Class<?> node){
+    String name = names.get(node);
+    if(name == null){
+      name = node.getSimpleName();
+      if(name.endsWith("Context")) name = name.substring(0, name.length() - "Context".length());
+      name = "visit" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+      names.put(node, name);
+    }
+    enter(name);
+  }
+
+  public void exit(){
+    long now = System.nanoTime();
+    long bytes = allocated();
+    Frame frame = stack.remove(stack.size() - 1);
+    long nanos = now - frame.startNanos;
+    long allocatedBytes = bytes - frame.startBytes;
+    frame.stat.selfNanos += nanos - frame.childNanos;
+    frame.stat.selfBytes += allocatedBytes - frame.childBytes;
+    if(--frame.stat.active == 0) frame.stat.totalNanos += nanos;
+    if(!stack.isEmpty()){
+      Frame parent = stack.get(stack.size() - 1);
+      parent.childNanos += nanos;
+      parent.childBytes += allocatedBytes;
+    }
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // phases in order, then entries by self time
+  public void print(PrintStream err){
+    err.println();
+    err.println("=======    Time report   =======");
+    err.printf("%-32s %12s %12s%n", "phase", "ms", "KB alloc");
+    long all = 0;
+    for(Map.Entry<String, long[]> e: phases.entrySet()){
+      err.printf("%-32s %12.3f %12d%n", e.getKey(), e.getValue()[0] / 1e6, e.getValue()[1] / 1024);
+      all += e.getValue()[0];
+    }
+    err.printf("%-32s %12.3f%n", "total", all / 1e6);
+
+    List<Stat> stats = new ArrayList<Stat>(entries.values());
+    Collections.sort(stats, new Comparator<Stat>(){
+      public int compare(Stat a, Stat b){return Long.compare(b.selfNanos, a.selfNanos);}
+    });
+    err.println();
+    err.printf("%-32s %10s %12s %12s %8s %12s%n", "visitor", "calls", "self ms", "total ms", "self %", "self KB");
+    long self = 0;
+    for(Stat stat: stats){
+      self += stat.selfNanos;
+    }
+    for(Stat stat: stats){
+      err.printf("%-32s %10d %12.3f %12.3f %7.1f%% %12d%n", stat.name, stat.calls, stat.selfNanos / 1e6,
+        stat.totalNanos / 1e6, self == 0 ? 0 : 100.0 * stat.selfNanos / self, stat.selfBytes / 1024);
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package compiler;
+
+import compiler.antlr.*;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeProperty;
+
+////////////////////////////////////////////////////////////////////////////////////
+// Expression annotations
+// Works out what an expression designates (symbol, storage, type) from the tree and the
+// symbol table only. It generates no code and changes no compiler state. Results are cached per node
+// in a ParseTreeProperty, so code generation can learn the type of an assignment target
+// before evaluating the right hand side, then walk the target once, for real.
+// Declarations are made while generating code, so a node is resolved against the scopes
+// live the first time it is asked for, i.e. when code generation reaches its statement.
+
+class TypeAnnotator {
+
+  // what an expression designates
+  static final class Info {
+    final String id;    // root identifier (variable, array, struct, pointer...), null if none
+    final STO symbol;   // symbol table entry of the root identifier, null if unknown (functions...)
+    final STO member;   // struct member for a.b, null otherwise
+    final types type;   // type of the designated value, null for whole structs / unknown
+
+    Info(String id, STO symbol, STO member, types type){
+      this.id = id;
+      this.symbol = symbol;
+      this.member = member;
+      this.type = type;
+    }
+
+    boolean isGlobal(){
+      return symbol != null && symbol.isGlobal();
+    }
+  }
+
+  static final Info NONE = new Info(null, null, null, null);
+
+  private final SymbolTable<STO> symbolTable;
+  private final ParseTreeProperty<Info> annotations = new ParseTreeProperty<Info>();
+
+  TypeAnnotator(SymbolTable<STO> symbolTable){
+    this.symbolTable = symbolTable;
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // annotation of a node, resolved on first use
+  Info annotate(ParseTree node){
+    Info info = annotations.get(node);
+    if(info == null){
+      info = resolve(node);
+      annotations.put(node, info);
+    }
+    return info;
+  }
+
+  private Info resolve(ParseTree node){
+    if(node instanceof CParser.IdPrimaryExprContext){
+      String id = ((CParser.IdPrimaryExprContext) node).id.getText();
+      STO symbol = symbolTable.get(id);
+      if(symbol == null) return new Info(id, null, null, null);
+      return new Info(id, symbol, null, symbol.getSTOType() == STOtypes.PTR ? types.INT : symbol.getType());
+    }
+    if(node instanceof CParser.ArrPostExprContext){
+      // a[i][j]: the element type of the array a
+      ParseTree left = ((CParser.ArrPostExprContext) node).left;
+      String id = left.getChildCount() != 1 ? annotate(left).id : left.getText();
+      STO symbol = symbolTable.get(id);
+      return new Info(id, symbol, null, symbol == null ? null : symbol.getType());
+    }
+    if(node instanceof CParser.FuncCallPostExprContext){
+      // s.x: the member of the struct s
+      CParser.FuncCallPostExprContext ctx = (CParser.FuncCallPostExprContext) node;
+      String id = ctx.expr.getText();
+      STO symbol = symbolTable.get(id);
+      STO member = symbol == null ? null : symbol.getMember(ctx.id.getText());
+      return new Info(id, symbol, member, member == null ? null : member.getType());
+    }
+    if(node instanceof CParser.CastUnaryExprContext){
+      // *p, -x...: same root symbol, the element type once dereferenced
+      Info right = annotate(((CParser.CastUnaryExprContext) node).right);
+      return new Info(right.id, right.symbol, null, right.symbol == null ? right.type : right.symbol.getType());
+    }
+    if(node instanceof CParser.ParExprPrimaryExprContext){
+      return annotate(((CParser.ParExprPrimaryExprContext) node).expr);
+    }
+    if(node.getChildCount() == 1){
+      return annotate(node.getChild(0)); // single alternative rules (postUnaryExpr, primPostExpr...)
+    }
+    return NONE;
+  }
+}
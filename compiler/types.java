@@ -0,0 +1,3 @@
+package compiler;
+
+enum types {INT, CHAR, DOUBLE, FLOAT, UNSIGNED, SIGNED, SHORT, VOID};
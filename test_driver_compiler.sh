@@ -46,6 +46,12 @@ for DRIVER in $workingin/*_driver.c ; do
         >&2 echo "ERROR : Compiler returned error message."
         continue
     fi
+
+    # Every "// asm-not: <text>" line of the test names text its assembly must not contain
+    ASM_FOUND=""
+    while read -r TEXT; do
+        grep -qF -- "$TEXT" $workingout/${NAME}.s && ASM_FOUND="$TEXT"
+    done < <(sed -n 's|^// asm-not: ||p' $TESTCODE)
     
     # Generate GOT_EXIT_CODE
     mips-linux-gnu-gcc -w -static $workingout/${NAME}_driver.s $workingout/${NAME}.s -o $workingout/${NAME}_result
@@ -57,7 +63,10 @@ for DRIVER in $workingin/*_driver.c ; do
     qemu-mips $workingout/${NAME}_gcc_result
     EXP_EXIT_CODE=$?
     
-    if [[ $GOT_EXIT_CODE -ne $EXP_EXIT_CODE ]]; then
+    if [[ -n "$ASM_FOUND" ]]; then
+        echo -e ${red}$NAME.c "[FAIL]" ${pur}"Assembly contains" "$ASM_FOUND" ${wht}
+        let "n_fail++"
+    elif [[ $GOT_EXIT_CODE -ne $EXP_EXIT_CODE ]]; then
         echo -e ${red}$NAME.c "[FAIL]" ${pur}"Expected" $EXP_EXIT_CODE ", got" $GOT_EXIT_CODE ${wht}
         let "n_fail++"
     else
@@ -0,0 +1,2004 @@
+int f(int a)
+{
+    return
+        7+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a
+        -a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a-a+a;
+}
@@ -0,0 +1,10 @@
+int f(int n)
+{
+    int x;
+    x=0;
+    do{
+        x=x+n;
+        n=n-1;
+    }while(n > 0);
+    return x;
+}
@@ -0,0 +1,17 @@
+int f(int x)
+{
+    int y;
+    y=0;
+    switch(x)
+    {
+        case 3: y=30; break;
+        case 4: y=40; break;
+        case 5: y=50; break;
+        case 7: y=70; break;
+        case 8: y=80;
+        case 9: y=y+9; break;
+        case 10: y=100; break;
+        default: y=-1;
+    }
+    return y;
+}
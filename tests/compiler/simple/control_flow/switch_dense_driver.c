@@ -0,0 +1,6 @@
+int f(int x);
+
+int main()
+{
+    return !(f(3)==30 && f(5)==50 && f(6)==-1 && f(8)==89 && f(9)==9 && f(10)==100 && f(2)==-1 && f(11)==-1 && f(-5)==-1);
+}
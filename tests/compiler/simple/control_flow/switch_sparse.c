@@ -0,0 +1,19 @@
+int f(int x)
+{
+    int y;
+    y=0;
+    switch(x)
+    {
+        case -1000: y=1; break;
+        case -7: y=2; break;
+        case 0: y=3; break;
+        case 12: y=4; break;
+        case 100: y=5; break;
+        case 101: y=6; break;
+        case 102: y=7; break;
+        case 103: y=8; break;
+        case 5000: y=9; break;
+        case 70000: y=10; break;
+    }
+    return y;
+}
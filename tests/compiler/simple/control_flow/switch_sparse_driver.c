@@ -0,0 +1,6 @@
+int f(int x);
+
+int main()
+{
+    return !(f(-1000)==1 && f(-7)==2 && f(0)==3 && f(12)==4 && f(101)==6 && f(103)==8 && f(5000)==9 && f(70000)==10 && f(1)==0 && f(104)==0 && f(-999)==0 && f(69999)==0);
+}
@@ -0,0 +1,17 @@
+int f(int x)
+{
+    int s = 0;
+    s = s + x / 7 + x % 7 + x / -3 + x % -3;
+    s = s + x / 8 + x % 8 + x / -4 + x * 9 + x * -16 + x * 7 + x * 100;
+    return s;
+}
+
+int g(int x)
+{
+    int a[4][3];
+    int i;
+    for(i = 0; i < 12; i++){
+        a[i / 3][i % 3] = i * 5;
+    }
+    return a[3][2] + a[1][1] / 2 + x / 10 + x % 16 + x / -8;
+}
@@ -0,0 +1,7 @@
+int f(int x);
+int g(int x);
+
+int main()
+{
+    return !(f(-1234)==-123016 && f(99)==9873 && g(-77)==54 && g(123)==73);
+}
@@ -0,0 +1,30 @@
+// N folds like a literal: it is never loaded from memory
+// asm-not: %hi(N)
+enum { N = 4 };
+
+int wide = (unsigned char)255 + (unsigned short)65535;
+
+int f(int x)
+{
+    int a[3];
+    int k = 3 * 4 + 1;
+    a[0] = (1 << 4) - 7 / 2 + ~0;
+    a[1] = (k > 10) + (2 == 2 && 0 || 5) + !0 + -N;
+    a[2] = sizeof(int) * N;
+    return x + a[0] + a[1] + a[2] + k;
+}
+
+int g(int x)
+{
+    int N = 2;
+    int k = 3 * 4 + 1;
+    if(k * 2 > 20){
+        x = x + N * 10;
+    }
+    return x + (1 << 4) - (7 / 2);
+}
+
+int h(int x)
+{
+    return x + wide + (unsigned char)-1 + (unsigned short)-2;
+}
@@ -0,0 +1,9 @@
+int f(int x);
+int g(int x);
+int h(int x);
+
+int main()
+{
+    if(h(1) != 131580) return 1;
+    return !(f(1)==41 && g(1)==34);
+}
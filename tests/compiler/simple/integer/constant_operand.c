@@ -0,0 +1,16 @@
+int f(int x)
+{
+    int s = (x + 5) + (x - 32768) + (x & 255) + (x | 70000) + (x ^ 65535);
+    s = s + (x << 3) + (x >> 2) + (x < 10) + (x <= 32767) + (x > -1) + (x >= 32767);
+    return s + (x == 0) + (x != -7) + (100000 == x) + (5 < x);
+}
+
+int g(int x)
+{
+    int a[1];
+    int s;
+    a[0] = x;
+    s = (a[0] + 5) + (a[0] - 32768) + (a[0] & 255) + (a[0] | 70000) + (a[0] ^ 65535);
+    s = s + (a[0] << 3) + (a[0] >> 2) + (a[0] < 10) + (a[0] <= 32767) + (a[0] > -1) + (a[0] >= 32767);
+    return s + (a[0] == 0) + (a[0] != -7) + (a[0] == 100000) + (a[0] > 5);
+}
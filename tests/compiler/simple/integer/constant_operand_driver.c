@@ -0,0 +1,7 @@
+int f(int x);
+int g(int x);
+
+int main()
+{
+    return !(f(-7)==-98121 && g(-7)==-98121 && f(32767)==434429 && g(32767)==434429 && f(100000)==1193441 && g(100000)==1193441);
+}
@@ -0,0 +1,40 @@
+int sq(int x)
+{
+    return x * x;
+}
+
+int f(int x)
+{
+    int a[2];
+    a[0] = x;
+    a[1] = x + 1;
+    return a[0] * (a[1] - a[0] * (a[1] + a[0] * (a[1] - a[0] * (a[1] + a[0] * (a[1] - a[0] * (a[1] + a[0] * (a[1] - 3))))))) + (a[0] < a[1]) + (a[0] != a[1]);
+}
+
+int g(int x)
+{
+    int a[1];
+    a[0] = x;
+    return a[0] + sq(a[0] + 1) * (a[0] - sq(a[0]));
+}
+
+float h(float x, float y)
+{
+    float a[1];
+    a[0] = x;
+    return a[0] * (y - a[0] * (y + a[0] * (y - a[0] * (y + a[0] * (y - a[0] * (y + 1.0f)))))) + (a[0] < y);
+}
+
+double k(double x, double y)
+{
+    double a[1];
+    a[0] = x;
+    return a[0] / (y - a[0] * (y + a[0] * (y - a[0] * (y + a[0] * (y - a[0] * (y + 1.0)))))) + (a[0] == y);
+}
+
+unsigned u(unsigned x, int n)
+{
+    int a[1];
+    a[0] = n;
+    return x >> (a[0] + 1);
+}
@@ -0,0 +1,11 @@
+int f(int x);
+int g(int x);
+float h(float x, float y);
+double k(double x, double y);
+unsigned u(unsigned x, int n);
+
+int main()
+{
+    if(u(~0, 3) != 268435455) return 1;
+    return !(f(2)==-76 && f(-3)==-9181 && g(3)==-93 && g(-2)==-8 && h(2.0f, 0.5f)==-77.0f && k(1.0, 1.0)==0.0);
+}
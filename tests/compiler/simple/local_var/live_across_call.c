@@ -0,0 +1,15 @@
+int g(int x);
+
+int f(int n)
+{
+    int i;
+    int a = 1;
+    int b = 2;
+    int c = n;
+    for(i = 0; i < n; i++){
+        a = a + g(b);
+        b = b * 2 + g(c);
+        c = c - 1;
+    }
+    return a + b + c + n;
+}
@@ -0,0 +1,13 @@
+int f(int n);
+
+int g(int x)
+{
+    int a = x + 1;
+    int b = a * 3;
+    return b - x;
+}
+
+int main()
+{
+    return !(f(3)==180);
+}
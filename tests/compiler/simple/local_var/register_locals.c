@@ -0,0 +1,62 @@
+int bump(int *p)
+{
+    *p = *p + 1;
+    return *p;
+}
+
+float scale(int n)
+{
+    float s = 0.0f, x = 0.5f;
+    int i;
+    for(i = 0; i < n; i++){
+        s = s + x;
+    }
+    return s;
+}
+
+float total(int n)
+{
+    float t = 0.0f;
+    int i;
+    for(i = 0; i < n; i++){
+        t = t + scale(i);
+    }
+    return t;
+}
+
+int mix(int n)
+{
+    int a = 1, b = 2, c = 3, d = 4, e = 5, f = 6, g = 7, h = 8, k = 9, m = 10;
+    int i;
+    for(i = 0; i < n; i++){
+        a = a + b; b = b + c; c = c + d; d = d + e; e = e + f;
+        f = f + g; g = g + h; h = h + k; k = k + m; m = m + bump(&i);
+    }
+    return a + b + c + d + e + f + g + h + k + m + i;
+}
+
+int squares(int n)
+{
+    double sum = 0.0, x = 0.5, d;
+    int i = 0;
+    while(i < n){
+        d = i;
+        sum = sum + x * x;
+        x = x + 1.0;
+        ++i;
+    }
+    sum = sum + d;
+    i = sum;
+    return i;
+}
+
+unsigned rotate(unsigned x, int n)
+{
+    unsigned r = x;
+    int i;
+    for(i = 0; i < n; i++){
+        r = (r << 1) | (r >> 31);
+    }
+    r--;
+    return r;
+}
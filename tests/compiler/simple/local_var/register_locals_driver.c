@@ -0,0 +1,13 @@
+float total(int n);
+int mix(int n);
+int squares(int n);
+unsigned rotate(unsigned x, int n);
+
+int main()
+{
+    if(total(4) != 3.0f) return 1;
+    if(mix(3) != 224) return 2;
+    if(squares(4) != 24) return 3;
+    if(rotate(5, 30) != 1073741824) return 4;
+    return 0;
+}
@@ -0,0 +1,16 @@
+unsigned f(unsigned x)
+{
+    x = x << 31;
+    return x >> 31;
+}
+
+unsigned g(unsigned x, int n)
+{
+    x = x << n;
+    return x >> n;
+}
+
+int h(int x, int n)
+{
+    return (x >> 4) + (x >> n);
+}
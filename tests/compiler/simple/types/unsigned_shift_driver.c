@@ -0,0 +1,8 @@
+unsigned f(unsigned x);
+unsigned g(unsigned x, int n);
+int h(int x, int n);
+
+int main()
+{
+    return !(f(1)==1 && g(3, 30)==3 && h(-64, 2)==-20);
+}
@@ -8,6 +8,15 @@ import org.antlr.v4.runtime.misc.Interval;
 
 import java.util.Set; // for the global variables tracking
 import java.util.HashSet; // for the global variables tracking
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+
+import common.CompileServer;
+import common.TwoStageParser;
 
 // antlr listeners are by default depth-first walk (therefore a full in depth anticlockwise circle)
 
@@ -18,10 +27,12 @@ public class CTranslator extends CBaseListener {
   int current_scope; // tracks the tabulation requirement
   Boolean include_main; // checks if we include the python main call
   Set<String> global_variables = new HashSet<String>(); // set of global variables to be included
+  PrintStream out; // where the python goes (stdout, or a file in server mode)
 
   ////////////////////////////////////////////////////////////////////////////////////
   // constructor. Set scope to 0 and main to false
-  CTranslator() {
+  CTranslator(PrintStream out) {
+    this.out = out;
     current_scope = 0; // keep track of the scop count to tabulate correctly
     include_main = false; // keep track if we need to include a main
   }
@@ -30,7 +41,7 @@ public class CTranslator extends CBaseListener {
   // function to add tabs correctly for the python generation
   public void tabulate() {
     for (int i = 0; i < current_scope; i++)
-      System.out.print("\t");
+      out.print("\t");
   }
 
   ////////////////////////////////////////////////////////////////////////////////////
@@ -38,7 +49,7 @@ public class CTranslator extends CBaseListener {
   @Override
   public void enterDecl(CParser.DeclContext ctx) {
     tabulate();
-    System.out.println(ctx.decl_l.getText() + "=0");
+    out.println(ctx.decl_l.getText() + "=0");
   }
 
   ////////////////////////////////////////////////////////////////////////////////////
@@ -59,7 +70,7 @@ public class CTranslator extends CBaseListener {
   @Override
   public void enterAssgn(CParser.AssgnContext ctx) {
     tabulate();
-    System.out.println(ctx.assgn.getText());
+    out.println(ctx.assgn.getText());
   }
 
   ////////////////////////////////////////////////////////////////////////////////////
@@ -73,7 +84,7 @@ public class CTranslator extends CBaseListener {
     operation = operation.replaceAll("&&", " and ");
     operation = operation.replaceAll("\\|\\|", " or ");
     tabulate();
-    System.out.println(operation);
+    out.println(operation);
   }
   
   ////////////////////////////////////////////////////////////////////////////////////
@@ -87,7 +98,7 @@ public class CTranslator extends CBaseListener {
     functionCall = functionCall.replaceAll("&&", " and ");
     functionCall = functionCall.replaceAll("\\|\\|", " or ");
     tabulate();
-    System.out.println(functionCall);
+    out.println(functionCall);
   }
 
   ////////////////////////////////////////////////////////////////////////////////////
@@ -96,7 +107,7 @@ public class CTranslator extends CBaseListener {
   public void enterFunction_definition(CParser.Function_definitionContext ctx) {
     tabulate();
     current_scope += 1;
-    System.out.print("def " + ctx.func_dec.getChild(0) + "(");
+    out.print("def " + ctx.func_dec.getChild(0) + "(");
     if (ctx.func_dec.getChild(0).getText().toString().equals("main")) {
       include_main = true;
     }
@@ -110,29 +121,29 @@ public class CTranslator extends CBaseListener {
 
   @Override
   public void enterParameter_declaration(CParser.Parameter_declarationContext ctx) {
-    System.out.print(ctx.decl.getText());
+    out.print(ctx.decl.getText());
     if(ctx.getParent().getParent().getChild(1).getText().equals("(")){
-      System.out.println("):");
+      out.println("):");
       for(String gVar : global_variables){
-        tabulate();System.out.println("global "+gVar);
+        tabulate();out.println("global "+gVar);
       }
     }else{
-      System.out.print(", ");
+      out.print(", ");
     }
   }
 
   @Override
   public void exitFunction_definition(CParser.Function_definitionContext ctx) {
-    tabulate();System.out.println("pass"); // for empty functions, python will not compile
+    tabulate();out.println("pass"); // for empty functions, python will not compile
     current_scope -= 1;
   }
 
   @Override
   public void exitFuncDecl(CParser.FuncDeclContext ctx){
     if(ctx.getChild(3) == null) {
-      System.out.println("):");
+      out.println("):");
       for(String gVar : global_variables){
-        tabulate();System.out.println("global "+gVar);
+        tabulate();out.println("global "+gVar);
       }
     }
   }
@@ -152,13 +163,13 @@ public class CTranslator extends CBaseListener {
     condition = condition.replaceAll("&&", " and ");
     condition = condition.replaceAll("\\|\\|", " or ");
     tabulate();
-    System.out.println("if(" + condition + "):");
+    out.println("if(" + condition + "):");
     current_scope += 1;
   }
 
   @Override
   public void exitIfStat(CParser.IfStatContext ctx) {
-    tabulate();System.out.println("pass"); // what if falseExe is empty
+    tabulate();out.println("pass"); // what if falseExe is empty
     current_scope -= 1;
   }
 
@@ -166,10 +177,10 @@ public class CTranslator extends CBaseListener {
   public void enterElseStat(CParser.ElseStatContext ctx) {
     // because in the grammar, the else is within the ifStat context, it is getting an extra tabulation
     // decrement the scope by one. An elseStat is ALWAYS part of an ifStat anyway
-    tabulate();System.out.println("pass"); // what if trueExec is empty
+    tabulate();out.println("pass"); // what if trueExec is empty
     current_scope -= 1; 
     tabulate();
-    System.out.println("else:");
+    out.println("else:");
     current_scope += 1;
     // do not decrement scope when leaving an elseStat context because we are also leaving an ifStat context
     // which will already decrement the scope
@@ -188,7 +199,7 @@ public class CTranslator extends CBaseListener {
       ret = ret.replaceAll("\\|\\|", " or ");
     }
     tabulate();
-    System.out.println("return " + ret);
+    out.println("return " + ret);
   }
 
   ////////////////////////////////////////////////////////////////////////////////////
@@ -202,32 +213,59 @@ public class CTranslator extends CBaseListener {
     condition = condition.replaceAll("&&", " and ");
     condition = condition.replaceAll("\\|\\|", " or ");
     tabulate();
-    System.out.println("while(" + condition + "):");
+    out.println("while(" + condition + "):");
     current_scope += 1;
   }
 
   @Override
   public void exitWhileStat(CParser.WhileStatContext ctx) {
-    tabulate();System.out.println("pass");
+    tabulate();out.println("pass");
     current_scope -= 1;
   }
 
   ////////////////////////////////////////////////////////////////////////////////////
-  // main class. create a tree and call a listener on the tree
-  public static void main(String[] args) throws Exception {
-    // create a CharStream that reads from standard input
-    ANTLRInputStream input = new ANTLRInputStream(System.in); // create a lexer that feeds off of input CharStream
-    CLexer lexer = new CLexer(input); // create a buffer of tokens pulled from the lexer
-    CommonTokenStream tokens = new CommonTokenStream(lexer); // create a parser that feeds off the tokens buffer
-    CParser parser = new CParser(tokens);
-    ParseTree tree = parser.translation_unit(); // begin parsing at init rule
+  // translate a whole unit. create a tree and call a listener on the tree
+  public static void translate(CharStream input, PrintStream out) {
+    CLexer lexer = new CLexer(input); // create a lexer that feeds off of input CharStream
+    CommonTokenStream tokens = new CommonTokenStream(lexer); // create a buffer of tokens pulled from the lexer
+    CParser parser = new CParser(tokens); // create a parser that feeds off the tokens buffer
+    ParseTree tree = TwoStageParser.parse(parser, CParser::translation_unit); // begin parsing at init rule, SLL first
     ParseTreeWalker walker = new ParseTreeWalker();
-    CTranslator CtoPython = new CTranslator();
+    CTranslator CtoPython = new CTranslator(out);
     walker.walk(CtoPython, tree);
     if (CtoPython.include_main) {
-      System.out.println("if __name__ == \"__main__\":\n\timport sys\n\tret=main()\n\tsys.exit(ret)");
+      out.println("if __name__ == \"__main__\":\n\timport sys\n\tret=main()\n\tsys.exit(ret)");
+    }
+    out.println();
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////
+  // main class. stdin to stdout, -S source -o dest, or a warm server on a port or stdin (see common.CompileServer)
+  public static void main(String[] args) throws Exception {
+    if (args.length == 2 && args[0].equals("-server")) {
+      CompileServer server = new CompileServer(new CompileServer.Job() {
+        public void run(String source, List<String> destinations) throws Exception {
+          for (String destination : destinations) {
+            try (PrintStream file = new PrintStream(new BufferedOutputStream(new FileOutputStream(destination)))) {
+              translate(CharStreams.fromFileName(source), file);
+            }
+          }
+        }
+      }, new ThreadFactory() {
+        public Thread newThread(Runnable task) {
+          return new Thread(null, task, "translate-worker", 1L << 30); // the compile workers' stack, for deep expressions
+        }
+      });
+      if (args[1].equals("-")) server.serveStdin();
+      else server.serve(Integer.parseInt(args[1]));
+    } else if (args.length == 4 && args[0].equals("-S") && args[2].equals("-o")) {
+      try (PrintStream file = new PrintStream(new BufferedOutputStream(new FileOutputStream(args[3])))) {
+        translate(CharStreams.fromFileName(args[1]), file);
+      }
+    } else {
+      // create a CharStream that reads from standard input
+      translate(CharStreams.fromStream(System.in), System.out);
     }
-    System.out.println();
   }
 
 }
\ No newline at end of file